@@ -0,0 +1,76 @@
+package com.bnpl.rubalv.benchmark;
+
+import com.bnpl.rubalv.config.JwtProperties;
+import com.bnpl.rubalv.security.JwtKeyRing;
+import com.bnpl.rubalv.service.JwtTokenServiceImpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenServiceBenchmark {
+    private static final String SECRET = "bZE9a4hL8m7VqKpXwRtSvY3u6x/AfTjWnOi1cJyN5d0=";
+    private static final long EXPIRATION = 86400;
+
+    private JwtTokenServiceImpl jwtTokenService;
+    private UUID customerId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(EXPIRATION);
+        jwtTokenService = new JwtTokenServiceImpl(new JwtKeyRing(jwtProperties), jwtProperties);
+        customerId = UUID.randomUUID();
+        token = jwtTokenService.generateToken(customerId);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenService.generateToken(customerId);
+    }
+
+    @Benchmark
+    public Object validateToken() {
+        return jwtTokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public String generateTokenPerCallKey() {
+        return Jwts.builder()
+                .subject(customerId.toString())
+                .claim("role", "ROLE_CUSTOMER")
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION * 1000))
+                .signWith(perCallSigningKey(), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Object validateTokenPerCallParser() {
+        return Jwts.parser()
+                .verifyWith(perCallSigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private SecretKey perCallSigningKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
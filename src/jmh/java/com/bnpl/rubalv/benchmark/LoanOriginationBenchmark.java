@@ -0,0 +1,132 @@
+package com.bnpl.rubalv.benchmark;
+
+import com.bnpl.rubalv.enums.InstallmentStatus;
+import com.bnpl.rubalv.enums.LoanStatus;
+import com.bnpl.rubalv.enums.PaymentScheme;
+import com.bnpl.rubalv.dto.projection.LoanViewRow;
+import com.bnpl.rubalv.dto.response.InstallmentResponseDto;
+import com.bnpl.rubalv.dto.response.LoanResponseDto;
+import com.bnpl.rubalv.mapper.LoanMapper;
+import com.bnpl.rubalv.model.Customer;
+import com.bnpl.rubalv.model.Installment;
+import com.bnpl.rubalv.model.Loan;
+import com.bnpl.rubalv.repository.LoanViewRepository;
+import com.bnpl.rubalv.service.InstallmentServiceImpl;
+import com.bnpl.rubalv.service.LoanCalculationHarness;
+import com.bnpl.rubalv.service.LoanViewServiceImpl;
+import com.bnpl.rubalv.strategy.PaymentSchemeStrategy;
+import com.bnpl.rubalv.utils.helpers.DateHelper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoanOriginationBenchmark {
+    private final LoanCalculationHarness loanCalculationHarness = new LoanCalculationHarness();
+    private final InstallmentServiceImpl installmentService = new InstallmentServiceImpl();
+    private final DateHelper dateHelper = new DateHelper();
+    private final PaymentSchemeStrategy paymentSchemeStrategy = new PaymentSchemeStrategy();
+    private final LoanMapper loanMapper = new LoanMapper();
+
+    private BigDecimal amount;
+    private LocalDate startDate;
+    private LocalDate today;
+    private List<LocalDate> schedule;
+    private Loan loan;
+    private Customer schemeOneCustomer;
+    private Customer schemeTwoCustomer;
+    private List<Installment> installments;
+    private LoanViewServiceImpl loanViewService;
+    private UUID customerId;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        amount = new BigDecimal("7345.67");
+        startDate = LocalDate.of(2025, 1, 15);
+        today = LocalDate.now();
+        schedule = dateHelper.generatePaymentSchedule(startDate, PaymentScheme.SCHEME_1);
+        loan = loanCalculationHarness.calculateLoanDetails(amount, PaymentScheme.SCHEME_1);
+        loan.setId(UUID.randomUUID());
+        loan.setStatus(LoanStatus.ACTIVE);
+        installments = loan.getInstallments();
+        customerId = UUID.randomUUID();
+        schemeOneCustomer = Customer.builder().firstName("Carlos").sequentialId(10L).build();
+        schemeTwoCustomer = Customer.builder().firstName("Ana").sequentialId(30L).build();
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        String viewInstallments = objectMapper.writeValueAsString(installments.stream()
+                .map(installment -> new InstallmentResponseDto(
+                        installment.getAmount(), installment.getScheduledPaymentDate(), InstallmentStatus.PENDING))
+                .toList());
+        Optional<LoanViewRow> row = Optional.of(new LoanViewRow(loan.getId(), customerId, LoanStatus.ACTIVE,
+                loan.getCommissionAmount(), OffsetDateTime.now(), viewInstallments));
+        LoanViewRepository loanViewRepository = (LoanViewRepository) Proxy.newProxyInstance(
+                LoanViewRepository.class.getClassLoader(), new Class<?>[]{LoanViewRepository.class},
+                (proxy, method, args) -> row);
+        loanViewService = new LoanViewServiceImpl(loanViewRepository, loanMapper, objectMapper);
+    }
+
+    @Benchmark
+    public Loan calculateLoanDetails() {
+        return loanCalculationHarness.calculateLoanDetails(amount, PaymentScheme.SCHEME_1);
+    }
+
+    @Benchmark
+    public List<Installment> generateInstallments() {
+        return installmentService.generateInstallments(loan, 844_752L, schedule);
+    }
+
+    @Benchmark
+    public List<LocalDate> generatePaymentSchedule() {
+        return dateHelper.generatePaymentSchedule(startDate, PaymentScheme.SCHEME_2);
+    }
+
+    @Benchmark
+    public List<LocalDate> generatePaymentScheduleFromTemplate() {
+        return dateHelper.generatePaymentSchedule(today, PaymentScheme.SCHEME_2);
+    }
+
+    @Benchmark
+    public PaymentScheme determinePaymentSchemaSchemeOne() {
+        return paymentSchemeStrategy.determinePaymentSchema(schemeOneCustomer);
+    }
+
+    @Benchmark
+    public PaymentScheme determinePaymentSchemaSchemeTwo() {
+        return paymentSchemeStrategy.determinePaymentSchema(schemeTwoCustomer);
+    }
+
+    @Benchmark
+    public LoanResponseDto toResponseDtoFromEntity() {
+        return loanMapper.toResponseDto(loan.getId(), customerId, loan.getStatus(), Instant.EPOCH,
+                loan.getCommissionAmount(), installments);
+    }
+
+    /** The GET /v1/loans/{id} read without the database: one loan_view row mapped to the response. */
+    @Benchmark
+    public Optional<LoanResponseDto> findFromLoanView() {
+        return loanViewService.find(loan.getId());
+    }
+}
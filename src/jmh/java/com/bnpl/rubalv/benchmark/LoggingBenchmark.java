@@ -0,0 +1,94 @@
+package com.bnpl.rubalv.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency seen by the calling thread for the logging setup in logback-spring.xml (async, drop under pressure)
+ * against writing straight to the file appender, plus the cost of a DEBUG statement once it is disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+    @Param({"sync", "async"})
+    private String appender;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path file;
+    private final UUID customerId = UUID.randomUUID();
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("rubalv-logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} - %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> root = fileAppender;
+        if ("async".equals(appender)) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(1638);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            root = asyncAppender;
+        }
+
+        logger = context.getLogger(LoggingBenchmark.class);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(root);
+        logger.setAdditive(false);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void info() {
+        logger.info("Credit line amount determinate for customer {} : {}", customerId, 7000);
+    }
+
+    @Benchmark
+    public void debugDisabled() {
+        logger.debug("Credit line amount determinate for customer {} : {}", customerId, 7000);
+    }
+}
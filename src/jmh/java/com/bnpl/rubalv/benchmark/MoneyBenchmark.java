@@ -0,0 +1,57 @@
+package com.bnpl.rubalv.benchmark;
+
+import com.bnpl.rubalv.enums.PaymentScheme;
+import com.bnpl.rubalv.utils.helpers.MoneyHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+    @Param({"1000", "7345.67"})
+    private String amount;
+
+    private BigDecimal amountValue;
+    private final PaymentScheme scheme = PaymentScheme.SCHEME_2;
+
+    @Setup
+    public void setUp() {
+        amountValue = new BigDecimal(amount);
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        BigDecimal commission = amountValue.multiply(scheme.getInterestRate()).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal totalAmount = amountValue.add(commission);
+        BigDecimal installmentAmount = totalAmount.divide(BigDecimal.valueOf(scheme.getNumberOfPayments()), 2, RoundingMode.HALF_UP);
+        blackhole.consume(commission);
+        blackhole.consume(totalAmount);
+        for (int i = 0; i < scheme.getNumberOfPayments(); i++) {
+            blackhole.consume(installmentAmount);
+        }
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole blackhole) {
+        long amountMinorUnits = MoneyHelper.toMinorUnits(amountValue);
+        long commission = MoneyHelper.applyRate(amountMinorUnits, scheme.getInterestRateBasisPoints());
+        long totalAmount = amountMinorUnits + commission;
+        blackhole.consume(commission);
+        blackhole.consume(totalAmount);
+        for (int i = 0; i < scheme.getNumberOfPayments(); i++) {
+            blackhole.consume(MoneyHelper.share(totalAmount, scheme.getNumberOfPayments(), i));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.bnpl.rubalv.benchmark;
+
+import com.bnpl.rubalv.config.RateLimitProperties;
+import com.bnpl.rubalv.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class RateLimiterBenchmark {
+    private static final int CLIENTS = 10_000;
+
+    private RateLimiter rateLimiter;
+    private RateLimitProperties.Route route;
+    private String[] clientKeys;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        route = new RateLimitProperties.Route();
+        route.setPath("/v1/**");
+        route.setCapacity(1_000);
+        route.setRefillPerSecond(1_000_000);
+        rateLimiter = new RateLimiter(properties);
+        clientKeys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientKeys[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return rateLimiter.tryAcquire("0", clientKeys[0], route);
+    }
+
+    @Benchmark
+    public long spreadKeys() {
+        return rateLimiter.tryAcquire("0", clientKeys[ThreadLocalRandom.current().nextInt(CLIENTS)], route);
+    }
+}
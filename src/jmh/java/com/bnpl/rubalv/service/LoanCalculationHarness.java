@@ -0,0 +1,18 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.enums.PaymentScheme;
+import com.bnpl.rubalv.model.Loan;
+import com.bnpl.rubalv.utils.helpers.DateHelper;
+
+import java.math.BigDecimal;
+
+public class LoanCalculationHarness {
+    private final LoanServiceImpl loanService = new LoanServiceImpl(
+            null, null, null, new InstallmentServiceImpl(), null, new DateHelper(), null, null, null, null);
+
+    public Loan calculateLoanDetails(BigDecimal amount, PaymentScheme scheme) {
+        Loan loan = new Loan();
+        loanService.calculateLoanDetails(loan, amount, scheme);
+        return loan;
+    }
+}
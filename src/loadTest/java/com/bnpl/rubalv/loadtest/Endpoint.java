@@ -0,0 +1,28 @@
+package com.bnpl.rubalv.loadtest;
+
+import java.util.Arrays;
+
+enum Endpoint {
+    CREATE_LOAN("createLoan", "POST /v1/loans"),
+    GET_LOAN("getLoan", "GET /v1/loans/{id}"),
+    GET_CUSTOMER("getCustomer", "GET /v1/customers/{id}");
+
+    private final String key;
+    private final String label;
+
+    Endpoint(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + key));
+    }
+}
@@ -0,0 +1,52 @@
+package com.bnpl.rubalv.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+class EndpointStats {
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, int status) {
+        latencyMicros.recordValue(Math.max(1, latencyNanos / 1_000));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void recordError(Exception error) {
+        errors.computeIfAbsent(error.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    Map<String, Object> summary(Duration elapsed) {
+        long count = latencyMicros.getTotalCount();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, counter) -> statusCounts.put(status, counter.sum()));
+        summary.put("statuses", statusCounts);
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((error, counter) -> errorCounts.put(error, counter.sum()));
+        summary.put("errors", errorCounts);
+        summary.put("throughputPerSecond", round(count / (elapsed.toMillis() / 1_000.0)));
+        summary.put("p50Millis", millis(latencyMicros.getValueAtPercentile(50)));
+        summary.put("p99Millis", millis(latencyMicros.getValueAtPercentile(99)));
+        summary.put("p999Millis", millis(latencyMicros.getValueAtPercentile(99.9)));
+        summary.put("maxMillis", millis(latencyMicros.getMaxValue()));
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,148 @@
+package com.bnpl.rubalv.loadtest;
+
+import com.bnpl.rubalv.utils.helpers.UuidV7;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Inserts the same installment shaped rows into one table keyed by random (v4) UUIDs and one keyed by UuidV7, then
+ * compares insert throughput as the tables grow and the size and buffer traffic of their primary key indexes.
+ */
+public final class KeyLayoutBenchmark {
+    private static final Map<String, Supplier<UUID>> KEY_SCHEMES = Map.of(
+            "uuid_v4", UUID::randomUUID,
+            "uuid_v7", UuidV7::next);
+    private static final BigDecimal AMOUNT = new BigDecimal("226.00");
+    private static final LocalDate DUE_DATE = LocalDate.of(2025, 1, 15);
+
+    private KeyLayoutBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        long rows = Long.getLong("keybench.rows", 10_000_000L);
+        int batchSize = Integer.getInteger("keybench.batchSize", 5_000);
+        int segments = Integer.getInteger("keybench.segments", 10);
+        String jdbcUrl = System.getProperty("keybench.jdbcUrl");
+        File reportFile = new File(System.getProperty("keybench.reportFile", "build/reports/keybench/results.json"));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        if (jdbcUrl != null && !jdbcUrl.isBlank()) {
+            run(jdbcUrl, System.getProperty("keybench.username", "postgres"), System.getProperty("keybench.password", ""),
+                    rows, batchSize, segments, report);
+        } else {
+            try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"))
+                    .withCommand("postgres", "-c", "shared_buffers=256MB", "-c", "max_wal_size=4GB")) {
+                postgres.start();
+                run(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), rows, batchSize, segments, report);
+            }
+        }
+
+        reportFile.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+        System.out.println("Key layout report written to " + reportFile.getAbsolutePath());
+    }
+
+    private static void run(String jdbcUrl, String username, String password, long rows, int batchSize, int segments,
+                            Map<String, Object> report) throws SQLException {
+        String url = jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            for (String scheme : List.of("uuid_v4", "uuid_v7")) {
+                Map<String, Object> result = insertRows(connection, scheme, KEY_SCHEMES.get(scheme), rows, batchSize, segments);
+                report.put(scheme, result);
+                System.out.printf("%-8s %12s rows %10s rows/s  pk index %8s MB  table %8s MB  pk blocks read %10s hit %12s%n",
+                        scheme, rows, result.get("rowsPerSecond"), result.get("primaryKeyIndexMb"), result.get("tableMb"),
+                        result.get("primaryKeyBlocksRead"), result.get("primaryKeyBlocksHit"));
+            }
+        }
+    }
+
+    private static Map<String, Object> insertRows(Connection connection, String table, Supplier<UUID> keys, long rows,
+                                                  int batchSize, int segments) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, loan_id UUID NOT NULL, amount NUMERIC(15,2) NOT NULL, "
+                    + "scheduled_payment_date DATE NOT NULL, status VARCHAR(20) NOT NULL, installment_number INT NOT NULL)");
+            statement.execute("CREATE INDEX " + table + "_loan_id ON " + table + "(loan_id)");
+        }
+
+        connection.setAutoCommit(false);
+        List<Long> segmentRowsPerSecond = new ArrayList<>();
+        long segmentRows = Math.max(1, rows / segments);
+        long started = System.nanoTime();
+        long segmentStarted = started;
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, loan_id, amount, scheduled_payment_date, status, installment_number) VALUES (?, ?, ?, ?, ?, ?)")) {
+            UUID loanId = keys.get();
+            for (long row = 1; row <= rows; row++) {
+                int installmentNumber = (int) ((row - 1) % 5) + 1;
+                if (installmentNumber == 1) {
+                    loanId = keys.get();
+                }
+                insert.setObject(1, keys.get());
+                insert.setObject(2, loanId);
+                insert.setBigDecimal(3, AMOUNT);
+                insert.setDate(4, Date.valueOf(DUE_DATE.plusWeeks(2L * installmentNumber)));
+                insert.setString(5, "PENDING");
+                insert.setInt(6, installmentNumber);
+                insert.addBatch();
+                if (row % batchSize == 0 || row == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if (row % segmentRows == 0) {
+                    long now = System.nanoTime();
+                    segmentRowsPerSecond.add(segmentRows * 1_000_000_000L / Math.max(1, now - segmentStarted));
+                    segmentStarted = now;
+                }
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        connection.setAutoCommit(true);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rows", rows);
+        result.put("seconds", elapsedNanos / 1_000_000_000.0);
+        result.put("rowsPerSecond", rows * 1_000_000_000L / Math.max(1, elapsedNanos));
+        result.put("segmentRowsPerSecond", segmentRowsPerSecond);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE " + table);
+            result.put("primaryKeyIndexMb", megabytes(statement, "pg_relation_size('" + table + "_pkey')"));
+            result.put("loanIdIndexMb", megabytes(statement, "pg_relation_size('" + table + "_loan_id')"));
+            result.put("tableMb", megabytes(statement, "pg_relation_size('" + table + "')"));
+            try (ResultSet io = statement.executeQuery("SELECT idx_blks_read, idx_blks_hit FROM pg_statio_user_indexes "
+                    + "WHERE indexrelname = '" + table + "_pkey'")) {
+                if (io.next()) {
+                    result.put("primaryKeyBlocksRead", io.getLong(1));
+                    result.put("primaryKeyBlocksHit", io.getLong(2));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static long megabytes(Statement statement, String sizeExpression) throws SQLException {
+        try (ResultSet size = statement.executeQuery("SELECT " + sizeExpression)) {
+            size.next();
+            return size.getLong(1) / (1024 * 1024);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.bnpl.rubalv.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load: requests are scheduled at a fixed rate and each latency is measured from its intended send time, so
+ * a slow response also charges the requests queued behind it instead of silently lowering the offered load.
+ */
+class LoadGenerator {
+    private static final int LOAN_ID_CAPACITY = 8_192;
+    private static final String[] FIRST_NAMES = {"Ana", "Carlos", "Laura", "Miguel", "Hugo", "Sofia", "Diego", "Elena"};
+    // uniform traffic does not spread loans perfectly evenly over the customers
+    private static final double CREDIT_HEADROOM = 1.25;
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final ResourceSampler resourceSampler;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Customer> customers = new ArrayList<>();
+    // hot traffic moves to the next of these customers before the current one runs out of credit
+    private final List<Customer> hotCustomers = new ArrayList<>();
+    private final AtomicLong hotLoans = new AtomicLong();
+    private long loansPerCustomer;
+    private long loansPerHotCustomer;
+    private final AtomicReferenceArray<LoanRef> loanIds = new AtomicReferenceArray<>(LOAN_ID_CAPACITY);
+    private final AtomicInteger loanCount = new AtomicInteger();
+    private final int[] cumulativeWeights;
+    private final Endpoint[] weightedEndpoints;
+
+    LoadGenerator(LoadTestConfig config, String baseUrl, ResourceSampler resourceSampler) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.resourceSampler = resourceSampler;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.weightedEndpoints = config.mix().keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[weightedEndpoints.length];
+        int total = 0;
+        for (int i = 0; i < weightedEndpoints.length; i++) {
+            total += config.mix().get(weightedEndpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Map<String, Object> run() throws Exception {
+        List<Customer> first = registerCustomers(1, false);
+        loansPerCustomer = Math.max(1, first.get(0).availableCredit()
+                .divideToIntegralValue(new BigDecimal(config.loanAmount())).longValue());
+        customers.addAll(first);
+        customers.addAll(registerCustomers(poolSize() - 1, false));
+        for (Customer customer : customers) {
+            createLoan(customer);
+        }
+        System.out.printf("Registered %d customers and %d seed loans against %s%n", customers.size(), loanCount.get(), baseUrl);
+
+        runPhase(0.0, config.warmup());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (String scenario : config.scenarios()) {
+            double hotRatio = hotRatio(scenario);
+            if (hotRatio > 0) {
+                registerHotCustomers(config.duration(), hotRatio);
+            }
+            if (resourceSampler != null) {
+                resourceSampler.start();
+            }
+            long start = System.nanoTime();
+            Map<Endpoint, EndpointStats> stats = runPhase(hotRatio, config.duration());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            stats.forEach((endpoint, endpointStats) -> endpoints.put(endpoint.label(), endpointStats.summary(elapsed)));
+            Map<String, Object> scenarioReport = new LinkedHashMap<>();
+            scenarioReport.put("endpoints", endpoints);
+            if (resourceSampler != null) {
+                scenarioReport.put("resources", resourceSampler.stop(config.threads()));
+            }
+            report.put(scenario, scenarioReport);
+        }
+        return report;
+    }
+
+    private double hotRatio(String scenario) {
+        return switch (scenario) {
+            case "uniform" -> 0.0;
+            case "hotCustomer" -> config.hotCustomerRatio();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+    }
+
+    /**
+     * At least {@code loadtest.customers}, and more when the loans the warmup and scenarios are expected to send to
+     * them would not fit in their credit, so the run keeps measuring successful registrations.
+     */
+    private int poolSize() {
+        double poolLoans = expectedLoans(config.warmup(), 1.0);
+        for (String scenario : config.scenarios()) {
+            poolLoans += expectedLoans(config.duration(), 1.0 - hotRatio(scenario));
+        }
+        // one loan per customer goes to the seed
+        long loansLeft = Math.max(1, loansPerCustomer - 1);
+        return Math.max(config.customers(), (int) Math.ceil(poolLoans * CREDIT_HEADROOM / loansLeft));
+    }
+
+    private double expectedLoans(Duration duration, double share) {
+        double createLoanShare = config.mix().getOrDefault(Endpoint.CREATE_LOAN, 0) / (double) cumulativeWeights[cumulativeWeights.length - 1];
+        return config.ratePerSecond() * duration.toSeconds() * createLoanShare * share;
+    }
+
+    private List<Customer> registerCustomers(int count, boolean hot) throws IOException, InterruptedException {
+        List<Customer> registered = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, String> body = Map.of(
+                    "firstName", FIRST_NAMES[i % FIRST_NAMES.length],
+                    "lastName", "Load",
+                    "secondLastName", "Test" + i,
+                    "dateOfBirth", LocalDate.now().minusYears(40).toString());
+            HttpResponse<String> response = httpClient.send(
+                    post("/v1/customers", objectMapper.writeValueAsString(body), null),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Customer registration failed: " + response.statusCode() + " " + response.body());
+            }
+            JsonNode customer = objectMapper.readTree(response.body());
+            String token = response.headers().firstValue("X-Auth-Token").orElseThrow();
+            registered.add(new Customer(customer.get("id").asText(), token, customer.get("availableCreditLineAmount").decimalValue(), hot));
+        }
+        return registered;
+    }
+
+    /**
+     * Registers enough customers for the loans the scenario is expected to send to its hot customer. Each one is left
+     * while the requests still in flight to it fit in its credit.
+     */
+    private void registerHotCustomers(Duration duration, double hotRatio) throws IOException, InterruptedException {
+        double expectedLoans = expectedLoans(duration, hotRatio);
+        loansPerHotCustomer = Math.max(1, loansPerCustomer - config.threads());
+        hotCustomers.clear();
+        hotCustomers.addAll(registerCustomers(Math.max(1, (int) Math.ceil(expectedLoans * CREDIT_HEADROOM / loansPerHotCustomer)), true));
+        hotLoans.set(0);
+        System.out.printf("Registered %d hot customers for about %.0f loans of %s%n", hotCustomers.size(), expectedLoans, config.loanAmount());
+    }
+
+    private Map<Endpoint, EndpointStats> runPhase(double hotRatio, Duration duration) throws InterruptedException {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : weightedEndpoints) {
+            stats.put(endpoint, new EndpointStats());
+        }
+
+        long intervalNanos = Math.max(1, 1_000_000_000L / config.ratePerSecond());
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        AtomicLong sent = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(config.threads());
+        for (int i = 0; i < config.threads(); i++) {
+            executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (true) {
+                    long intended = start + sent.getAndIncrement() * intervalNanos;
+                    if (intended >= deadline) {
+                        return;
+                    }
+                    long wait;
+                    while ((wait = intended - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+
+                    Endpoint endpoint = pickEndpoint(random);
+                    Customer customer = random.nextDouble() < hotRatio
+                            ? hotCustomer()
+                            : customers.get(random.nextInt(customers.size()));
+                    try {
+                        int status = execute(endpoint, customer);
+                        stats.get(endpoint).record(System.nanoTime() - intended, status);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        stats.get(endpoint).recordError(e);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            System.out.println("Requests were still queued 60s after the phase ended, lower loadtest.ratePerSecond");
+            executor.shutdownNow();
+        }
+        return stats;
+    }
+
+    private Endpoint pickEndpoint(ThreadLocalRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return weightedEndpoints[i];
+            }
+        }
+        return weightedEndpoints[weightedEndpoints.length - 1];
+    }
+
+    private int execute(Endpoint endpoint, Customer customer) throws IOException, InterruptedException {
+        return switch (endpoint) {
+            case CREATE_LOAN -> createLoan(customer);
+            case GET_LOAN -> getLoan();
+            case GET_CUSTOMER -> send(get("/v1/customers/" + customer.id(), customer.token())).statusCode();
+        };
+    }
+
+    private int createLoan(Customer customer) throws IOException, InterruptedException {
+        String body = "{\"customerId\":\"" + customer.id() + "\",\"amount\":" + config.loanAmount() + "}";
+        HttpResponse<String> response = send(post("/v1/loans", body, customer.token()));
+        if (response.statusCode() == 201) {
+            JsonNode loan = objectMapper.readTree(response.body());
+            int slot = loanCount.getAndIncrement() % LOAN_ID_CAPACITY;
+            loanIds.set(slot, new LoanRef(loan.get("id").asText(), customer.token()));
+            if (customer.hot()) {
+                hotLoans.incrementAndGet();
+            }
+        }
+        return response.statusCode();
+    }
+
+    private Customer hotCustomer() {
+        return hotCustomers.get((int) Math.min(hotLoans.get() / loansPerHotCustomer, hotCustomers.size() - 1));
+    }
+
+    private int getLoan() throws IOException, InterruptedException {
+        int available = Math.min(loanCount.get(), LOAN_ID_CAPACITY);
+        if (available == 0) {
+            throw new IllegalStateException("No loans available to read, check the createLoan results");
+        }
+        LoanRef loan = loanIds.get(ThreadLocalRandom.current().nextInt(available));
+        return send(get("/v1/loans/" + loan.id(), loan.token())).statusCode();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest post(String path, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private record Customer(String id, String token, BigDecimal availableCredit, boolean hot) {
+    }
+
+    private record LoanRef(String id, String token) {
+    }
+}
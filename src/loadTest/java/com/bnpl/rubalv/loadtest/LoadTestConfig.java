@@ -0,0 +1,60 @@
+package com.bnpl.rubalv.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+record LoadTestConfig(
+        String baseUrl,
+        List<String> appArgs,
+        List<String> profiles,
+        int customers,
+        int threads,
+        int ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        List<String> scenarios,
+        double hotCustomerRatio,
+        String loanAmount,
+        String reportFile
+) {
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl"),
+                split(System.getProperty("loadtest.appArgs", ""), " "),
+                split(System.getProperty("loadtest.profiles", ""), ","),
+                Integer.getInteger("loadtest.customers", 200),
+                Integer.getInteger("loadtest.threads", 32),
+                Integer.getInteger("loadtest.ratePerSecond", 500),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60L)),
+                parseMix(System.getProperty("loadtest.mix", "createLoan=20,getLoan=50,getCustomer=30")),
+                split(System.getProperty("loadtest.scenarios", "uniform,hotCustomer"), ","),
+                Double.parseDouble(System.getProperty("loadtest.hotCustomerRatio", "0.8")),
+                System.getProperty("loadtest.loanAmount", "1.00"),
+                System.getProperty("loadtest.reportFile", "build/reports/loadtest/results.json")
+        );
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for (String entry : split(value, ",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            mix.put(Endpoint.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    private static List<String> split(String value, String separator) {
+        return Arrays.stream(value.split(separator))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.bnpl.rubalv.loadtest;
+
+import com.bnpl.rubalv.RubalvApplication;
+import com.bnpl.rubalv.TestcontainersConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class LoadTestRunner {
+    private static final String DEFAULT_VARIANT = "default";
+    private static final List<String> DEFAULT_APP_ARGS = List.of(
+            "--server.port=0",
+            "--rate-limit.enabled=false",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.com.bnpl.rubalv=WARN");
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Map<String, Object> report = new LinkedHashMap<>();
+        if (config.baseUrl() != null && !config.baseUrl().isBlank()) {
+            if (!config.profiles().isEmpty()) {
+                System.out.println("loadtest.profiles is ignored when loadtest.baseUrl is set");
+            }
+            report.put(DEFAULT_VARIANT, new LoadGenerator(config, config.baseUrl(), null).run());
+        } else {
+            List<String> variants = config.profiles().isEmpty() ? List.of(DEFAULT_VARIANT) : config.profiles();
+            for (String variant : variants) {
+                report.put(variant, runEmbedded(config, variant));
+            }
+        }
+        print(report);
+        write(report, new File(config.reportFile()));
+    }
+
+    private static Map<String, Object> runEmbedded(LoadTestConfig config, String variant) throws Exception {
+        List<String> appArgs = new ArrayList<>(DEFAULT_APP_ARGS);
+        if (!DEFAULT_VARIANT.equals(variant)) {
+            appArgs.add("--spring.profiles.active=" + variant);
+        }
+        appArgs.addAll(config.appArgs());
+        System.out.printf("Starting variant %s with %s%n", variant, appArgs);
+
+        ResourceSampler resourceSampler = new ResourceSampler();
+        try (ConfigurableApplicationContext context = SpringApplication.from(RubalvApplication::main)
+                .with(TestcontainersConfiguration.class)
+                .run(appArgs.toArray(String[]::new))
+                .getApplicationContext()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            return new LoadGenerator(config, baseUrl, resourceSampler).run();
+        } finally {
+            resourceSampler.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report) {
+        String format = "%-10s %-12s %-26s %10s %10s %10s %10s %10s %10s  %s %s%n";
+        System.out.printf(format, "variant", "scenario", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "statuses", "errors");
+        report.forEach((variant, scenarios) -> ((Map<String, Map<String, Object>>) scenarios).forEach((scenario, scenarioReport) -> {
+            ((Map<String, Map<String, Object>>) scenarioReport.get("endpoints")).forEach((endpoint, summary) ->
+                    System.out.printf(format, variant, scenario, endpoint, summary.get("requests"), summary.get("throughputPerSecond"),
+                            summary.get("p50Millis"), summary.get("p99Millis"), summary.get("p999Millis"), summary.get("maxMillis"),
+                            summary.get("statuses"), summary.get("errors")));
+            if (scenarioReport.containsKey("resources")) {
+                System.out.printf("%-10s %-12s resources %s%n", variant, scenario, scenarioReport.get("resources"));
+            }
+        }));
+    }
+
+    private static void write(Map<String, Object> report, File file) throws Exception {
+        file.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("Load test report written to " + file.getAbsolutePath());
+    }
+}
@@ -0,0 +1,60 @@
+package com.bnpl.rubalv.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples heap and platform thread count of this JVM while a scenario runs. Only meaningful when the
+ * application is embedded; the generator's own threads are the same in every run, so runs stay comparable.
+ */
+class ResourceSampler {
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScheduledFuture<?> task;
+    private long baselineHeap;
+    private volatile long peakHeap;
+    private volatile int peakThreads;
+
+    void start() {
+        System.gc();
+        baselineHeap = memory.getHeapMemoryUsage().getUsed();
+        peakHeap = baselineHeap;
+        peakThreads = threads.getThreadCount();
+        task = scheduler.scheduleAtFixedRate(this::sample, 0, 50, TimeUnit.MILLISECONDS);
+    }
+
+    Map<String, Object> stop(int concurrency) {
+        task.cancel(false);
+        sample();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("baselineHeapMb", baselineHeap / BYTES_PER_MB);
+        summary.put("peakHeapMb", peakHeap / BYTES_PER_MB);
+        summary.put("peakPlatformThreads", peakThreads);
+        summary.put("heapKbPerConcurrentRequest", Math.max(0, peakHeap - baselineHeap) / 1024 / concurrency);
+        return summary;
+    }
+
+    void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+        peakThreads = Math.max(peakThreads, threads.getThreadCount());
+    }
+}
@@ -1,15 +1,35 @@
 package com.bnpl.rubalv;
 
+import com.bnpl.rubalv.config.SchedulingConfig;
+import com.bnpl.rubalv.runner.ExportRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
-@SpringBootApplication(exclude = {SecurityAutoConfiguration.class, UserDetailsServiceAutoConfiguration.class})
+import java.util.Arrays;
+
+@SpringBootApplication(exclude = {SecurityAutoConfiguration.class, UserDetailsServiceAutoConfiguration.class,
+		ManagementWebSecurityAutoConfiguration.class})
+@ConfigurationPropertiesScan
 public class RubalvApplication {
 
 	public static void main(String[] args) {
+		if (isExport(args)) {
+			System.exit(SpringApplication.exit(new SpringApplicationBuilder(RubalvApplication.class)
+					.web(WebApplicationType.NONE)
+					.properties(SchedulingConfig.ENABLED_PROPERTY + "=false")
+					.run(args)));
+		}
 		SpringApplication.run(RubalvApplication.class, args);
 	}
 
+	static boolean isExport(String[] args) {
+		return Arrays.stream(args).anyMatch(arg -> arg.startsWith("--" + ExportRunner.EXPORT_TYPE_PROPERTY + "="));
+	}
+
 }
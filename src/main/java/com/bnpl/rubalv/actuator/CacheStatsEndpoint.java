@@ -0,0 +1,51 @@
+package com.bnpl.rubalv.actuator;
+
+import com.bnpl.rubalv.dto.response.CacheStatsResponseDto;
+import com.bnpl.rubalv.security.JwtAuthenticationCache;
+import com.bnpl.rubalv.service.CreditLineCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+    static final String JWT_AUTHENTICATION_CACHE = "jwtAuthentications";
+    static final String CREDIT_LINES_CACHE = "creditLines";
+
+    private final CacheManager cacheManager;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final CreditLineCache creditLineCache;
+
+    @ReadOperation
+    public Map<String, CacheStatsResponseDto> cacheStats() {
+        Map<String, CacheStatsResponseDto> stats = new TreeMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+                stats.put(cacheName, toResponseDto(caffeineCache.estimatedSize(), caffeineCache.stats()));
+            }
+        }
+        stats.put(JWT_AUTHENTICATION_CACHE, toResponseDto(jwtAuthenticationCache.estimatedSize(), jwtAuthenticationCache.stats()));
+        stats.put(CREDIT_LINES_CACHE, toResponseDto(creditLineCache.estimatedSize(), creditLineCache.stats()));
+        return stats;
+    }
+
+    private CacheStatsResponseDto toResponseDto(long size, CacheStats cacheStats) {
+        return new CacheStatsResponseDto(
+                size,
+                cacheStats.hitCount(),
+                cacheStats.missCount(),
+                cacheStats.hitRate(),
+                cacheStats.evictionCount()
+        );
+    }
+}
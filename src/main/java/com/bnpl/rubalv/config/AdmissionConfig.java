@@ -0,0 +1,43 @@
+package com.bnpl.rubalv.config;
+
+import com.bnpl.rubalv.filter.AdmissionFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "admission", name = "enabled", havingValue = "true")
+public class AdmissionConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionFilter> admissionFilterRegistration(AdmissionProperties admissionProperties,
+                                                                               DataSource dataSource,
+                                                                               @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+                                                                               MeterRegistry meterRegistry) throws SQLException {
+        int maxConcurrent = maxConcurrent(admissionProperties, dataSource);
+        log.info("Admission gate enabled for {} with {} permits", admissionProperties.getPaths(), maxConcurrent);
+        // default order runs after the security chain, so rejected credentials never hold a permit
+        return new FilterRegistrationBean<>(
+                new AdmissionFilter(admissionProperties, maxConcurrent, handlerExceptionResolver, meterRegistry));
+    }
+
+    private int maxConcurrent(AdmissionProperties admissionProperties, DataSource dataSource) throws SQLException {
+        if (admissionProperties.getMaxConcurrent() > 0) {
+            return admissionProperties.getMaxConcurrent();
+        }
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            throw new IllegalStateException("admission.max-concurrent is required when the data source is not Hikari");
+        }
+        return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,20 @@
+package com.bnpl.rubalv.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+    private boolean enabled = false;
+    /** Requests allowed to run at once; 0 uses the Hikari maximum pool size. */
+    private int maxConcurrent = 0;
+    private Duration acquireTimeout = Duration.ofSeconds(1);
+    private List<String> paths = new ArrayList<>(List.of("/v1/customers/**", "/v1/loans/**"));
+}
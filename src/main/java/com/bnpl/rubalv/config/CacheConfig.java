@@ -0,0 +1,40 @@
+package com.bnpl.rubalv.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String CUSTOMERS_CACHE = "customers";
+    public static final String IDEMPOTENCY_KEYS_CACHE = "idempotencyKeys";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.customers.maximum-size:10000}") long customersMaximumSize,
+            @Value("${cache.customers.ttl-seconds:30}") long customersTtlSeconds,
+            @Value("${cache.idempotency-keys.maximum-size:10000}") long idempotencyKeysMaximumSize,
+            @Value("${cache.idempotency-keys.ttl-seconds:600}") long idempotencyKeysTtlSeconds
+    ) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.registerCustomCache(CUSTOMERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(customersMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(customersTtlSeconds))
+                .recordStats()
+                .build());
+        caffeineCacheManager.registerCustomCache(IDEMPOTENCY_KEYS_CACHE, Caffeine.newBuilder()
+                .maximumSize(idempotencyKeysMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(idempotencyKeysTtlSeconds))
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
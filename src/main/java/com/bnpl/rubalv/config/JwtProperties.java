@@ -0,0 +1,39 @@
+package com.bnpl.rubalv.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private String secret;
+    private long expiration = 86400;
+    private String activeKeyId = DEFAULT_KEY_ID;
+    private Map<String, String> keys = new LinkedHashMap<>();
+    private String keyFile;
+    /** Operator client ids mapped to their secrets, encoded as {@code {bcrypt}...} (or {@code {noop}...} for local use). */
+    private Map<String, String> operators = new LinkedHashMap<>();
+    private Cache cache = new Cache();
+
+    public Map<String, String> getSigningKeys() {
+        Map<String, String> signingKeys = new LinkedHashMap<>();
+        if (secret != null && !secret.isBlank()) {
+            signingKeys.put(DEFAULT_KEY_ID, secret);
+        }
+        signingKeys.putAll(keys);
+        return signingKeys;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private long maximumSize = 10_000;
+    }
+}
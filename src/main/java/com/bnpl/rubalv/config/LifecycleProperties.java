@@ -0,0 +1,20 @@
+package com.bnpl.rubalv.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.ZoneId;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lifecycle")
+public class LifecycleProperties {
+    private boolean enabled = true;
+    /** Time zone that decides the business date an installment becomes overdue. */
+    private ZoneId zone = ZoneId.of("UTC");
+    /** Loan id ranges processed in parallel, one thread each. */
+    private int partitions = 4;
+    /** Loans per transaction. */
+    private int chunkSize = 1000;
+}
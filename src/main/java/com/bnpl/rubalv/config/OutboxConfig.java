@@ -0,0 +1,31 @@
+package com.bnpl.rubalv.config;
+
+import com.bnpl.rubalv.outbox.InMemoryOutboxSink;
+import com.bnpl.rubalv.outbox.NdjsonFileOutboxSink;
+import com.bnpl.rubalv.outbox.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(prefix = "outbox", name = "sink", havingValue = "file", matchIfMissing = true)
+    public OutboxSink ndjsonFileOutboxSink(OutboxProperties outboxProperties, ObjectMapper objectMapper) {
+        log.info("Outbox events are published to {}", outboxProperties.getFile().toAbsolutePath());
+        return new NdjsonFileOutboxSink(objectMapper, outboxProperties.getFile());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(prefix = "outbox", name = "sink", havingValue = "memory")
+    public InMemoryOutboxSink inMemoryOutboxSink() {
+        return new InMemoryOutboxSink();
+    }
+}
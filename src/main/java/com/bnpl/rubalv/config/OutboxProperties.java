@@ -0,0 +1,27 @@
+package com.bnpl.rubalv.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+    /** {@code file} appends NDJSON to {@link #file}, {@code memory} keeps events in the process. */
+    private String sink = "file";
+    private Path file = Path.of("outbox/events.ndjson");
+    private Relay relay = new Relay();
+
+    @Getter
+    @Setter
+    public static class Relay {
+        private boolean enabled = true;
+        /** Events locked, published and deleted per transaction. */
+        private int batchSize = 500;
+        /** Upper bound of batches drained per run, so one instance cannot hold the scheduler indefinitely. */
+        private int maxBatchesPerRun = 100;
+    }
+}
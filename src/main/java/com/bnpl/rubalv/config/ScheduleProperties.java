@@ -0,0 +1,13 @@
+package com.bnpl.rubalv.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "schedule")
+public class ScheduleProperties {
+    /** Holiday calendar for business day adjusted schemes: one ISO date per line, lines starting with # are ignored. */
+    private String holidaysFile;
+}
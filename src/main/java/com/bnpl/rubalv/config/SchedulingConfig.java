@@ -0,0 +1,16 @@
+package com.bnpl.rubalv.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} jobs (outbox relay, installment lifecycle, idempotency purge, key and calendar reloads,
+ * rate limiter eviction). The one-shot export mode turns it off so a CLI run never relays events or moves loans.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+    public static final String ENABLED_PROPERTY = "scheduling.enabled";
+}
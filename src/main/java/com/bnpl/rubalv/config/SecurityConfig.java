@@ -2,6 +2,11 @@ package com.bnpl.rubalv.config;
 
 import com.bnpl.rubalv.entrypoint.JwtAuthenticationEntryPoint;
 import com.bnpl.rubalv.filter.JwtAuthenticationFilter;
+import com.bnpl.rubalv.filter.RateLimitFilter;
+import com.bnpl.rubalv.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -12,10 +17,12 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 @Configuration
 @EnableWebSecurity
 @Profile("!test")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
@@ -24,7 +31,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, RateLimitFilter rateLimitFilter) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth ->
@@ -33,18 +40,25 @@ public class SecurityConfig {
                                         "/v3/api-docs/**",
                                         "/swagger-ui.html",
                                         "swagger-ui",
-                                        "/error"
+                                        "/error",
+                                        "/actuator/health"
                                 ).permitAll()
+                                .requestMatchers("/actuator/cachestats", "/actuator/prometheus").hasRole("OPERATOR")
                                 .requestMatchers(HttpMethod.POST, "/v1/customers").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/v1/operators/token").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/v1/customers:batch").hasRole("OPERATOR")
                                 .requestMatchers(HttpMethod.GET, "/v1/customers/**").hasRole("CUSTOMER")
                                 .requestMatchers("/v1/loans/**").hasRole("CUSTOMER")
+                                .requestMatchers("/v1/exports/**").hasRole("OPERATOR")
+                                .requestMatchers(HttpMethod.POST, "/v1/payments", "/v1/payments:batch").hasRole("OPERATOR")
                                 .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .exceptionHandling(exceptions -> exceptions
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                 )
-                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -53,4 +67,18 @@ public class SecurityConfig {
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter();
     }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimiter rateLimiter,
+                                           RateLimitProperties rateLimitProperties,
+                                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        return new RateLimitFilter(rateLimiter, rateLimitProperties, handlerExceptionResolver);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
 }
@@ -0,0 +1,80 @@
+package com.bnpl.rubalv.controller;
+
+import com.bnpl.rubalv.dto.request.CreateCustomerRequestDto;
+import com.bnpl.rubalv.dto.response.CustomerBatchItemResult;
+import com.bnpl.rubalv.service.CustomerBatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+@Tag(name = "Customers", description = "Manage customers")
+public class CustomerBatchController {
+    private final CustomerBatchService customerBatchService;
+
+    @Operation(
+            summary = "Create customers in bulk",
+            description = "Accepts a JSON array or an NDJSON stream of customer requests and streams back one NDJSON result per item. " +
+                    "Rejected items are reported as soon as they are read, accepted items once their chunk is persisted, so results are matched by `index`.",
+            operationId = "createCustomers",
+            security = @SecurityRequirement(name = "aplazoAuth"),
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Customer requests",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = CreateCustomerRequestDto.class))
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = CreateCustomerRequestDto.class)
+                            )
+                    },
+                    required = true
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per item results",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = CustomerBatchItemResult.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    ref = "#/components/responses/UnauthorizedRequest"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    ref = "#/components/responses/InternalServerErrorResponse"
+            )
+    })
+    @PostMapping(
+            path = "/customers:batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void createCustomers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        customerBatchService.registerCustomers(request.getInputStream(), response.getOutputStream());
+    }
+}
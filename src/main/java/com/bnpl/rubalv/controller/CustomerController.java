@@ -4,7 +4,10 @@ import com.bnpl.rubalv.dto.request.CreateCustomerRequestDto;
 import com.bnpl.rubalv.exception.ErrorResponse;
 import com.bnpl.rubalv.dto.response.CustomerRegistrationResult;
 import com.bnpl.rubalv.dto.response.CustomerResponseDto;
+import com.bnpl.rubalv.dto.response.LoanPageResponseDto;
+import com.bnpl.rubalv.enums.LoanStatus;
 import com.bnpl.rubalv.service.CustomerService;
+import com.bnpl.rubalv.service.LoanService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -32,6 +35,7 @@ import java.util.UUID;
 @Tag(name = "Customers", description = "Manage customers")
 public class CustomerController {
     private final CustomerService customerService;
+    private final LoanService loanService;
 
     @Operation(
             summary = "Create a customer",
@@ -213,4 +217,86 @@ public class CustomerController {
             @PathVariable("customerId") UUID customerId) {
         return ResponseEntity.ok(customerService.getCustomerById(customerId));
     }
+
+    @Operation(
+            summary = "List loans of customer identified by `customerId`",
+            operationId = "getCustomerLoans",
+            parameters = {
+                    @Parameter(
+                            name = "customerId",
+                            in = ParameterIn.PATH,
+                            description = "Customer's unique identifier",
+                            required = true,
+                            schema = @Schema(type = "string", format = "uuid")
+                    ),
+                    @Parameter(
+                            name = "status",
+                            in = ParameterIn.QUERY,
+                            description = "Only loans in this status",
+                            schema = @Schema(implementation = LoanStatus.class)
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "`nextCursor` of the previous page, omitted for the first page",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Page size",
+                            schema = @Schema(type = "integer", minimum = "1", maximum = "100", defaultValue = "20")
+                    )
+            },
+            security = @SecurityRequirement(name = "aplazoAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Ok",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = LoanPageResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    ref = "#/components/responses/InvalidRequest"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    ref = "#/components/responses/UnauthorizedRequest"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Customer not found response",
+                                    value = """
+                                    {
+                                      "code": "APZ000005",
+                                      "error": "CUSTOMER_NOT_FOUND",
+                                      "timestamp": 1739397485,
+                                      "message": "Error detail",
+                                      "path": "/v1/customers/{customerId}/loans"
+                                    }"""
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    ref = "#/components/responses/InternalServerErrorResponse"
+            )
+    })
+    @GetMapping("/{customerId}/loans")
+    public ResponseEntity<LoanPageResponseDto> getCustomerLoans(
+            @PathVariable("customerId") UUID customerId,
+            @RequestParam(value = "status", required = false) LoanStatus status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(loanService.getCustomerLoans(customerId, status, cursor, limit));
+    }
 }
@@ -0,0 +1,94 @@
+package com.bnpl.rubalv.controller;
+
+import com.bnpl.rubalv.dto.projection.InstallmentExportRow;
+import com.bnpl.rubalv.dto.projection.LoanExportRow;
+import com.bnpl.rubalv.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+@RestController
+@RequestMapping("/v1/exports")
+@RequiredArgsConstructor
+@Tag(name = "Exports", description = "Reconciliation dumps")
+public class ExportController {
+    private final ExportService exportService;
+
+    @Operation(
+            summary = "Export loans as NDJSON",
+            description = "Streams every loan created in `[from, to)` ordered by creation time. `to` defaults to the request time.",
+            operationId = "exportLoans",
+            security = @SecurityRequirement(name = "aplazoAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Ok",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = LoanExportRow.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    ref = "#/components/responses/UnauthorizedRequest"
+            )
+    })
+    @GetMapping(path = "/loans", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportLoans(
+            @Parameter(description = "Inclusive lower bound of the loan creation time")
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @Parameter(description = "Exclusive upper bound of the loan creation time")
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        exportService.exportLoans(from, to, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Export installments as NDJSON",
+            description = "Streams the installments of every loan created in `[from, to)` ordered by loan creation time and installment number.",
+            operationId = "exportInstallments",
+            security = @SecurityRequirement(name = "aplazoAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Ok",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = InstallmentExportRow.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    ref = "#/components/responses/UnauthorizedRequest"
+            )
+    })
+    @GetMapping(path = "/installments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportInstallments(
+            @Parameter(description = "Inclusive lower bound of the loan creation time")
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @Parameter(description = "Exclusive upper bound of the loan creation time")
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        exportService.exportInstallments(from, to, response.getOutputStream());
+    }
+}
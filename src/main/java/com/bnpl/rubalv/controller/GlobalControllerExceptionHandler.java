@@ -1,9 +1,12 @@
 package com.bnpl.rubalv.controller;
 
 import com.bnpl.rubalv.exception.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,8 +20,10 @@ import java.time.Instant;
 import java.util.List;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalControllerExceptionHandler {
+    private final MeterRegistry meterRegistry;
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
@@ -29,39 +34,27 @@ public class GlobalControllerExceptionHandler {
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
                 .toList();
 
-        return ErrorResponse.builder()
-                .code("APZ000002")
-                .error("INVALID_CUSTOMER_REQUEST")
-                .message("Validation errors: " + errors)
-                .timestamp(Instant.now().getEpochSecond())
-                .path(getRequestPath(request))
-                .build();
+        return buildErrorResponse("APZ000002", "INVALID_CUSTOMER_REQUEST", "Validation errors: " + errors, request);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
         log.error("Invalid input: {}", ex.getMessage(), ex);
-        return ErrorResponse.builder()
-                .code("APZ000004")
-                .error("INVALID_REQUEST")
-                .message(ex.getMessage())
-                .timestamp(Instant.now().getEpochSecond())
-                .path(getRequestPath(request))
-                .build();
+        return buildErrorResponse("APZ000004", "INVALID_REQUEST", ex.getMessage(), request);
     }
 
     @ExceptionHandler(InsufficientCreditException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleInsufficientCredit(InsufficientCreditException ex, WebRequest request) {
         log.error("Insufficient credit: {}", ex.getMessage(), ex);
-        return ErrorResponse.builder()
-                .code("APZ000009")
-                .error("INSUFFICIENT_CREDIT")
-                .message(ex.getMessage())
-                .timestamp(Instant.now().getEpochSecond())
-                .path(getRequestPath(request))
-                .build();
+        return buildErrorResponse("APZ000009", "INSUFFICIENT_CREDIT", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ErrorResponse handleIdempotencyKeyReused(IdempotencyKeyReusedException ex, WebRequest request) {
+        return buildErrorResponse("APZ000011", "IDEMPOTENCY_KEY_REUSED", ex.getMessage(), request);
     }
 
     @ExceptionHandler(CustomerNotFoundException.class)
@@ -72,13 +65,7 @@ public class GlobalControllerExceptionHandler {
         String errorCode = "APZ000005";
         String errorType = "CUSTOMER_NOT_FOUND";
 
-        return ErrorResponse.builder()
-                .code(errorCode)
-                .error(errorType)
-                .message(ex.getMessage())
-                .timestamp(Instant.now().getEpochSecond())
-                .path(getRequestPath(request))
-                .build();
+        return buildErrorResponse(errorCode, errorType, ex.getMessage(), request);
     }
 
     @ExceptionHandler(LoanNotFoundException.class)
@@ -89,71 +76,85 @@ public class GlobalControllerExceptionHandler {
         String errorCode = "APZ000008";
         String errorType = "LOAN_NOT_FOUND";
 
-        return ErrorResponse.builder()
-                .code(errorCode)
-                .error(errorType)
-                .message(ex.getMessage())
-                .timestamp(Instant.now().getEpochSecond())
-                .path(getRequestPath(request))
-                .build();
+        return buildErrorResponse(errorCode, errorType, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InstallmentNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleInstallmentNotFound(InstallmentNotFoundException ex, WebRequest request) {
+        log.error("Installment not found: {}", ex.getMessage(), ex);
+        return buildErrorResponse("APZ000012", "INSTALLMENT_NOT_FOUND", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(PaymentConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handlePaymentConflict(PaymentConflictException ex, WebRequest request) {
+        return buildErrorResponse("APZ000013", "PAYMENT_CONFLICT", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(CreditRestoreConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleCreditRestoreConflict(CreditRestoreConflictException ex, WebRequest request) {
+        log.warn("Credit restore conflict: {}", ex.getMessage());
+        return buildErrorResponse("APZ000016", "CREDIT_RESTORE_CONFLICT", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleOptimisticLockingFailure(OptimisticLockingFailureException ex, WebRequest request) {
+        log.warn("Concurrent update: {}", ex.getMessage());
+        return buildErrorResponse("APZ000014", "CONCURRENT_UPDATE", "The resource was updated concurrently, retry the request", request);
     }
 
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleGenericException(Exception ex, WebRequest request) {
         log.error("Internal error: {}", ex.getMessage(), ex);
-        return ErrorResponse.builder()
-                .code("APZ000001")
-                .error("INTERNAL_SERVER_ERROR")
-                .message("Internal server error")
-                .timestamp(Instant.now().getEpochSecond())
-                .path(getRequestPath(request))
-                .build();
+        return buildErrorResponse("APZ000001", "INTERNAL_SERVER_ERROR", "Internal server error", request);
     }
 
     @ExceptionHandler(TooManyRequestsException.class)
     @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
     public ErrorResponse handleTooManyRequests(TooManyRequestsException ex, WebRequest request) {
-        return ErrorResponse.builder()
-                .code("APZ000003")
-                .error("RATE_LIMIT_ERROR")
-                .message(ex.getMessage())
-                .timestamp(Instant.now().getEpochSecond())
-                .path(getRequestPath(request))
-                .build();
+        return buildErrorResponse("APZ000003", "RATE_LIMIT_ERROR", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleServiceUnavailable(ServiceUnavailableException ex, WebRequest request) {
+        return buildErrorResponse("APZ000010", "SERVICE_UNAVAILABLE", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidCredentialsException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public ErrorResponse handleInvalidCredentials(InvalidCredentialsException ex, WebRequest request) {
+        return buildErrorResponse("APZ000015", "INVALID_CREDENTIALS", ex.getMessage(), request);
     }
 
     @ExceptionHandler(AccessDeniedException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public ErrorResponse handleAccessDenied(AccessDeniedException ex, WebRequest request) {
-        return ErrorResponse.builder()
-                .code("APZ000007")
-                .error("UNAUTHORIZED")
-                .message("Missing or invalid authentication token")
-                .timestamp(Instant.now().getEpochSecond())
-                .path(getRequestPath(request))
-                .build();
+        return buildErrorResponse("APZ000007", "UNAUTHORIZED", "Missing or invalid authentication token", request);
     }
 
     @ExceptionHandler(ConversionFailedException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleConversionErrors(ConversionFailedException ex, WebRequest request) {
-        return ErrorResponse.builder()
-                .code("APZ000004")
-                .error("INVALID_REQUEST")
-                .message("Invalid UUID format")
-                .timestamp(Instant.now().getEpochSecond())
-                .path(getRequestPath(request))
-                .build();
+        return buildErrorResponse("APZ000004", "INVALID_REQUEST", "Invalid UUID format", request);
     }
 
     @ExceptionHandler(ClientWithoutCreditLineException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleNotCreditLine(ClientWithoutCreditLineException ex, WebRequest request){
+        return buildErrorResponse("APZ000004", "INVALID_REQUEST", ex.getMessage(), request);
+    }
+
+    private ErrorResponse buildErrorResponse(String code, String error, String message, WebRequest request) {
+        meterRegistry.counter("rubalv.errors", "code", code, "error", error).increment();
         return ErrorResponse.builder()
-                .code("APZ000004")
-                .error("INVALID_REQUEST")
-                .message(ex.getMessage())
+                .code(code)
+                .error(error)
+                .message(message)
                 .timestamp(Instant.now().getEpochSecond())
                 .path(getRequestPath(request))
                 .build();
@@ -35,6 +35,12 @@ public class LoanController {
     @Operation(
             summary = "Create a loan",
             operationId = "createLoan",
+            parameters = @Parameter(
+                    name = "Idempotency-Key",
+                    in = ParameterIn.HEADER,
+                    description = "Client generated key. Retries with the same key and body return the loan created by the first request",
+                    schema = @Schema(type = "string", maxLength = 255)
+            ),
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Loan request",
                     required = true,
@@ -87,6 +93,24 @@ public class LoanController {
             ), @ApiResponse(
                     responseCode = "401",
                     ref = "#/components/responses/UnauthorizedRequest"
+            ), @ApiResponse(
+                    responseCode = "422",
+                    description = "Idempotency-Key already used with a different request",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Idempotency key reused",
+                                    value = """
+                                        {
+                                          "code": "APZ000011",
+                                          "error": "IDEMPOTENCY_KEY_REUSED",
+                                          "timestamp": 1739397485,
+                                          "message": "Error detail",
+                                          "path": "/v1/loans"
+                                        }"""
+                                    )
+                    )
             ),
             @ApiResponse(
                     responseCode = "500",
@@ -96,9 +120,10 @@ public class LoanController {
     @PostMapping
     public ResponseEntity<LoanResponseDto> createLoan(
             @Valid
-            @RequestBody LoanRequestDto loanRequestDto
+            @RequestBody LoanRequestDto loanRequestDto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ){
-        LoanResponseDto response = loanService.registerLoan(loanRequestDto);
+        LoanResponseDto response = loanService.registerLoan(loanRequestDto, idempotencyKey);
         URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{loanId}").buildAndExpand(response.getId()).toUri();
         return ResponseEntity.created(location).body(response);
     }
@@ -0,0 +1,59 @@
+package com.bnpl.rubalv.controller;
+
+import com.bnpl.rubalv.dto.request.OperatorTokenRequestDto;
+import com.bnpl.rubalv.service.OperatorTokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/operators")
+@RequiredArgsConstructor
+@Tag(name = "Operators", description = "Back-office access")
+public class OperatorTokenController {
+    private final OperatorTokenService operatorTokenService;
+
+    @Operation(
+            summary = "Issue an operator token",
+            description = "Exchanges the credentials of a client configured under `jwt.operators` for a bearer token with the `OPERATOR` role.",
+            operationId = "issueOperatorToken"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Ok",
+                    headers = @Header(
+                            name = "X-Auth-Token",
+                            schema = @Schema(type = "string", format = "base64", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    ref = "#/components/responses/UnauthorizedRequest"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    ref = "#/components/responses/InternalServerErrorResponse"
+            )
+    })
+    @PostMapping("/token")
+    public ResponseEntity<Void> issueToken(
+            @Valid
+            @RequestBody OperatorTokenRequestDto operatorTokenRequestDto
+    ){
+        String token = operatorTokenService.issueToken(operatorTokenRequestDto.getClientId(), operatorTokenRequestDto.getClientSecret());
+        return ResponseEntity.ok()
+                .header("X-Auth-Token", token)
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.bnpl.rubalv.controller;
+
+import com.bnpl.rubalv.dto.request.PaymentRequestDto;
+import com.bnpl.rubalv.dto.response.PaymentBatchItemResult;
+import com.bnpl.rubalv.dto.response.PaymentResponseDto;
+import com.bnpl.rubalv.exception.ErrorResponse;
+import com.bnpl.rubalv.service.PaymentBatchService;
+import com.bnpl.rubalv.service.PaymentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+@Tag(name = "Payments", description = "Record installment payments")
+@SecurityRequirement(name = "aplazoAuth")
+public class PaymentController {
+    private final PaymentService paymentService;
+    private final PaymentBatchService paymentBatchService;
+
+    @Operation(
+            summary = "Record an installment payment",
+            description = "Marks the installment paid and restores its principal to the customer's available credit. " +
+                    "Sending a recorded `reference` again returns the recorded payment without applying it twice.",
+            operationId = "createPayment",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Payment",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PaymentRequestDto.class),
+                            examples = @ExampleObject(
+                                    name = "Simple request",
+                                    value = """
+                                        {
+                                            "loanId": "3fa85f64-5717-4562-b3fc-2c963f66afa7",
+                                            "installmentNumber": 1,
+                                            "amount": 90.57,
+                                            "reference": "SPEI-20250301-000123"
+                                        }
+                                    """
+                            )
+                    )
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Ok",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaymentResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    ref = "#/components/responses/InvalidRequest"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    ref = "#/components/responses/UnauthorizedRequest"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Installment not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Installment not found",
+                                    value = """
+                                        {
+                                          "code": "APZ000012",
+                                          "error": "INSTALLMENT_NOT_FOUND",
+                                          "timestamp": 1739397485,
+                                          "message": "Error detail",
+                                          "path": "/v1/payments"
+                                        }"""
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Installment already paid or reference used for another payment",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Payment conflict",
+                                    value = """
+                                        {
+                                          "code": "APZ000013",
+                                          "error": "PAYMENT_CONFLICT",
+                                          "timestamp": 1739397485,
+                                          "message": "Error detail",
+                                          "path": "/v1/payments"
+                                        }"""
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    ref = "#/components/responses/InternalServerErrorResponse"
+            )
+    })
+    @PostMapping("/payments")
+    public ResponseEntity<PaymentResponseDto> createPayment(@Valid @RequestBody PaymentRequestDto paymentRequestDto) {
+        return ResponseEntity.ok(paymentService.registerPayment(paymentRequestDto));
+    }
+
+    @Operation(
+            summary = "Record installment payments in bulk",
+            description = "Accepts a JSON array or an NDJSON settlement file and streams back one NDJSON result per item. " +
+                    "Items are settled in chunks, each in its own transaction, and results are matched by `index`.",
+            operationId = "createPayments",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Payments",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = PaymentRequestDto.class))
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = PaymentRequestDto.class)
+                            )
+                    },
+                    required = true
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per item results",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = PaymentBatchItemResult.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    ref = "#/components/responses/UnauthorizedRequest"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    ref = "#/components/responses/InternalServerErrorResponse"
+            )
+    })
+    @PostMapping(
+            path = "/payments:batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void createPayments(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        paymentBatchService.registerPayments(request.getInputStream(), response.getOutputStream());
+    }
+}
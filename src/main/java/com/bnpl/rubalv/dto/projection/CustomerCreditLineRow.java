@@ -0,0 +1,15 @@
+package com.bnpl.rubalv.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * What loan origination needs from a customer and their active credit line; {@code creditLineId} is null when the
+ * customer has no active credit line.
+ */
+public record CustomerCreditLineRow(
+        UUID customerId,
+        String firstName,
+        Long sequentialId,
+        UUID creditLineId
+) {
+}
@@ -0,0 +1,17 @@
+package com.bnpl.rubalv.dto.projection;
+
+import com.bnpl.rubalv.enums.InstallmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record InstallmentExportRow(
+        UUID id,
+        UUID loanId,
+        int installmentNumber,
+        BigDecimal amount,
+        LocalDate scheduledPaymentDate,
+        InstallmentStatus status
+) {
+}
@@ -0,0 +1,15 @@
+package com.bnpl.rubalv.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record InstallmentPaymentRow(
+        UUID paymentId,
+        String reference,
+        UUID loanId,
+        int installmentNumber,
+        BigDecimal amount,
+        OffsetDateTime paidAt
+) {
+}
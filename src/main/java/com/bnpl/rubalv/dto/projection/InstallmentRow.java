@@ -0,0 +1,15 @@
+package com.bnpl.rubalv.dto.projection;
+
+import com.bnpl.rubalv.enums.InstallmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record InstallmentRow(
+        UUID loanId,
+        BigDecimal amount,
+        LocalDate scheduledPaymentDate,
+        InstallmentStatus status
+) {
+}
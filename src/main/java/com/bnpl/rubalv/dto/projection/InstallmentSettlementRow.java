@@ -0,0 +1,18 @@
+package com.bnpl.rubalv.dto.projection;
+
+import com.bnpl.rubalv.enums.InstallmentStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record InstallmentSettlementRow(
+        UUID installmentId,
+        UUID loanId,
+        int installmentNumber,
+        BigDecimal amount,
+        InstallmentStatus status,
+        BigDecimal loanAmount,
+        UUID creditLineId,
+        UUID customerId
+) {
+}
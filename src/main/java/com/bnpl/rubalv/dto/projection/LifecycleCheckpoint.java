@@ -0,0 +1,10 @@
+package com.bnpl.rubalv.dto.projection;
+
+import java.util.UUID;
+
+public record LifecycleCheckpoint(
+        int partition,
+        UUID lastLoanId,
+        UUID upperBound
+) {
+}
@@ -0,0 +1,20 @@
+package com.bnpl.rubalv.dto.projection;
+
+public record LifecycleTransitions(
+        long chunks,
+        long installmentsMarkedNext,
+        long loansCompleted,
+        long loansMarkedLate,
+        long loansReactivated
+) {
+    public static final LifecycleTransitions NONE = new LifecycleTransitions(0, 0, 0, 0, 0);
+
+    public LifecycleTransitions plus(LifecycleTransitions other) {
+        return new LifecycleTransitions(
+                chunks + other.chunks,
+                installmentsMarkedNext + other.installmentsMarkedNext,
+                loansCompleted + other.loansCompleted,
+                loansMarkedLate + other.loansMarkedLate,
+                loansReactivated + other.loansReactivated);
+    }
+}
@@ -0,0 +1,24 @@
+package com.bnpl.rubalv.dto.projection;
+
+import com.bnpl.rubalv.enums.LoanStatus;
+import com.bnpl.rubalv.enums.PaymentScheme;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record LoanExportRow(
+        UUID id,
+        UUID creditLineId,
+        UUID customerId,
+        BigDecimal amount,
+        BigDecimal totalAmount,
+        LoanStatus status,
+        PaymentScheme paymentScheme,
+        BigDecimal interestRate,
+        BigDecimal commissionAmount,
+        LocalDate purchaseDate,
+        OffsetDateTime createdAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.bnpl.rubalv.dto.projection;
+
+import com.bnpl.rubalv.enums.LoanStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record LoanSummaryRow(
+        UUID loanId,
+        LoanStatus status,
+        OffsetDateTime createdAt,
+        BigDecimal commissionAmount
+) {
+}
@@ -0,0 +1,17 @@
+package com.bnpl.rubalv.dto.projection;
+
+import com.bnpl.rubalv.enums.LoanStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record LoanViewRow(
+        UUID loanId,
+        UUID customerId,
+        LoanStatus status,
+        BigDecimal commissionAmount,
+        OffsetDateTime createdAt,
+        String installments
+) {
+}
@@ -0,0 +1,20 @@
+package com.bnpl.rubalv.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperatorTokenRequestDto {
+    @Schema(description = "Operator client id configured under jwt.operators", example = "back-office")
+    @NotBlank
+    private String clientId;
+
+    @Schema(description = "Secret of the operator client")
+    @NotBlank
+    private String clientSecret;
+}
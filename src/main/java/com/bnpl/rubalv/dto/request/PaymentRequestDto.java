@@ -0,0 +1,44 @@
+package com.bnpl.rubalv.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentRequestDto {
+    @Schema(description = "Loan the installment belongs to", format = "uuid")
+    @NotNull
+    private UUID loanId;
+
+    @Schema(description = "Installment number within the loan", minimum = "1", maximum = "5")
+    @NotNull
+    @Min(1)
+    @Max(5)
+    private Integer installmentNumber;
+
+    @Schema(description = "Paid amount, must equal the installment amount", minimum = "0", exclusiveMinimum = true)
+    @NotNull
+    @Positive
+    private BigDecimal amount;
+
+    @Schema(description = "Unique payment reference from the provider or settlement file", example = "SPEI-20250301-000123")
+    @NotBlank
+    @Size(max = 100)
+    private String reference;
+
+    @Schema(description = "When the payment was made, defaults to the time it is recorded")
+    private OffsetDateTime paidAt;
+}
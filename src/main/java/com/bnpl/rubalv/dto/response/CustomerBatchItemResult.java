@@ -0,0 +1,38 @@
+package com.bnpl.rubalv.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerBatchItemResult {
+    @Schema(description = "Zero based position of the item in the request stream")
+    private long index;
+
+    @Schema(description = "Created customer's unique identifier")
+    private UUID id;
+
+    @Schema(description = "JWT issued for the created customer")
+    private String token;
+
+    @Schema(description = "Error code when the item was rejected", example = "APZ000002")
+    private String code;
+
+    @Schema(description = "Error detail when the item was rejected")
+    private String message;
+
+    public static CustomerBatchItemResult created(long index, UUID id, String token) {
+        return new CustomerBatchItemResult(index, id, token, null, null);
+    }
+
+    public static CustomerBatchItemResult rejected(long index, String code, String message) {
+        return new CustomerBatchItemResult(index, null, null, code, message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bnpl.rubalv.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanPageResponseDto {
+    @Schema(description = "Loans of the page, newest first")
+    private List<LoanResponseDto> loans;
+
+    @Schema(description = "Opaque cursor for the next page, absent on the last page", nullable = true)
+    private String nextCursor;
+}
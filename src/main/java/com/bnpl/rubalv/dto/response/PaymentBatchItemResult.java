@@ -0,0 +1,35 @@
+package com.bnpl.rubalv.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaymentBatchItemResult {
+    @Schema(description = "Zero based position of the item in the request stream")
+    private long index;
+
+    @Schema(description = "Recorded payment's unique identifier")
+    private UUID id;
+
+    @Schema(description = "Error code when the item was rejected", example = "APZ000013")
+    private String code;
+
+    @Schema(description = "Error detail when the item was rejected")
+    private String message;
+
+    public static PaymentBatchItemResult settled(long index, UUID id) {
+        return new PaymentBatchItemResult(index, id, null, null);
+    }
+
+    public static PaymentBatchItemResult rejected(long index, String code, String message) {
+        return new PaymentBatchItemResult(index, null, code, message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.bnpl.rubalv.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentResponseDto {
+    @Schema(description = "Payment's unique identifier", format = "uuid")
+    private UUID id;
+
+    @Schema(description = "Payment reference")
+    private String reference;
+
+    @Schema(description = "Loan the installment belongs to", format = "uuid")
+    private UUID loanId;
+
+    @Schema(description = "Settled installment number")
+    private int installmentNumber;
+
+    @Schema(description = "Paid amount")
+    private BigDecimal amount;
+
+    @Schema(description = "When the payment was made")
+    private OffsetDateTime paidAt;
+}
@@ -0,0 +1,25 @@
+package com.bnpl.rubalv.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a settlement chunk: the recorded payment, or the reason the item was rejected without
+ * affecting the rest of the chunk.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentSettlementResult {
+    private PaymentResponseDto payment;
+    private RuntimeException rejection;
+
+    public static PaymentSettlementResult settled(PaymentResponseDto payment) {
+        return new PaymentSettlementResult(payment, null);
+    }
+
+    public static PaymentSettlementResult rejected(RuntimeException rejection) {
+        return new PaymentSettlementResult(null, rejection);
+    }
+}
@@ -0,0 +1,27 @@
+package com.bnpl.rubalv.enums;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+@Getter
+public enum Cadence {
+    WEEKLY(Period.ofWeeks(1)),
+    BIWEEKLY(Period.ofWeeks(2)),
+    MONTHLY(Period.ofMonths(1));
+
+    private final Period period;
+
+    Cadence(Period period) {
+        this.period = period;
+    }
+
+    /**
+     * Offsets from the start date rather than from the previous due date, so month-end purchases keep their day of
+     * month instead of drifting to the shortest month.
+     */
+    public LocalDate dueDate(LocalDate startDate, int paymentNumber) {
+        return startDate.plus(period.multipliedBy(paymentNumber));
+    }
+}
@@ -1,5 +1,5 @@
 package com.bnpl.rubalv.enums;
 
 public enum InstallmentStatus {
-    PENDING, NEXT, ERROR
+    PENDING, NEXT, ERROR, PAID
 }
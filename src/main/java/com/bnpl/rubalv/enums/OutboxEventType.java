@@ -0,0 +1,13 @@
+package com.bnpl.rubalv.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    CUSTOMER_REGISTERED("Customer"),
+    LOAN_REGISTERED("Loan");
+
+    private final String aggregateType;
+}
@@ -1,17 +1,27 @@
 package com.bnpl.rubalv.enums;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.math.BigDecimal;
 
 
 @Getter
-@AllArgsConstructor
 public enum PaymentScheme {
-    SCHEME_1(5, new BigDecimal("0.13")),
-    SCHEME_2(5, new BigDecimal("0.16"));
+    SCHEME_1(5, 1300, Cadence.BIWEEKLY, false),
+    SCHEME_2(5, 1600, Cadence.BIWEEKLY, false);
 
     private final int numberOfPayments;
+    private final int interestRateBasisPoints;
     private final BigDecimal interestRate;
+    private final Cadence cadence;
+    /** Moves due dates that fall on a weekend or holiday to the next business day. */
+    private final boolean businessDayAdjusted;
+
+    PaymentScheme(int numberOfPayments, int interestRateBasisPoints, Cadence cadence, boolean businessDayAdjusted) {
+        this.numberOfPayments = numberOfPayments;
+        this.interestRateBasisPoints = interestRateBasisPoints;
+        this.interestRate = BigDecimal.valueOf(interestRateBasisPoints, 4).stripTrailingZeros();
+        this.cadence = cadence;
+        this.businessDayAdjusted = businessDayAdjusted;
+    }
 }
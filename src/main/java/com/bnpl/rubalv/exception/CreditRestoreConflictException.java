@@ -0,0 +1,7 @@
+package com.bnpl.rubalv.exception;
+
+public class CreditRestoreConflictException extends BussinessException{
+    public CreditRestoreConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.bnpl.rubalv.exception;
+
+public class IdempotencyKeyReusedException extends BussinessException{
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key " + key + " was already used with a different request");
+    }
+}
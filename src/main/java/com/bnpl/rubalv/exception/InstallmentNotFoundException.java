@@ -0,0 +1,11 @@
+package com.bnpl.rubalv.exception;
+
+import jakarta.persistence.EntityNotFoundException;
+
+import java.util.UUID;
+
+public class InstallmentNotFoundException extends EntityNotFoundException {
+    public InstallmentNotFoundException(UUID loanId, int installmentNumber) {
+        super("Installment " + installmentNumber + " not found for loan ID: " + loanId);
+    }
+}
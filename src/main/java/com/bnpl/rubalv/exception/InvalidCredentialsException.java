@@ -0,0 +1,7 @@
+package com.bnpl.rubalv.exception;
+
+public class InvalidCredentialsException extends BussinessException{
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
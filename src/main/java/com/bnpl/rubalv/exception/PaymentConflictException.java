@@ -0,0 +1,7 @@
+package com.bnpl.rubalv.exception;
+
+public class PaymentConflictException extends BussinessException{
+    public PaymentConflictException(String message) {
+        super(message);
+    }
+}
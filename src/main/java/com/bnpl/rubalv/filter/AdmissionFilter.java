@@ -0,0 +1,81 @@
+package com.bnpl.rubalv.filter;
+
+import com.bnpl.rubalv.config.AdmissionProperties;
+import com.bnpl.rubalv.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the requests working against the database at the size of the connection pool. Extra requests wait
+ * up to {@code admission.acquire-timeout} for a permit and are rejected with 503 afterwards, so a burst of
+ * (virtual) threads queues here instead of piling up on Hikari.
+ */
+@Slf4j
+public class AdmissionFilter extends OncePerRequestFilter {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final AdmissionProperties admissionProperties;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public AdmissionFilter(AdmissionProperties admissionProperties,
+                           int maxConcurrent,
+                           HandlerExceptionResolver handlerExceptionResolver,
+                           MeterRegistry meterRegistry) {
+        this.admissionProperties = admissionProperties;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.permits = new Semaphore(maxConcurrent);
+        this.rejected = meterRegistry.counter("rubalv.admission.rejected");
+        Gauge.builder("rubalv.admission.in_flight", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("rubalv.admission.waiting", permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return admissionProperties.getPaths().stream().noneMatch(path -> PATH_MATCHER.match(path, uri));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!acquire()) {
+            rejected.increment();
+            log.warn("Admission timeout for {} {}", request.getMethod(), request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            handlerExceptionResolver.resolveException(request, response, null,
+                    new ServiceUnavailableException("Server busy, retry later"));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(admissionProperties.getAcquireTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.bnpl.rubalv.filter;
 
+import com.bnpl.rubalv.security.JwtAuthenticationCache;
 import com.bnpl.rubalv.service.JwtTokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,6 +19,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtTokenService jwtTokenService;
 
+    @Autowired
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String header = request.getHeader("Authorization");
@@ -25,7 +29,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = header.substring(7);
 
             try{
-                Authentication auth = jwtTokenService.validateToken(token);
+                Authentication auth = jwtAuthenticationCache.get(token);
+                if (auth == null) {
+                    auth = jwtTokenService.validateToken(token);
+                    if (auth != null) {
+                        jwtAuthenticationCache.put(token, auth);
+                    }
+                }
                 if (auth != null) {
                     SecurityContextHolder.getContext().setAuthentication(auth);
                     log.debug("JWT authentication successful for user: {}",
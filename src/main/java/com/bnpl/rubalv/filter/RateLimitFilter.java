@@ -0,0 +1,70 @@
+package com.bnpl.rubalv.filter;
+
+import com.bnpl.rubalv.config.RateLimitProperties;
+import com.bnpl.rubalv.exception.TooManyRequestsException;
+import com.bnpl.rubalv.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!rateLimitProperties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        List<RateLimitProperties.Route> routes = rateLimitProperties.getRoutes();
+        for (int i = 0; i < routes.size(); i++) {
+            RateLimitProperties.Route route = routes.get(i);
+            if (matches(route, request)) {
+                long waitNanos = acquire(String.valueOf(i), route, request);
+                if (waitNanos > 0) {
+                    log.warn("Rate limit exceeded for {} {} from {}", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+                    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos))));
+                    handlerExceptionResolver.resolveException(request, response, null,
+                            new TooManyRequestsException("Too many requests, retry later"));
+                    return;
+                }
+                break;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private long acquire(String routeId, RateLimitProperties.Route route, HttpServletRequest request) {
+        long waitNanos = rateLimiter.tryAcquire(routeId, "ip:" + request.getRemoteAddr(), route);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (waitNanos == 0 && authentication != null && authentication.isAuthenticated()) {
+            waitNanos = rateLimiter.tryAcquire(routeId, "sub:" + authentication.getName(), route);
+        }
+        return waitNanos;
+    }
+
+    private boolean matches(RateLimitProperties.Route route, HttpServletRequest request) {
+        return (route.getMethod() == null || route.getMethod().equalsIgnoreCase(request.getMethod()))
+                && PATH_MATCHER.match(route.getPath(), request.getRequestURI());
+    }
+}
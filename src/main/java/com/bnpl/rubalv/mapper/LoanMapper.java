@@ -1,5 +1,8 @@
 package com.bnpl.rubalv.mapper;
 
+import com.bnpl.rubalv.dto.projection.InstallmentRow;
+import com.bnpl.rubalv.dto.projection.LoanSummaryRow;
+import com.bnpl.rubalv.dto.projection.LoanViewRow;
 import com.bnpl.rubalv.dto.response.InstallmentResponseDto;
 import com.bnpl.rubalv.dto.response.LoanResponseDto;
 import com.bnpl.rubalv.dto.response.PaymentPlanResponseDto;
@@ -31,4 +34,36 @@ public class LoanMapper {
 
         return responseDto;
     }
+
+    public LoanResponseDto toResponseDto(UUID customerId, LoanSummaryRow loan, List<InstallmentRow> installments){
+        LoanResponseDto responseDto = new LoanResponseDto();
+        responseDto.setId(loan.loanId());
+        responseDto.setCustomerId(customerId);
+        responseDto.setStatus(loan.status());
+        responseDto.setCreatedAt(loan.createdAt().toInstant());
+        PaymentPlanResponseDto paymentPlan = new PaymentPlanResponseDto();
+        paymentPlan.setCommissionAmount(loan.commissionAmount());
+        List<InstallmentResponseDto> installmentsResponseDtoList = installments.stream()
+                .map(installment ->
+                        new InstallmentResponseDto(installment.amount(), installment.scheduledPaymentDate(), installment.status()))
+                .toList();
+        paymentPlan.setInstallments(installmentsResponseDtoList);
+        responseDto.setPaymentPlan(paymentPlan);
+
+        return responseDto;
+    }
+
+    public LoanResponseDto toResponseDto(LoanViewRow loan, List<InstallmentResponseDto> installments){
+        LoanResponseDto responseDto = new LoanResponseDto();
+        responseDto.setId(loan.loanId());
+        responseDto.setCustomerId(loan.customerId());
+        responseDto.setStatus(loan.status());
+        responseDto.setCreatedAt(loan.createdAt().toInstant());
+        PaymentPlanResponseDto paymentPlan = new PaymentPlanResponseDto();
+        paymentPlan.setCommissionAmount(loan.commissionAmount());
+        paymentPlan.setInstallments(installments);
+        responseDto.setPaymentPlan(paymentPlan);
+
+        return responseDto;
+    }
 }
@@ -3,7 +3,6 @@ package com.bnpl.rubalv.model;
 import com.bnpl.rubalv.enums.CreditLineStatus;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -18,7 +17,7 @@ import java.util.UUID;
 @Builder
 public class CreditLine {
     @Id
-    @UuidGenerator
+    @GeneratedUuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -39,4 +38,8 @@ public class CreditLine {
     @Column(nullable = false, updatable = false)
     @Builder.Default
     private OffsetDateTime createdAt = OffsetDateTime.now();
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
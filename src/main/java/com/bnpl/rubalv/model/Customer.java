@@ -3,7 +3,6 @@ package com.bnpl.rubalv.model;
 import lombok.*;
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -18,7 +17,7 @@ import java.util.UUID;
 @Builder
 public class Customer {
     @Id
-    @UuidGenerator
+    @GeneratedUuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -0,0 +1,41 @@
+package com.bnpl.rubalv.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(nullable = false, updatable = false)
+    private UUID customerId;
+
+    @Column(name = "idempotency_key", nullable = false, updatable = false)
+    private String key;
+
+    @Column(nullable = false, updatable = false, length = 64)
+    private String requestHash;
+
+    private UUID loanId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String response;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+}
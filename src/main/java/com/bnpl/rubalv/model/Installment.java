@@ -4,10 +4,10 @@ import com.bnpl.rubalv.enums.InstallmentStatus;
 import lombok.*;
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
@@ -20,7 +20,7 @@ import java.util.UUID;
 @Builder
 public class Installment {
     @Id
-    @UuidGenerator
+    @GeneratedUuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -40,4 +40,6 @@ public class Installment {
 
     @Column(nullable = false)
     private int installmentNumber;
+
+    private OffsetDateTime paidAt;
 }
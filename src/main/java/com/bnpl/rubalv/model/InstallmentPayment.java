@@ -0,0 +1,39 @@
+package com.bnpl.rubalv.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "installment_payments")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InstallmentPayment {
+    @Id
+    @GeneratedUuidV7
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "installment_id", nullable = false, unique = true)
+    private Installment installment;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String reference;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private OffsetDateTime paidAt;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+}
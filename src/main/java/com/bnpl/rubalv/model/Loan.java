@@ -5,7 +5,6 @@ import com.bnpl.rubalv.enums.PaymentScheme;
 import lombok.*;
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -24,7 +23,7 @@ import java.util.UUID;
 public class Loan {
 
     @Id
-    @UuidGenerator
+    @GeneratedUuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
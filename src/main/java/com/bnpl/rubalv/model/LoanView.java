@@ -0,0 +1,42 @@
+package com.bnpl.rubalv.model;
+
+import com.bnpl.rubalv.enums.LoanStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/** Denormalized copy of a loan, written only through the upserts in {@code LoanViewRepository}. */
+@Entity
+@Immutable
+@Table(name = "loan_view")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanView {
+    @Id
+    @Column(name = "loan_id", updatable = false, nullable = false)
+    private UUID loanId;
+
+    @Column(nullable = false)
+    private UUID customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LoanStatus status;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal commissionAmount;
+
+    @Column(nullable = false)
+    private OffsetDateTime createdAt;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private String installments;
+}
@@ -0,0 +1,41 @@
+package com.bnpl.rubalv.outbox;
+
+import com.bnpl.rubalv.utils.helpers.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/** Appends one JSON line per message to a file and forces it to disk before the batch counts as published. */
+public class NdjsonFileOutboxSink implements OutboxSink {
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public NdjsonFileOutboxSink(ObjectMapper objectMapper, Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            OutputStream output = Channels.newOutputStream(channel);
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, output);
+            for (OutboxMessage message : messages) {
+                writer.write(message);
+            }
+            writer.flush();
+            channel.force(false);
+        }
+    }
+}
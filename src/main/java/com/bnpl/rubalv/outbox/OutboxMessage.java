@@ -0,0 +1,21 @@
+package com.bnpl.rubalv.outbox;
+
+import com.bnpl.rubalv.model.OutboxEvent;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/** An event as handed to a sink. {@code id} stays the same on redelivery, so consumers deduplicate on it. */
+public record OutboxMessage(UUID id,
+                            String aggregateType,
+                            UUID aggregateId,
+                            String eventType,
+                            @JsonRawValue String payload,
+                            OffsetDateTime createdAt) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType().name(), event.getPayload(), event.getCreatedAt());
+    }
+}
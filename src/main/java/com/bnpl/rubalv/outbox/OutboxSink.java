@@ -0,0 +1,12 @@
+package com.bnpl.rubalv.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of the outbox relay. A batch is deleted from the outbox only after {@link #publish} returns, so an
+ * implementation must not return before the messages are durable; throwing leaves the batch for the next run.
+ */
+public interface OutboxSink {
+    void publish(List<OutboxMessage> messages) throws IOException;
+}
@@ -0,0 +1,53 @@
+package com.bnpl.rubalv.ratelimit;
+
+import com.bnpl.rubalv.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class RateLimiter {
+    private static final String OVERFLOW_KEY = "overflow";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+    }
+
+    public long tryAcquire(String routeId, String clientKey, RateLimitProperties.Route route) {
+        return tryAcquire(routeId, clientKey, route, System.nanoTime());
+    }
+
+    long tryAcquire(String routeId, String clientKey, RateLimitProperties.Route route, long nowNanos) {
+        String key = routeId + '|' + clientKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= rateLimitProperties.getMaxKeys()) {
+                key = routeId + '|' + OVERFLOW_KEY;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(route.getCapacity(), route.getRefillPerSecond(), nowNanos));
+        }
+        return bucket.tryConsume(nowNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        evictIdleBuckets(System.nanoTime());
+    }
+
+    void evictIdleBuckets(long nowNanos) {
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isFull(nowNanos));
+        log.debug("Rate limiter idle buckets evicted: {} - Active keys: {}", before - buckets.size(), buckets.size());
+    }
+
+    int activeKeys() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,36 @@
+package com.bnpl.rubalv.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket capacity and refill rate must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long arrivalTime = theoreticalArrivalTime.get();
+            long nextArrivalTime = Math.max(arrivalTime, nowNanos) + emissionIntervalNanos;
+            long debt = nextArrivalTime - nowNanos;
+            if (debt > burstNanos) {
+                return debt - burstNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(arrivalTime, nextArrivalTime)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrivalTime.get() <= nowNanos;
+    }
+}
@@ -1,15 +1,52 @@
 package com.bnpl.rubalv.repository;
 
+import com.bnpl.rubalv.dto.projection.CustomerCreditLineRow;
 import com.bnpl.rubalv.enums.CreditLineStatus;
 import com.bnpl.rubalv.model.CreditLine;
 import com.bnpl.rubalv.model.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CreditLineRepository extends JpaRepository<CreditLine, UUID> {
     Optional<CreditLine> findByCustomerAndStatusEquals(Customer customer, CreditLineStatus status);
+
+    @Query("""
+            SELECT new com.bnpl.rubalv.dto.projection.CustomerCreditLineRow(c.id, c.firstName, c.sequentialId, cl.id)
+            FROM Customer c
+            LEFT JOIN CreditLine cl ON cl.customer = c AND cl.status = com.bnpl.rubalv.enums.CreditLineStatus.ACTIVE
+            WHERE c.id = :customerId
+            """)
+    Optional<CustomerCreditLineRow> findCustomerCreditLine(@Param("customerId") UUID customerId);
+
+    @Query("SELECT cl.availableCreditAmount FROM CreditLine cl WHERE cl.id = :creditLineId")
+    BigDecimal findAvailableCreditAmount(@Param("creditLineId") UUID creditLineId);
+
+    @Modifying
+    @Query("""
+            UPDATE CreditLine cl
+            SET cl.availableCreditAmount = cl.availableCreditAmount - :amount,
+                cl.version = cl.version + 1
+            WHERE cl.id = :creditLineId
+              AND cl.status = com.bnpl.rubalv.enums.CreditLineStatus.ACTIVE
+              AND cl.availableCreditAmount >= :amount
+            """)
+    int reserveCredit(@Param("creditLineId") UUID creditLineId, @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("""
+            UPDATE CreditLine cl
+            SET cl.availableCreditAmount = cl.availableCreditAmount + :amount,
+                cl.version = cl.version + 1
+            WHERE cl.id = :creditLineId
+              AND cl.availableCreditAmount + :amount <= cl.totalCreditAmount
+            """)
+    int restoreCredit(@Param("creditLineId") UUID creditLineId, @Param("amount") BigDecimal amount);
 }
@@ -0,0 +1,47 @@
+package com.bnpl.rubalv.repository;
+
+import com.bnpl.rubalv.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, UUID> {
+    Optional<IdempotencyKey> findByCustomerIdAndKey(UUID customerId, String key);
+
+    /**
+     * Claims the key for the current transaction. A concurrent request with the same key waits on the unique
+     * index until the holder commits or rolls back, and then gets 0 instead of a constraint violation.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO idempotency_keys (id, customer_id, idempotency_key, request_hash)
+            VALUES (:id, :customerId, :key, :requestHash)
+            ON CONFLICT (customer_id, idempotency_key) DO NOTHING
+            """, nativeQuery = true)
+    int claim(@Param("id") UUID id,
+              @Param("customerId") UUID customerId,
+              @Param("key") String key,
+              @Param("requestHash") String requestHash);
+
+    @Modifying
+    @Query(value = """
+            UPDATE idempotency_keys
+            SET loan_id = :loanId, response = CAST(:response AS jsonb)
+            WHERE customer_id = :customerId AND idempotency_key = :key
+            """, nativeQuery = true)
+    int complete(@Param("customerId") UUID customerId,
+                 @Param("key") String key,
+                 @Param("loanId") UUID loanId,
+                 @Param("response") String response);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey ik WHERE ik.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") OffsetDateTime before);
+}
@@ -0,0 +1,186 @@
+package com.bnpl.rubalv.repository;
+
+import com.bnpl.rubalv.dto.projection.LifecycleCheckpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Set-based status transitions for the installment lifecycle sweep. Every statement works on the open loans whose id
+ * falls in {@code (after, until]}, so a chunk is bounded by the number of loans rather than by the table size. The
+ * transitions return the ids of the loans they changed, one per written row. The status literals must match the
+ * partial index predicates in V5.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InstallmentLifecycleRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<UUID> findPartitionBounds(int partitions) {
+        if (partitions < 2) {
+            return List.of();
+        }
+        String fractions = IntStream.range(1, partitions)
+                .mapToObj(i -> Double.toString((double) i / partitions))
+                .collect(Collectors.joining(", "));
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT q.id
+                FROM (
+                    SELECT unnest(percentile_disc(ARRAY[%s]) WITHIN GROUP (ORDER BY id)) AS id
+                    FROM loans
+                    WHERE status IN ('ACTIVE', 'LATE')
+                ) q
+                ORDER BY q.id
+                """.formatted(fractions), Map.of(), UUID.class);
+    }
+
+    public int countCheckpoints(LocalDate runDate) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM lifecycle_checkpoints WHERE run_date = :runDate",
+                Map.of("runDate", runDate), Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    public void insertCheckpoints(LocalDate runDate, List<UUID> bounds) {
+        MapSqlParameterSource[] partitions = IntStream.range(0, bounds.size() - 1)
+                .mapToObj(i -> new MapSqlParameterSource()
+                        .addValue("runDate", runDate)
+                        .addValue("partition", i)
+                        .addValue("lowerBound", bounds.get(i))
+                        .addValue("upperBound", bounds.get(i + 1)))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO lifecycle_checkpoints (run_date, partition_no, lower_bound, upper_bound, last_loan_id)
+                VALUES (:runDate, :partition, :lowerBound, :upperBound, :lowerBound)
+                ON CONFLICT DO NOTHING
+                """, partitions);
+    }
+
+    public List<Integer> findIncompletePartitions(LocalDate runDate) {
+        return jdbcTemplate.queryForList("""
+                SELECT partition_no
+                FROM lifecycle_checkpoints
+                WHERE run_date = :runDate AND completed_at IS NULL
+                ORDER BY partition_no
+                """, Map.of("runDate", runDate), Integer.class);
+    }
+
+    /**
+     * Locks the partition's checkpoint for the current transaction. Empty when the partition is finished or another
+     * worker holds it, so several instances can run the sweep without processing the same loans twice.
+     */
+    public Optional<LifecycleCheckpoint> lockCheckpoint(LocalDate runDate, int partition) {
+        return jdbcTemplate.query("""
+                        SELECT partition_no, last_loan_id, upper_bound
+                        FROM lifecycle_checkpoints
+                        WHERE run_date = :runDate AND partition_no = :partition AND completed_at IS NULL
+                        FOR UPDATE SKIP LOCKED
+                        """,
+                Map.of("runDate", runDate, "partition", partition),
+                (rs, rowNum) -> new LifecycleCheckpoint(
+                        rs.getInt("partition_no"),
+                        rs.getObject("last_loan_id", UUID.class),
+                        rs.getObject("upper_bound", UUID.class))
+        ).stream().findFirst();
+    }
+
+    /** Id of the {@code chunkSize}-th open loan after {@code after}, or empty when fewer remain before the bound. */
+    public Optional<UUID> findChunkEnd(UUID after, UUID upperBound, int chunkSize) {
+        return jdbcTemplate.queryForList("""
+                SELECT id
+                FROM loans
+                WHERE status IN ('ACTIVE', 'LATE') AND id > :after AND id <= :upperBound
+                ORDER BY id
+                OFFSET :offset LIMIT 1
+                """, Map.of("after", after, "upperBound", upperBound, "offset", chunkSize - 1), UUID.class
+        ).stream().findFirst();
+    }
+
+    public void advanceCheckpoint(LocalDate runDate, int partition, UUID until) {
+        jdbcTemplate.update("""
+                UPDATE lifecycle_checkpoints
+                SET last_loan_id = :until,
+                    chunks = chunks + 1,
+                    completed_at = CASE WHEN upper_bound = :until THEN CURRENT_TIMESTAMP END,
+                    updated_at = CURRENT_TIMESTAMP
+                WHERE run_date = :runDate AND partition_no = :partition
+                """, Map.of("runDate", runDate, "partition", partition, "until", until));
+    }
+
+    /** Open loans with installments left whose installments are all settled. */
+    public List<UUID> completeLoans(UUID after, UUID until) {
+        return jdbcTemplate.queryForList("""
+                UPDATE loans l
+                SET status = 'COMPLETED'
+                WHERE l.status IN ('ACTIVE', 'LATE') AND l.id > :after AND l.id <= :until
+                  AND EXISTS (SELECT 1 FROM installments i WHERE i.loan_id = l.id)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM installments i
+                      WHERE i.loan_id = l.id AND i.status IN ('PENDING', 'NEXT', 'ERROR'))
+                RETURNING l.id
+                """, range(after, until), UUID.class);
+    }
+
+    public List<UUID> markLateLoans(UUID after, UUID until, LocalDate today) {
+        return jdbcTemplate.queryForList("""
+                UPDATE loans l
+                SET status = 'LATE'
+                WHERE l.status = 'ACTIVE' AND l.id > :after AND l.id <= :until
+                  AND EXISTS (
+                      SELECT 1 FROM installments i
+                      WHERE i.loan_id = l.id AND i.status IN ('PENDING', 'NEXT', 'ERROR')
+                        AND i.scheduled_payment_date < :today)
+                RETURNING l.id
+                """, range(after, until).addValue("today", today), UUID.class);
+    }
+
+    /** Late loans that no longer have an overdue installment go back to active. */
+    public List<UUID> reactivateLoans(UUID after, UUID until, LocalDate today) {
+        return jdbcTemplate.queryForList("""
+                UPDATE loans l
+                SET status = 'ACTIVE'
+                WHERE l.status = 'LATE' AND l.id > :after AND l.id <= :until
+                  AND NOT EXISTS (
+                      SELECT 1 FROM installments i
+                      WHERE i.loan_id = l.id AND i.status IN ('PENDING', 'NEXT', 'ERROR')
+                        AND i.scheduled_payment_date < :today)
+                RETURNING l.id
+                """, range(after, until).addValue("today", today), UUID.class);
+    }
+
+    /**
+     * Makes the earliest outstanding installment of every open loan NEXT and turns any other NEXT back to PENDING.
+     * Installments in ERROR are left alone. Only rows whose status actually changes are written.
+     */
+    public List<UUID> markNextInstallments(UUID after, UUID until) {
+        return jdbcTemplate.queryForList("""
+                UPDATE installments i
+                SET status = CASE WHEN i.id = nxt.id THEN 'NEXT' ELSE 'PENDING' END
+                FROM (
+                    SELECT DISTINCT ON (o.loan_id) o.loan_id, o.id
+                    FROM installments o
+                    JOIN loans l ON l.id = o.loan_id
+                    WHERE l.status IN ('ACTIVE', 'LATE') AND l.id > :after AND l.id <= :until
+                      AND o.status IN ('PENDING', 'NEXT', 'ERROR')
+                    ORDER BY o.loan_id, o.installment_number
+                ) nxt
+                WHERE i.loan_id = nxt.loan_id
+                  AND i.status IN ('PENDING', 'NEXT')
+                  AND i.status <> CASE WHEN i.id = nxt.id THEN 'NEXT' ELSE 'PENDING' END
+                RETURNING i.loan_id
+                """, range(after, until), UUID.class);
+    }
+
+    private MapSqlParameterSource range(UUID after, UUID until) {
+        return new MapSqlParameterSource().addValue("after", after).addValue("until", until);
+    }
+}
@@ -0,0 +1,24 @@
+package com.bnpl.rubalv.repository;
+
+import com.bnpl.rubalv.dto.projection.InstallmentPaymentRow;
+import com.bnpl.rubalv.model.InstallmentPayment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface InstallmentPaymentRepository extends JpaRepository<InstallmentPayment, UUID> {
+    @Query("""
+            SELECT new com.bnpl.rubalv.dto.projection.InstallmentPaymentRow(
+                p.id, p.reference, i.loan.id, i.installmentNumber, p.amount, p.paidAt)
+            FROM InstallmentPayment p
+            JOIN p.installment i
+            WHERE p.reference IN :references
+            """)
+    List<InstallmentPaymentRow> findByReferences(@Param("references") Collection<String> references);
+}
@@ -1,14 +1,43 @@
 package com.bnpl.rubalv.repository;
 
+import com.bnpl.rubalv.dto.projection.InstallmentSettlementRow;
 import com.bnpl.rubalv.model.Installment;
 import com.bnpl.rubalv.model.Loan;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface InstallmentRepository extends JpaRepository<Installment, UUID> {
     List<Installment> findByLoan(Loan loan);
+
+    @Query("""
+            SELECT new com.bnpl.rubalv.dto.projection.InstallmentSettlementRow(
+                i.id, l.id, i.installmentNumber, i.amount, i.status, l.amount, cl.id, cl.customer.id)
+            FROM Installment i
+            JOIN i.loan l
+            JOIN l.creditLine cl
+            WHERE l.id IN :loanIds
+            """)
+    List<InstallmentSettlementRow> findSettlementRowsByLoanIds(@Param("loanIds") Collection<UUID> loanIds);
+
+    /**
+     * Copies the paid time from each installment's payment, which must already be flushed. Installments that were
+     * paid in the meantime are skipped, so a count below the number of ids means a concurrent settlement won.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Installment i
+            SET i.status = com.bnpl.rubalv.enums.InstallmentStatus.PAID,
+                i.paidAt = (SELECT p.paidAt FROM InstallmentPayment p WHERE p.installment.id = i.id)
+            WHERE i.id IN :installmentIds
+              AND i.status <> com.bnpl.rubalv.enums.InstallmentStatus.PAID
+            """)
+    int markPaid(@Param("installmentIds") Collection<UUID> installmentIds);
 }
@@ -1,13 +1,86 @@
 package com.bnpl.rubalv.repository;
 
-import com.bnpl.rubalv.model.CreditLine;
+import com.bnpl.rubalv.dto.projection.InstallmentExportRow;
+import com.bnpl.rubalv.dto.projection.InstallmentRow;
+import com.bnpl.rubalv.dto.projection.LoanExportRow;
+import com.bnpl.rubalv.dto.projection.LoanSummaryRow;
+import com.bnpl.rubalv.enums.LoanStatus;
 import com.bnpl.rubalv.model.Loan;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, UUID> {
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * Seeks past the cursor on idx_loans_credit_line_created_at. The {@code createdAt <= :createdAt} conjunct is
+     * what lets PostgreSQL start the index scan at the cursor instead of filtering every newer loan.
+     */
+    @Query("""
+            SELECT new com.bnpl.rubalv.dto.projection.LoanSummaryRow(
+                l.id, l.status, l.createdAt, l.commissionAmount)
+            FROM Loan l
+            JOIN l.creditLine cl
+            WHERE cl.customer.id = :customerId
+              AND l.status IN :statuses
+              AND l.createdAt <= :createdAt
+              AND (l.createdAt < :createdAt OR l.id < :id)
+            ORDER BY l.createdAt DESC, l.id DESC
+            """)
+    List<LoanSummaryRow> findCustomerLoansBefore(@Param("customerId") UUID customerId,
+                                                 @Param("statuses") Collection<LoanStatus> statuses,
+                                                 @Param("createdAt") OffsetDateTime createdAt,
+                                                 @Param("id") UUID id,
+                                                 Limit limit);
+
+    @Query("""
+            SELECT new com.bnpl.rubalv.dto.projection.InstallmentRow(
+                i.loan.id, i.amount, i.scheduledPaymentDate, i.status)
+            FROM Installment i
+            WHERE i.loan.id IN :loanIds
+            ORDER BY i.loan.id, i.installmentNumber
+            """)
+    List<InstallmentRow> findInstallmentsByLoanIds(@Param("loanIds") Collection<UUID> loanIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.bnpl.rubalv.dto.projection.LoanExportRow(
+                l.id, cl.id, cl.customer.id, l.amount, l.totalAmount, l.status, l.paymentScheme,
+                l.interestRate, l.commissionAmount, l.purchaseDate, l.createdAt)
+            FROM Loan l
+            JOIN l.creditLine cl
+            WHERE l.createdAt >= :from AND l.createdAt < :to
+            ORDER BY l.createdAt, l.id
+            """)
+    Stream<LoanExportRow> streamLoansCreatedBetween(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.bnpl.rubalv.dto.projection.InstallmentExportRow(
+                i.id, l.id, i.installmentNumber, i.amount, i.scheduledPaymentDate, i.status)
+            FROM Installment i
+            JOIN i.loan l
+            WHERE l.createdAt >= :from AND l.createdAt < :to
+            ORDER BY l.createdAt, l.id, i.installmentNumber
+            """)
+    Stream<InstallmentExportRow> streamInstallmentsOfLoansCreatedBetween(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
 }
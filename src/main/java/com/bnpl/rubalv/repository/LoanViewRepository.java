@@ -0,0 +1,66 @@
+package com.bnpl.rubalv.repository;
+
+import com.bnpl.rubalv.dto.projection.LoanViewRow;
+import com.bnpl.rubalv.model.LoanView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LoanViewRepository extends JpaRepository<LoanView, UUID> {
+    /** Rebuilds view rows from the source tables; the installments shape must match V10. */
+    String REBUILD = """
+            INSERT INTO loan_view (loan_id, customer_id, status, commission_amount, created_at, installments)
+            SELECT l.id, cl.customer_id, l.status, l.commission_amount, l.created_at,
+                   COALESCE((
+                       SELECT jsonb_agg(jsonb_build_object(
+                               'amount', i.amount, 'scheduledPaymentDate', i.scheduled_payment_date, 'status', i.status)
+                           ORDER BY i.installment_number)
+                       FROM installments i
+                       WHERE i.loan_id = l.id), CAST('[]' AS jsonb))
+            FROM loans l
+            JOIN credit_lines cl ON cl.id = l.credit_line_id
+            """;
+
+    /** Only rows whose content changed are written, and in loan id order so concurrent refreshes lock alike. */
+    String ON_CONFLICT_REFRESH = """
+            ORDER BY l.id
+            ON CONFLICT (loan_id) DO UPDATE
+            SET status = EXCLUDED.status, installments = EXCLUDED.installments
+            WHERE loan_view.status <> EXCLUDED.status OR loan_view.installments <> EXCLUDED.installments
+            """;
+
+    @Query("""
+            SELECT new com.bnpl.rubalv.dto.projection.LoanViewRow(
+                v.loanId, v.customerId, v.status, v.commissionAmount, v.createdAt, v.installments)
+            FROM LoanView v
+            WHERE v.loanId = :loanId
+            """)
+    Optional<LoanViewRow> findRowById(@Param("loanId") UUID loanId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO loan_view (loan_id, customer_id, status, commission_amount, created_at, installments)
+            VALUES (:loanId, :customerId, :status, :commissionAmount, :createdAt, CAST(:installments AS jsonb))
+            ON CONFLICT (loan_id) DO UPDATE
+            SET status = EXCLUDED.status, installments = EXCLUDED.installments
+            """, nativeQuery = true)
+    int upsert(@Param("loanId") UUID loanId,
+               @Param("customerId") UUID customerId,
+               @Param("status") String status,
+               @Param("commissionAmount") BigDecimal commissionAmount,
+               @Param("createdAt") OffsetDateTime createdAt,
+               @Param("installments") String installments);
+
+    @Modifying
+    @Query(value = REBUILD + "WHERE l.id IN (:loanIds)\n" + ON_CONFLICT_REFRESH, nativeQuery = true)
+    int refresh(@Param("loanIds") Collection<UUID> loanIds);
+}
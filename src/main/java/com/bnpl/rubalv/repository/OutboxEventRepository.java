@@ -0,0 +1,32 @@
+package com.bnpl.rubalv.repository;
+
+import com.bnpl.rubalv.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+    /**
+     * Locks the oldest undelivered events for the current transaction. Rows held by another relay are skipped, so
+     * several instances drain disjoint batches instead of waiting on each other.
+     */
+    @Query(value = """
+            SELECT *
+            FROM outbox_events
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,57 @@
+package com.bnpl.rubalv.runner;
+
+import com.bnpl.rubalv.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+
+@Component
+@ConditionalOnProperty(name = ExportRunner.EXPORT_TYPE_PROPERTY)
+@RequiredArgsConstructor
+@Slf4j
+public class ExportRunner implements ApplicationRunner {
+    public static final String EXPORT_TYPE_PROPERTY = "export.type";
+
+    private final ExportService exportService;
+
+    @Value("${export.type}")
+    private String type;
+
+    @Value("${export.output:#{null}}")
+    private String output;
+
+    @Value("${export.from:#{null}}")
+    private String from;
+
+    @Value("${export.to:#{null}}")
+    private String to;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path target = Path.of(output != null ? output : type + ".ndjson");
+        log.info("Running {} export to {}", type, target);
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(target))) {
+            long rows = switch (type) {
+                case "loans" -> exportService.exportLoans(parse(from), parse(to), outputStream);
+                case "installments" -> exportService.exportInstallments(parse(from), parse(to), outputStream);
+                default -> throw new IllegalArgumentException("Unknown export type: " + type + " (expected loans or installments)");
+            };
+            log.info("Export of {} written to {}: {} rows", type, target, rows);
+        }
+    }
+
+    private OffsetDateTime parse(String value) {
+        return value != null ? OffsetDateTime.parse(value) : null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bnpl.rubalv.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The immutable parts of a verified token. Each request gets its own {@link JwtAuthenticationToken} built from them,
+ * so nothing one request does to its authentication leaks into another, and the raw token is never kept.
+ */
+record CachedJwtAuthentication(String subject, List<GrantedAuthority> authorities, Instant expiresAt) {
+
+    static CachedJwtAuthentication from(JwtAuthenticationToken authentication) {
+        return new CachedJwtAuthentication(authentication.getName(), List.copyOf(authentication.getAuthorities()),
+                authentication.getExpiresAt());
+    }
+
+    JwtAuthenticationToken toAuthentication() {
+        return new JwtAuthenticationToken(new User(subject, "", authorities), null, authorities, expiresAt);
+    }
+}
@@ -0,0 +1,77 @@
+package com.bnpl.rubalv.security;
+
+import com.bnpl.rubalv.config.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+@Component
+public class JwtAuthenticationCache {
+    private final Cache<String, CachedJwtAuthentication> cache;
+
+    public JwtAuthenticationCache(JwtProperties jwtProperties, JwtKeyRing jwtKeyRing) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getCache().getMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        jwtKeyRing.addRotationListener(cache::invalidateAll);
+    }
+
+    /** Returns a new authentication on every call; callers may modify it freely. */
+    public Authentication get(String token) {
+        CachedJwtAuthentication cached = cache.getIfPresent(digest(token));
+        return cached != null ? cached.toAuthentication() : null;
+    }
+
+    public void put(String token, Authentication authentication) {
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication
+                && jwtAuthentication.getExpiresAt().isAfter(Instant.now())) {
+            cache.put(digest(token), CachedJwtAuthentication.from(jwtAuthentication));
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<String, CachedJwtAuthentication> {
+        @Override
+        public long expireAfterCreate(String key, CachedJwtAuthentication value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedJwtAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedJwtAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bnpl.rubalv.security;
+
+import lombok.Getter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.Collection;
+
+@Getter
+public class JwtAuthenticationToken extends UsernamePasswordAuthenticationToken {
+    private final Instant expiresAt;
+
+    public JwtAuthenticationToken(Object principal, Object credentials, Collection<? extends GrantedAuthority> authorities, Instant expiresAt) {
+        super(principal, credentials, authorities);
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,126 @@
+package com.bnpl.rubalv.security;
+
+import com.bnpl.rubalv.config.JwtProperties;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+@Slf4j
+public class JwtKeyRing {
+    private static final String KEY_FILE_ACTIVE_KEY_ID = "active-key-id";
+    private static final String KEY_FILE_KEY_PREFIX = "keys.";
+
+    private final JwtProperties jwtProperties;
+    private final List<Runnable> rotationListeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot;
+    private long keyFileLastModified;
+
+    public JwtKeyRing(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        rotate(jwtProperties.getActiveKeyId(), jwtProperties.getSigningKeys());
+        reloadKeyFile();
+    }
+
+    /** Read once per token, so the {@code kid} header and the signature always come from the same rotation. */
+    public JwtSigningKey getActiveKey() {
+        return snapshot.activeKey();
+    }
+
+    public JwtParser getParser() {
+        return snapshot.parser();
+    }
+
+    public void addRotationListener(Runnable listener) {
+        rotationListeners.add(listener);
+    }
+
+    public synchronized void rotate(String activeKeyId, Map<String, String> base64Keys) {
+        Map<String, SecretKey> keys = new HashMap<>();
+        base64Keys.forEach((keyId, secret) -> keys.put(keyId, Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret))));
+        SecretKey activeKey = keys.get(activeKeyId);
+        if (activeKey == null) {
+            throw new IllegalArgumentException("Active JWT key id is not configured: " + activeKeyId);
+        }
+
+        JwtParser parser = Jwts.parser()
+                .keyLocator(new KeyIdLocator(Map.copyOf(keys), activeKeyId))
+                .build();
+        snapshot = new Snapshot(new JwtSigningKey(activeKeyId, activeKey), parser);
+        log.info("JWT key ring loaded. Active key: {} - Verification keys: {}", activeKeyId, keys.keySet());
+        rotationListeners.forEach(Runnable::run);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.key-file-refresh-interval:30000}")
+    public synchronized void reloadKeyFile() {
+        String keyFile = jwtProperties.getKeyFile();
+        if (keyFile == null || keyFile.isBlank()) {
+            return;
+        }
+
+        Path path = Path.of(keyFile);
+        try {
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            if (lastModified == keyFileLastModified) {
+                return;
+            }
+
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            }
+
+            Map<String, String> base64Keys = new LinkedHashMap<>(jwtProperties.getSigningKeys());
+            properties.stringPropertyNames().stream()
+                    .filter(name -> name.startsWith(KEY_FILE_KEY_PREFIX))
+                    .forEach(name -> base64Keys.put(name.substring(KEY_FILE_KEY_PREFIX.length()), properties.getProperty(name)));
+            rotate(properties.getProperty(KEY_FILE_ACTIVE_KEY_ID, jwtProperties.getActiveKeyId()), base64Keys);
+            keyFileLastModified = lastModified;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Unable to reload JWT key file {}: {}", keyFile, e.getMessage());
+        }
+    }
+
+    private record Snapshot(JwtSigningKey activeKey, JwtParser parser) {
+    }
+
+    private static final class KeyIdLocator extends LocatorAdapter<Key> {
+        private final Map<String, SecretKey> keys;
+        private final String fallbackKeyId;
+
+        private KeyIdLocator(Map<String, SecretKey> keys, String activeKeyId) {
+            this.keys = keys;
+            this.fallbackKeyId = keys.containsKey(JwtProperties.DEFAULT_KEY_ID) ? JwtProperties.DEFAULT_KEY_ID : activeKeyId;
+        }
+
+        @Override
+        protected Key locate(ProtectedHeader header) {
+            String keyId = header.getKeyId() != null ? header.getKeyId() : fallbackKeyId;
+            SecretKey key = keys.get(keyId);
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown JWT key id: " + keyId);
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.bnpl.rubalv.security;
+
+import javax.crypto.SecretKey;
+
+/** The active key together with the id written to the {@code kid} header of the tokens it signs. */
+public record JwtSigningKey(String keyId, SecretKey key) {
+}
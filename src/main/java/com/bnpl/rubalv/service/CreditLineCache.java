@@ -0,0 +1,70 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.projection.CustomerCreditLineRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of each customer's active credit line. Every invalidation bumps a version stripe for the
+ * customer, and a load only stays cached if its stripe did not move while the row was read, so a load racing a
+ * write can never leave the pre-write row behind.
+ */
+@Component
+public class CreditLineCache {
+    private final Cache<UUID, CustomerCreditLineRow> cache;
+    private final VersionStripes versions = new VersionStripes();
+
+    public CreditLineCache(@Value("${cache.credit-lines.maximum-size:10000}") long maximumSize,
+                           @Value("${cache.credit-lines.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<CustomerCreditLineRow> get(UUID customerId, Function<UUID, Optional<CustomerCreditLineRow>> loader) {
+        CustomerCreditLineRow cached = cache.getIfPresent(customerId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long version = versions.current(customerId);
+        Optional<CustomerCreditLineRow> loaded = loader.apply(customerId);
+        loaded.ifPresent(row -> {
+            cache.put(customerId, row);
+            if (versions.movedSince(customerId, version)) {
+                cache.invalidate(customerId);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Drops the customer's entry now and, inside a transaction, again once it completes, so readers that load the
+     * row before the write commits do not keep it.
+     */
+    public void invalidate(UUID customerId) {
+        if (customerId == null) {
+            // not persisted yet, so it cannot have been cached
+            return;
+        }
+        versions.invalidate(customerId, cache::invalidate);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -1,12 +1,22 @@
 package com.bnpl.rubalv.service;
 
+import com.bnpl.rubalv.dto.projection.CustomerCreditLineRow;
 import com.bnpl.rubalv.model.CreditLine;
 import com.bnpl.rubalv.model.Customer;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 public interface CreditLineService {
     CreditLine createCreditLine(Customer customer);
+    List<CreditLine> createCreditLines(List<Customer> customers);
+    void validateEligibility(LocalDate dateOfBirth);
     CreditLine getCustomerCreditLine(Customer customer);
-    void updateCreditLine(CreditLine creditLine, BigDecimal amount);
+    CustomerCreditLineRow getActiveCreditLine(UUID customerId);
+    CreditLine getCreditLineReference(UUID creditLineId);
+    BigDecimal getAvailableCredit(UUID creditLineId);
+    boolean updateCreditLine(UUID creditLineId, UUID customerId, BigDecimal amount);
+    void restoreCredit(UUID creditLineId, UUID customerId, BigDecimal amount);
 }
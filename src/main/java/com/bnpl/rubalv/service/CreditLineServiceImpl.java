@@ -1,37 +1,49 @@
 package com.bnpl.rubalv.service;
 
 import com.bnpl.rubalv.constants.CreditLineConstants;
+import com.bnpl.rubalv.dto.projection.CustomerCreditLineRow;
+import com.bnpl.rubalv.exception.CreditRestoreConflictException;
+import com.bnpl.rubalv.exception.CustomerNotFoundException;
 import com.bnpl.rubalv.model.CreditLine;
 import com.bnpl.rubalv.model.Customer;
 import com.bnpl.rubalv.enums.CreditLineStatus;
 import com.bnpl.rubalv.repository.CreditLineRepository;
 import com.bnpl.rubalv.utils.helpers.DateHelper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CreditLineServiceImpl implements CreditLineService {
     private final CreditLineRepository creditLineRepository;
+    private final CreditLineCache creditLineCache;
+    private final CustomerCache customerCache;
     private final DateHelper dateHelper;
 
     @Override
     public CreditLine createCreditLine(Customer customer){
-        log.info("Starting credit line creation for customer: {}", customer.getId());
+        log.debug("Starting credit line creation for customer: {}", customer.getId());
         try {
             int age = dateHelper.calculateAge(customer.getDateOfBirth());
             validateAgeEligibility(age);
 
             BigDecimal creditLineAmount = determineCreditLineAmount(age);
-            log.info("Credit line amount determinate for customer {} : {}", customer.getId(), creditLineAmount);
+            log.debug("Credit line amount determinate for customer {} : {}", customer.getId(), creditLineAmount);
             CreditLine creditLine = buildCreditLine(customer, creditLineAmount);
 
-            log.info("Credit line successfully created. ID: {}", creditLine.getTotalCreditAmount());
+            log.debug("Credit line successfully created. ID: {}", creditLine.getTotalCreditAmount());
+            creditLineCache.invalidate(customer.getId());
+            customerCache.invalidate(customer.getId());
             return creditLineRepository.save(creditLine);
         } catch(IllegalArgumentException e){
             log.error("Customer does not meet credit line criteria {}: {}", customer.getId(), e.getMessage());
@@ -39,6 +51,26 @@ public class CreditLineServiceImpl implements CreditLineService {
         }
     }
 
+    @Override
+    public List<CreditLine> createCreditLines(List<Customer> customers){
+        log.info("Starting credit line creation for {} customers", customers.size());
+        List<CreditLine> creditLines = customers.stream()
+                .map(customer -> {
+                    int age = dateHelper.calculateAge(customer.getDateOfBirth());
+                    validateAgeEligibility(age);
+                    return buildCreditLine(customer, determineCreditLineAmount(age));
+                })
+                .toList();
+
+        customers.forEach(customer -> creditLineCache.invalidate(customer.getId()));
+        return creditLineRepository.saveAll(creditLines);
+    }
+
+    @Override
+    public void validateEligibility(LocalDate dateOfBirth){
+        validateAgeEligibility(dateHelper.calculateAge(dateOfBirth));
+    }
+
     @Override
     public CreditLine getCustomerCreditLine(Customer customer){
         log.debug("Searching credit line with active status for customer: {}", customer.getId());
@@ -53,12 +85,45 @@ public class CreditLineServiceImpl implements CreditLineService {
     }
 
     @Override
-    public void updateCreditLine(CreditLine creditLine, BigDecimal amount) {
-        log.info("Updating credit line {} - Current credit amount: {} - Amount to subtract: {}", creditLine.getId(), creditLine.getAvailableCreditAmount(), amount);
-        BigDecimal newAvailableCredit = creditLine.getAvailableCreditAmount().subtract(amount);
-        creditLine.setAvailableCreditAmount(newAvailableCredit);
-        CreditLine updatedCreditLine = creditLineRepository.save(creditLine);
-        log.debug("Updated credit line, new credit amount: {}", updatedCreditLine.getAvailableCreditAmount());
+    @Timed(value = "rubalv.credit_line.lookup", histogram = true)
+    public CustomerCreditLineRow getActiveCreditLine(UUID customerId) {
+        return creditLineCache.get(customerId, creditLineRepository::findCustomerCreditLine)
+                .orElseThrow(() -> new CustomerNotFoundException(customerId));
+    }
+
+    @Override
+    public CreditLine getCreditLineReference(UUID creditLineId) {
+        return creditLineRepository.getReferenceById(creditLineId);
+    }
+
+    @Override
+    public BigDecimal getAvailableCredit(UUID creditLineId) {
+        return creditLineRepository.findAvailableCreditAmount(creditLineId);
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = "rubalv.credit_line.reservation", histogram = true)
+    public boolean updateCreditLine(UUID creditLineId, UUID customerId, BigDecimal amount) {
+        log.debug("Reserving credit from credit line {} - Amount to subtract: {}", creditLineId, amount);
+        customerCache.invalidate(customerId);
+        boolean reserved = creditLineRepository.reserveCredit(creditLineId, amount) > 0;
+        if(!reserved){
+            log.warn("Credit line {} has not enough available credit to reserve {}", creditLineId, amount);
+            // the reservation also fails when the line is no longer active, so the cached line is not trusted again
+            creditLineCache.invalidate(customerId);
+        }
+        return reserved;
+    }
+
+    @Override
+    @Transactional
+    public void restoreCredit(UUID creditLineId, UUID customerId, BigDecimal amount) {
+        log.debug("Restoring credit to credit line {} - Amount to add: {}", creditLineId, amount);
+        customerCache.invalidate(customerId);
+        if (creditLineRepository.restoreCredit(creditLineId, amount) == 0) {
+            throw new CreditRestoreConflictException("Restoring " + amount + " would exceed the total credit of credit line " + creditLineId);
+        }
     }
 
     private void validateAgeEligibility(int age){
@@ -0,0 +1,9 @@
+package com.bnpl.rubalv.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface CustomerBatchService {
+    void registerCustomers(InputStream requestStream, OutputStream resultStream) throws IOException;
+}
@@ -0,0 +1,149 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.request.CreateCustomerRequestDto;
+import com.bnpl.rubalv.dto.response.CustomerBatchItemResult;
+import com.bnpl.rubalv.dto.response.CustomerRegistrationResult;
+import com.bnpl.rubalv.utils.helpers.JsonStreamReader;
+import com.bnpl.rubalv.utils.helpers.NdjsonWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class CustomerBatchServiceImpl implements CustomerBatchService {
+    private static final String INTERNAL_ERROR = "APZ000001";
+    private static final String VALIDATION_ERROR = "APZ000002";
+    private static final String INVALID_REQUEST = "APZ000004";
+
+    private final CustomerService customerService;
+    private final CreditLineService creditLineService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public CustomerBatchServiceImpl(CustomerService customerService,
+                                    CreditLineService creditLineService,
+                                    ObjectMapper objectMapper,
+                                    Validator validator,
+                                    @Value("${customers.batch.chunk-size:500}") int chunkSize) {
+        this.customerService = customerService;
+        this.creditLineService = creditLineService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void registerCustomers(InputStream requestStream, OutputStream resultStream) throws IOException {
+        try (JsonStreamReader reader = new JsonStreamReader(objectMapper, requestStream);
+             NdjsonWriter writer = new NdjsonWriter(objectMapper, resultStream)) {
+            List<PendingCustomer> chunk = new ArrayList<>(chunkSize);
+            long index = 0;
+            while (true) {
+                JsonNode node;
+                try {
+                    node = reader.next();
+                } catch (JsonProcessingException e) {
+                    log.warn("Customer batch aborted at item {}: malformed JSON", index);
+                    writer.write(CustomerBatchItemResult.rejected(index, INVALID_REQUEST, "Malformed JSON: " + e.getOriginalMessage()));
+                    break;
+                }
+                if (node == null) {
+                    break;
+                }
+
+                CreateCustomerRequestDto request = toValidRequest(index, node, writer);
+                if (request != null) {
+                    chunk.add(new PendingCustomer(index, request));
+                    if (chunk.size() >= chunkSize) {
+                        registerChunk(chunk, writer);
+                    }
+                }
+                index++;
+            }
+            registerChunk(chunk, writer);
+            log.info("Customer batch processed: {} items", index);
+        }
+    }
+
+    private CreateCustomerRequestDto toValidRequest(long index, JsonNode node, NdjsonWriter writer) throws IOException {
+        CreateCustomerRequestDto request;
+        try {
+            request = objectMapper.treeToValue(node, CreateCustomerRequestDto.class);
+        } catch (JsonProcessingException e) {
+            writer.write(CustomerBatchItemResult.rejected(index, VALIDATION_ERROR, e.getOriginalMessage()));
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateCustomerRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String errors = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ", "Validation errors: [", "]"));
+            writer.write(CustomerBatchItemResult.rejected(index, VALIDATION_ERROR, errors));
+            return null;
+        }
+
+        try {
+            creditLineService.validateEligibility(request.getDateOfBirth());
+        } catch (IllegalArgumentException e) {
+            writer.write(CustomerBatchItemResult.rejected(index, INVALID_REQUEST, e.getMessage()));
+            return null;
+        }
+        return request;
+    }
+
+    private void registerChunk(List<PendingCustomer> chunk, NdjsonWriter writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<CustomerRegistrationResult> results = customerService.registerCustomers(
+                    chunk.stream().map(PendingCustomer::request).toList());
+            for (int i = 0; i < results.size(); i++) {
+                writer.write(created(chunk.get(i).index(), results.get(i)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Customer batch chunk of {} items failed, registering one by one: {}", chunk.size(), e.getMessage());
+            for (PendingCustomer pending : chunk) {
+                writer.write(registerSingle(pending));
+            }
+        }
+        chunk.clear();
+        writer.flush();
+    }
+
+    private CustomerBatchItemResult registerSingle(PendingCustomer pending) {
+        try {
+            return created(pending.index(), customerService.registerCustomer(pending.request()));
+        } catch (IllegalArgumentException e) {
+            return CustomerBatchItemResult.rejected(pending.index(), INVALID_REQUEST, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Customer batch item {} failed: {}", pending.index(), e.getMessage(), e);
+            return CustomerBatchItemResult.rejected(pending.index(), INTERNAL_ERROR, "Internal server error");
+        }
+    }
+
+    private CustomerBatchItemResult created(long index, CustomerRegistrationResult result) {
+        return CustomerBatchItemResult.created(index, result.getCustomer().getId(), result.getToken());
+    }
+
+    private record PendingCustomer(long index, CreateCustomerRequestDto request) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.CacheConfig;
+import com.bnpl.rubalv.dto.response.CustomerResponseDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through view of {@link CacheConfig#CUSTOMERS_CACHE}. The cached response carries the mutable available
+ * credit, so it is guarded like {@link CreditLineCache}: a load racing a credit line write is dropped instead of
+ * outliving the eviction until the TTL.
+ */
+@Component
+public class CustomerCache {
+    private final Cache cache;
+    private final VersionStripes versions = new VersionStripes();
+
+    public CustomerCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE);
+    }
+
+    public CustomerResponseDto get(UUID customerId, Function<UUID, CustomerResponseDto> loader) {
+        CustomerResponseDto cached = cache.get(customerId, CustomerResponseDto.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = versions.current(customerId);
+        CustomerResponseDto loaded = loader.apply(customerId);
+        // putIfAbsent and evictIfPresent act immediately, even for a caller inside a transaction
+        cache.putIfAbsent(customerId, loaded);
+        if (versions.movedSince(customerId, version)) {
+            cache.evictIfPresent(customerId);
+        }
+        return loaded;
+    }
+
+    public void invalidate(UUID customerId) {
+        if (customerId == null) {
+            // not persisted yet, so it cannot have been cached
+            return;
+        }
+        versions.invalidate(customerId, cache::evictIfPresent);
+    }
+}
@@ -5,10 +5,12 @@ import com.bnpl.rubalv.dto.response.CustomerRegistrationResult;
 import com.bnpl.rubalv.dto.response.CustomerResponseDto;
 import com.bnpl.rubalv.model.Customer;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CustomerService {
     CustomerRegistrationResult registerCustomer(CreateCustomerRequestDto customerRequest);
+    List<CustomerRegistrationResult> registerCustomers(List<CreateCustomerRequestDto> customerRequests);
     CustomerResponseDto getCustomerById(UUID id);
     Customer findCustomerById(UUID id);
 }
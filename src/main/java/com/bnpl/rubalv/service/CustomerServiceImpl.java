@@ -3,16 +3,20 @@ package com.bnpl.rubalv.service;
 import com.bnpl.rubalv.dto.request.CreateCustomerRequestDto;
 import com.bnpl.rubalv.dto.response.CustomerRegistrationResult;
 import com.bnpl.rubalv.dto.response.CustomerResponseDto;
+import com.bnpl.rubalv.enums.OutboxEventType;
 import com.bnpl.rubalv.exception.CustomerNotFoundException;
 import com.bnpl.rubalv.mapper.CustomerMapper;
 import com.bnpl.rubalv.model.CreditLine;
 import com.bnpl.rubalv.model.Customer;
 import com.bnpl.rubalv.repository.CustomerRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,31 +28,59 @@ public class CustomerServiceImpl implements CustomerService{
     private final CreditLineService creditLineService;
     private final CustomerMapper customerMapper;
     private final JwtTokenService jwtTokenService;
+    private final OutboxService outboxService;
+    private final CustomerCache customerCache;
 
     @Override
     @Transactional
+    @Timed(value = "rubalv.customer.registration", histogram = true)
     public CustomerRegistrationResult registerCustomer(CreateCustomerRequestDto customerRequest){
-        log.info("Start customer registration for customer: {}", customerRequest.getFirstName());
+        log.debug("Start customer registration for customer: {}", customerRequest.getFirstName());
         Customer customerEntity = customerMapper.toEntity(customerRequest);
         Customer savedCustomer = customerRepository.save(customerEntity);
         CreditLine clientCreditLine;
         try {
-            log.info("Customer created, determining credit line: {}", savedCustomer.getId());
+            log.debug("Customer created, determining credit line: {}", savedCustomer.getId());
             clientCreditLine = creditLineService.createCreditLine(savedCustomer);
         } catch (IllegalArgumentException e) {
             log.error("Error while creating new customer: {}", e.getMessage(), e);
             throw e;
         }
 
-        log.info("Customer and his credit line successfully created. Creating JWT");
+        log.debug("Customer and his credit line successfully created. Creating JWT");
         String token = jwtTokenService.generateToken(savedCustomer.getId());
         CustomerResponseDto customerResponseDto = customerMapper.mapToCustomerResponseDto(savedCustomer, Optional.of(clientCreditLine));
+        outboxService.record(OutboxEventType.CUSTOMER_REGISTERED, savedCustomer.getId(), customerResponseDto);
 
         return new CustomerRegistrationResult(customerResponseDto, token);
     }
 
+    @Override
+    @Transactional
+    public List<CustomerRegistrationResult> registerCustomers(List<CreateCustomerRequestDto> customerRequests){
+        log.info("Start batch registration for {} customers", customerRequests.size());
+        List<Customer> savedCustomers = customerRepository.saveAll(customerRequests.stream()
+                .map(customerMapper::toEntity)
+                .toList());
+        List<CreditLine> creditLines = creditLineService.createCreditLines(savedCustomers);
+
+        List<CustomerRegistrationResult> results = new ArrayList<>(savedCustomers.size());
+        for (int i = 0; i < savedCustomers.size(); i++) {
+            Customer customer = savedCustomers.get(i);
+            CustomerResponseDto customerResponseDto = customerMapper.mapToCustomerResponseDto(customer, Optional.of(creditLines.get(i)));
+            results.add(new CustomerRegistrationResult(customerResponseDto, jwtTokenService.generateToken(customer.getId())));
+        }
+        outboxService.recordAll(OutboxEventType.CUSTOMER_REGISTERED,
+                results.stream().map(CustomerRegistrationResult::getCustomer).toList(), CustomerResponseDto::getId);
+        return results;
+    }
+
     @Override
     public CustomerResponseDto getCustomerById(UUID id){
+        return customerCache.get(id, this::loadCustomer);
+    }
+
+    private CustomerResponseDto loadCustomer(UUID id){
         return customerRepository.findById(id).map(customer -> {
                     Optional<CreditLine> creditLine = Optional.ofNullable(creditLineService.getCustomerCreditLine(customer));
                     return customerMapper.mapToCustomerResponseDto(customer, creditLine);
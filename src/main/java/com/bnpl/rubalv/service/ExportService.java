@@ -0,0 +1,10 @@
+package com.bnpl.rubalv.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+
+public interface ExportService {
+    long exportLoans(OffsetDateTime from, OffsetDateTime to, OutputStream outputStream) throws IOException;
+    long exportInstallments(OffsetDateTime from, OffsetDateTime to, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,61 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.repository.LoanRepository;
+import com.bnpl.rubalv.utils.helpers.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+    private static final OffsetDateTime EARLIEST = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final LoanRepository loanRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportLoans(OffsetDateTime from, OffsetDateTime to, OutputStream outputStream) throws IOException {
+        OffsetDateTime start = from != null ? from : EARLIEST;
+        OffsetDateTime end = to != null ? to : OffsetDateTime.now();
+        log.info("Exporting loans created between {} and {}", start, end);
+        try (Stream<?> rows = loanRepository.streamLoansCreatedBetween(start, end)) {
+            return write(rows, outputStream);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportInstallments(OffsetDateTime from, OffsetDateTime to, OutputStream outputStream) throws IOException {
+        OffsetDateTime start = from != null ? from : EARLIEST;
+        OffsetDateTime end = to != null ? to : OffsetDateTime.now();
+        log.info("Exporting installments of loans created between {} and {}", start, end);
+        try (Stream<?> rows = loanRepository.streamInstallmentsOfLoansCreatedBetween(start, end)) {
+            return write(rows, outputStream);
+        }
+    }
+
+    private long write(Stream<?> rows, OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream)) {
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+        }
+        log.info("Export finished: {} rows", count);
+        return count;
+    }
+}
@@ -0,0 +1,11 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.request.LoanRequestDto;
+import com.bnpl.rubalv.dto.response.LoanResponseDto;
+
+import java.util.Optional;
+
+public interface IdempotencyService {
+    Optional<LoanResponseDto> claim(String key, LoanRequestDto loanRequest);
+    void complete(String key, LoanRequestDto loanRequest, LoanResponseDto response);
+}
@@ -0,0 +1,141 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.CacheConfig;
+import com.bnpl.rubalv.dto.request.LoanRequestDto;
+import com.bnpl.rubalv.dto.response.LoanResponseDto;
+import com.bnpl.rubalv.exception.IdempotencyKeyReusedException;
+import com.bnpl.rubalv.model.IdempotencyKey;
+import com.bnpl.rubalv.repository.IdempotencyKeyRepository;
+import com.bnpl.rubalv.utils.helpers.UuidV7;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache cache;
+    private final Duration retention;
+
+    public IdempotencyServiceImpl(IdempotencyKeyRepository idempotencyKeyRepository,
+                                  ObjectMapper objectMapper,
+                                  CacheManager cacheManager,
+                                  @Value("${idempotency.retention-hours:24}") long retentionHours) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.cache = cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS_CACHE);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * Returns the stored response when the key was already used for this customer, otherwise claims it for the
+     * caller's transaction. Must run in the same transaction that registers the loan, so a rollback releases it.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<LoanResponseDto> claim(String key, LoanRequestDto loanRequest) {
+        validateKey(key);
+        String cacheKey = cacheKey(loanRequest.getCustomerId(), key);
+        String requestHash = requestHash(loanRequest);
+
+        StoredResponse cached = cache.get(cacheKey, StoredResponse.class);
+        if (cached != null) {
+            return Optional.of(replay(cached, key, requestHash));
+        }
+
+        if (idempotencyKeyRepository.claim(UuidV7.next(), loanRequest.getCustomerId(), key, requestHash) == 1) {
+            return Optional.empty();
+        }
+
+        IdempotencyKey stored = idempotencyKeyRepository.findByCustomerIdAndKey(loanRequest.getCustomerId(), key)
+                .filter(idempotencyKey -> idempotencyKey.getResponse() != null)
+                .orElseThrow(() -> new IllegalStateException("Idempotency key " + key + " has no stored response"));
+        StoredResponse storedResponse = new StoredResponse(stored.getRequestHash(), read(stored.getResponse()));
+        cache.put(cacheKey, storedResponse);
+        return Optional.of(replay(storedResponse, key, requestHash));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(String key, LoanRequestDto loanRequest, LoanResponseDto response) {
+        idempotencyKeyRepository.complete(loanRequest.getCustomerId(), key, response.getId(), write(response));
+        cache.put(cacheKey(loanRequest.getCustomerId(), key), new StoredResponse(requestHash(loanRequest), response));
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpiredKeys() {
+        int purged = idempotencyKeyRepository.deleteCreatedBefore(OffsetDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} idempotency keys older than {}", purged, retention);
+        }
+    }
+
+    private LoanResponseDto replay(StoredResponse stored, String key, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            log.warn("Idempotency key {} reused with a different request", key);
+            throw new IdempotencyKeyReusedException(key);
+        }
+        log.debug("Replaying loan {} for idempotency key {}", stored.response().getId(), key);
+        return stored.response();
+    }
+
+    private void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private LoanResponseDto read(String json) {
+        try {
+            return objectMapper.readValue(json, LoanResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored loan response cannot be read", e);
+        }
+    }
+
+    private String write(LoanResponseDto response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Loan response cannot be stored", e);
+        }
+    }
+
+    private static String cacheKey(UUID customerId, String key) {
+        return customerId + ":" + key;
+    }
+
+    private static String requestHash(LoanRequestDto loanRequest) {
+        String canonical = loanRequest.getCustomerId() + ":" + loanRequest.getAmount().stripTrailingZeros().toPlainString();
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, LoanResponseDto response) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.LifecycleProperties;
+import com.bnpl.rubalv.dto.projection.LifecycleTransitions;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Advances installment and loan statuses for the current business date. The first tick of a day sweeps every open
+ * loan; later ticks only pick up partitions left unfinished by a failed or interrupted run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "lifecycle", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InstallmentLifecycleJob {
+    private final InstallmentLifecycleService lifecycleService;
+    private final LifecycleProperties lifecycleProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = "${lifecycle.cron:0 */15 * * * *}", zone = "${lifecycle.zone:UTC}")
+    public void runScheduled() {
+        run(LocalDate.now(lifecycleProperties.getZone()));
+    }
+
+    public LifecycleTransitions run(LocalDate runDate) {
+        List<Integer> partitions = lifecycleService.preparePartitions(runDate, lifecycleProperties.getPartitions());
+        if (partitions.isEmpty()) {
+            return LifecycleTransitions.NONE;
+        }
+
+        log.info("Installment lifecycle run {} processing partitions {}", runDate, partitions);
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(partitions.size(), lifecycleProperties.getPartitions()),
+                new CustomizableThreadFactory("lifecycle-"));
+        try {
+            List<Future<LifecycleTransitions>> results = new ArrayList<>(partitions.size());
+            for (int partition : partitions) {
+                results.add(executor.submit(() -> advancePartition(runDate, partition)));
+            }
+            LifecycleTransitions total = LifecycleTransitions.NONE;
+            for (Future<LifecycleTransitions> result : results) {
+                total = total.plus(await(result));
+            }
+            log.info("Installment lifecycle run {} finished: {}", runDate, total);
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LifecycleTransitions advancePartition(LocalDate runDate, int partition) {
+        LifecycleTransitions total = LifecycleTransitions.NONE;
+        Optional<LifecycleTransitions> chunk;
+        while ((chunk = lifecycleService.advanceChunk(runDate, partition, lifecycleProperties.getChunkSize())).isPresent()) {
+            record(chunk.get());
+            total = total.plus(chunk.get());
+        }
+        return total;
+    }
+
+    private LifecycleTransitions await(Future<LifecycleTransitions> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            log.error("Installment lifecycle partition failed, it resumes from its checkpoint on the next run", e.getCause());
+            return LifecycleTransitions.NONE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Installment lifecycle run interrupted", e);
+        }
+    }
+
+    private void record(LifecycleTransitions transitions) {
+        increment("installment_next", transitions.installmentsMarkedNext());
+        increment("loan_completed", transitions.loansCompleted());
+        increment("loan_late", transitions.loansMarkedLate());
+        increment("loan_reactivated", transitions.loansReactivated());
+    }
+
+    private void increment(String transition, long count) {
+        meterRegistry.counter("rubalv.lifecycle.transitions", "transition", transition).increment(count);
+    }
+}
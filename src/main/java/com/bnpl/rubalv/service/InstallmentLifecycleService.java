@@ -0,0 +1,12 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.projection.LifecycleTransitions;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface InstallmentLifecycleService {
+    List<Integer> preparePartitions(LocalDate runDate, int partitions);
+    Optional<LifecycleTransitions> advanceChunk(LocalDate runDate, int partition, int chunkSize);
+}
@@ -0,0 +1,83 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.projection.LifecycleCheckpoint;
+import com.bnpl.rubalv.dto.projection.LifecycleTransitions;
+import com.bnpl.rubalv.repository.InstallmentLifecycleRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InstallmentLifecycleServiceImpl implements InstallmentLifecycleService {
+    static final UUID MIN_LOAN_ID = new UUID(0L, 0L);
+    static final UUID MAX_LOAN_ID = new UUID(-1L, -1L);
+
+    private final InstallmentLifecycleRepository lifecycleRepository;
+    private final LoanViewService loanViewService;
+
+    /**
+     * Splits the open loans of a run into id ranges of similar size the first time the run date is seen, and returns
+     * the partitions that still have loans to process.
+     */
+    @Override
+    @Transactional
+    public List<Integer> preparePartitions(LocalDate runDate, int partitions) {
+        if (lifecycleRepository.countCheckpoints(runDate) == 0) {
+            List<UUID> bounds = new ArrayList<>(partitions + 1);
+            bounds.add(MIN_LOAN_ID);
+            lifecycleRepository.findPartitionBounds(partitions).stream()
+                    .filter(bound -> !bound.equals(MAX_LOAN_ID))
+                    .forEach(bounds::add);
+            bounds.add(MAX_LOAN_ID);
+            lifecycleRepository.insertCheckpoints(runDate, bounds);
+            log.info("Installment lifecycle run {} split into {} partitions", runDate, bounds.size() - 1);
+        }
+        return lifecycleRepository.findIncompletePartitions(runDate);
+    }
+
+    /**
+     * Applies every transition to the next chunk of the partition and moves its checkpoint in the same transaction,
+     * so an interrupted run resumes after the last committed chunk. Only the loans a transition changed have their
+     * view rows rebuilt. Empty once the partition is done or while another worker holds it.
+     */
+    @Override
+    @Transactional
+    @Timed(value = "rubalv.lifecycle.chunk", histogram = true)
+    public Optional<LifecycleTransitions> advanceChunk(LocalDate runDate, int partition, int chunkSize) {
+        Optional<LifecycleCheckpoint> checkpoint = lifecycleRepository.lockCheckpoint(runDate, partition);
+        if (checkpoint.isEmpty()) {
+            return Optional.empty();
+        }
+
+        UUID after = checkpoint.get().lastLoanId();
+        UUID until = lifecycleRepository.findChunkEnd(after, checkpoint.get().upperBound(), chunkSize)
+                .orElse(checkpoint.get().upperBound());
+
+        List<UUID> completed = lifecycleRepository.completeLoans(after, until);
+        List<UUID> late = lifecycleRepository.markLateLoans(after, until, runDate);
+        List<UUID> reactivated = lifecycleRepository.reactivateLoans(after, until, runDate);
+        List<UUID> next = lifecycleRepository.markNextInstallments(after, until);
+
+        Set<UUID> touched = new HashSet<>(completed);
+        touched.addAll(late);
+        touched.addAll(reactivated);
+        touched.addAll(next);
+        loanViewService.refresh(touched);
+        lifecycleRepository.advanceCheckpoint(runDate, partition, until);
+
+        log.debug("Lifecycle partition {} advanced to {}, {} loans changed", partition, until, touched.size());
+        return Optional.of(new LifecycleTransitions(1, next.size(), completed.size(), late.size(), reactivated.size()));
+    }
+}
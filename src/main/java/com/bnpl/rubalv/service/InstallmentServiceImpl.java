@@ -3,11 +3,11 @@ package com.bnpl.rubalv.service;
 import com.bnpl.rubalv.enums.InstallmentStatus;
 import com.bnpl.rubalv.model.Installment;
 import com.bnpl.rubalv.model.Loan;
+import com.bnpl.rubalv.utils.helpers.MoneyHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,12 +18,13 @@ import java.util.List;
 public class InstallmentServiceImpl implements InstallmentService {
 
     @Override
-    public List<Installment> generateInstallments(Loan loan, BigDecimal installmentAmount, List<LocalDate> paymentDates) {
-        log.info("Generating loan installments");
-        List<Installment> installments = new ArrayList<>();
-        for (int i = 0; i < paymentDates.size(); i++) {
+    public List<Installment> generateInstallments(Loan loan, long totalAmountMinorUnits, List<LocalDate> paymentDates) {
+        log.debug("Generating loan installments");
+        int numberOfInstallments = paymentDates.size();
+        List<Installment> installments = new ArrayList<>(numberOfInstallments);
+        for (int i = 0; i < numberOfInstallments; i++) {
             Installment installment = Installment.builder()
-                    .amount(installmentAmount)
+                    .amount(MoneyHelper.fromMinorUnits(MoneyHelper.share(totalAmountMinorUnits, numberOfInstallments, i)))
                     .scheduledPaymentDate(paymentDates.get(i))
                     .status(InstallmentStatus.PENDING)
                     .installmentNumber(i + 1)
@@ -31,7 +32,7 @@ public class InstallmentServiceImpl implements InstallmentService {
                     .build();
             installments.add(installment);
         }
-        log.info("Loan installments: {}", installments.size());
+        log.debug("Loan installments: {}", installments.size());
         return installments;
     }
 }
@@ -6,5 +6,6 @@ import java.util.UUID;
 
 public interface JwtTokenService {
     String generateToken(UUID customerId);
+    String generateOperatorToken(String clientId);
     Authentication validateToken(String token);
 }
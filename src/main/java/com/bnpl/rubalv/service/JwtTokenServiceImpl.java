@@ -1,21 +1,21 @@
 package com.bnpl.rubalv.service;
 
+import com.bnpl.rubalv.config.JwtProperties;
+import com.bnpl.rubalv.security.JwtAuthenticationToken;
+import com.bnpl.rubalv.security.JwtKeyRing;
+import com.bnpl.rubalv.security.JwtSigningKey;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -25,34 +25,40 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Slf4j
 public class JwtTokenServiceImpl implements JwtTokenService{
-    @Value("${jwt.secret}")
-    private String base64Secret;
+    static final String CUSTOMER_ROLE = "ROLE_CUSTOMER";
+    static final String OPERATOR_ROLE = "ROLE_OPERATOR";
 
-    @Value("${jwt.expiration:86400}")
-    private long expiration;
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtProperties jwtProperties;
 
-    private SecretKey getSigningKey(){
-        byte[] keyBytes = Decoders.BASE64.decode(base64Secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Override
+    public String generateToken(UUID customerId) {
+        return sign(customerId.toString(), CUSTOMER_ROLE);
     }
 
     @Override
-    public String generateToken(UUID customerId) {
+    public String generateOperatorToken(String clientId) {
+        return sign(clientId, OPERATOR_ROLE);
+    }
+
+    private String sign(String subject, String role) {
+        long now = System.currentTimeMillis();
+        JwtSigningKey signingKey = jwtKeyRing.getActiveKey();
         return Jwts.builder()
-                .subject(customerId.toString())
-                .claim("role", "ROLE_CUSTOMER")
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .header().keyId(signingKey.keyId()).and()
+                .subject(subject)
+                .claim("role", role)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + jwtProperties.getExpiration() * 1000))
+                .signWith(signingKey.key(), Jwts.SIG.HS256)
                 .compact();
     }
 
     @Override
+    @Timed(value = "rubalv.jwt.validation", histogram = true)
     public Authentication validateToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            Claims claims = jwtKeyRing.getParser()
                     .parseSignedClaims(token)
                     .getPayload();
 
@@ -69,7 +75,7 @@ public class JwtTokenServiceImpl implements JwtTokenService{
 
             User principal = new User(subject, "", authorities);
 
-            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+            return new JwtAuthenticationToken(principal, null, authorities, claims.getExpiration().toInstant());
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
             return null;
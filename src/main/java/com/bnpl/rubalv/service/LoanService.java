@@ -1,11 +1,14 @@
 package com.bnpl.rubalv.service;
 
 import com.bnpl.rubalv.dto.request.LoanRequestDto;
+import com.bnpl.rubalv.dto.response.LoanPageResponseDto;
 import com.bnpl.rubalv.dto.response.LoanResponseDto;
+import com.bnpl.rubalv.enums.LoanStatus;
 
 import java.util.UUID;
 
 public interface LoanService {
-    LoanResponseDto registerLoan(LoanRequestDto loanRequest);
+    LoanResponseDto registerLoan(LoanRequestDto loanRequest, String idempotencyKey);
     LoanResponseDto getLoanById(UUID id);
+    LoanPageResponseDto getCustomerLoans(UUID customerId, LoanStatus status, String cursor, int limit);
 }
@@ -1,8 +1,13 @@
 package com.bnpl.rubalv.service;
 
+import com.bnpl.rubalv.dto.projection.CustomerCreditLineRow;
+import com.bnpl.rubalv.dto.projection.InstallmentRow;
+import com.bnpl.rubalv.dto.projection.LoanSummaryRow;
 import com.bnpl.rubalv.dto.request.LoanRequestDto;
+import com.bnpl.rubalv.dto.response.LoanPageResponseDto;
 import com.bnpl.rubalv.dto.response.LoanResponseDto;
 import com.bnpl.rubalv.enums.LoanStatus;
+import com.bnpl.rubalv.enums.OutboxEventType;
 import com.bnpl.rubalv.enums.PaymentScheme;
 import com.bnpl.rubalv.exception.BussinessException;
 import com.bnpl.rubalv.exception.ClientWithoutCreditLineException;
@@ -10,30 +15,41 @@ import com.bnpl.rubalv.exception.InsufficientCreditException;
 import com.bnpl.rubalv.exception.LoanNotFoundException;
 import com.bnpl.rubalv.mapper.LoanMapper;
 import com.bnpl.rubalv.model.CreditLine;
-import com.bnpl.rubalv.model.Customer;
 import com.bnpl.rubalv.model.Installment;
 import com.bnpl.rubalv.model.Loan;
 import com.bnpl.rubalv.repository.CustomerRepository;
 import com.bnpl.rubalv.repository.LoanRepository;
 import com.bnpl.rubalv.strategy.PaymentSchemeStrategy;
 import com.bnpl.rubalv.utils.helpers.DateHelper;
+import com.bnpl.rubalv.utils.helpers.LoanCursor;
+import com.bnpl.rubalv.utils.helpers.MoneyHelper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LoanServiceImpl implements LoanService {
+    static final int MAX_PAGE_SIZE = 100;
+    private static final Set<LoanStatus> ALL_STATUSES = EnumSet.allOf(LoanStatus.class);
+
     private final LoanRepository loanRepository;
     private final CustomerService customerService;
     private final CreditLineService creditLineService;
@@ -41,68 +57,110 @@ public class LoanServiceImpl implements LoanService {
     private final PaymentSchemeStrategy paymentSchemeStrategy;
     private final DateHelper dateHelper;
     private final LoanMapper loanMapper;
+    private final IdempotencyService idempotencyService;
+    private final OutboxService outboxService;
+    private final LoanViewService loanViewService;
 
     @Override
     @Transactional
-    public LoanResponseDto registerLoan(LoanRequestDto loanRequest) {
-        Customer customer = customerService.findCustomerById(loanRequest.getCustomerId());
-        CreditLine clientsCreditLine = creditLineService.getCustomerCreditLine(customer);
-        if(clientsCreditLine == null){
+    @Timed(value = "rubalv.loan.registration", histogram = true)
+    public LoanResponseDto registerLoan(LoanRequestDto loanRequest, String idempotencyKey) {
+        // resolved before the key is claimed: an unknown customer must be a 404, not a foreign key violation
+        CustomerCreditLineRow clientsCreditLine = creditLineService.getActiveCreditLine(loanRequest.getCustomerId());
+        if (idempotencyKey == null) {
+            return register(loanRequest, clientsCreditLine);
+        }
+        Optional<LoanResponseDto> replay = idempotencyService.claim(idempotencyKey, loanRequest);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+        LoanResponseDto response = register(loanRequest, clientsCreditLine);
+        idempotencyService.complete(idempotencyKey, loanRequest, response);
+        return response;
+    }
+
+    @Override
+    @Timed(value = "rubalv.loan.lookup", histogram = true)
+    public LoanResponseDto getLoanById(UUID id){
+        return loanViewService.find(id).orElseThrow(() -> new LoanNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "rubalv.loan.listing", histogram = true)
+    public LoanPageResponseDto getCustomerLoans(UUID customerId, LoanStatus status, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        LoanCursor position = LoanCursor.decode(cursor);
+        Collection<LoanStatus> statuses = status == null ? ALL_STATUSES : List.of(status);
+
+        List<LoanSummaryRow> rows = loanRepository.findCustomerLoansBefore(
+                customerId, statuses, position.createdAt(), position.id(), Limit.of(limit + 1));
+        if (rows.isEmpty()) {
+            customerService.findCustomerById(customerId);
+            return new LoanPageResponseDto(List.of(), null);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<LoanSummaryRow> page = hasMore ? rows.subList(0, limit) : rows;
+        Map<UUID, List<InstallmentRow>> installments = loanRepository
+                .findInstallmentsByLoanIds(page.stream().map(LoanSummaryRow::loanId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(InstallmentRow::loanId));
+
+        List<LoanResponseDto> loans = page.stream()
+                .map(row -> loanMapper.toResponseDto(customerId, row, installments.getOrDefault(row.loanId(), List.of())))
+                .toList();
+        LoanSummaryRow last = page.get(page.size() - 1);
+        String nextCursor = hasMore ? new LoanCursor(last.createdAt(), last.loanId()).encode() : null;
+        return new LoanPageResponseDto(loans, nextCursor);
+    }
+
+    private LoanResponseDto register(LoanRequestDto loanRequest, CustomerCreditLineRow clientsCreditLine) {
+        if(clientsCreditLine.creditLineId() == null){
             log.error("Customer {} does not have an active credit line", loanRequest.getCustomerId());
             throw new ClientWithoutCreditLineException("Client does not have an active credit line");
         }
 
-        try{
-            validatePurchaseAmount(loanRequest.getAmount(), clientsCreditLine);
-        }catch(InsufficientCreditException ex){
-            log.warn(
-                    "Loan amount exceeds available credit. Customer: {}, Amount: {}, Available: {}",
-                    loanRequest.getCustomerId(),
-                    loanRequest.getAmount(),
-                    clientsCreditLine.getAvailableCreditAmount()
-                    );
-            throw ex;
-        }
+        reserveCredit(loanRequest, clientsCreditLine);
 
-        PaymentScheme scheme = paymentSchemeStrategy.determinePaymentSchema(customer);
+        PaymentScheme scheme = paymentSchemeStrategy.determinePaymentSchema(clientsCreditLine.firstName(), clientsCreditLine.sequentialId());
 
-        Loan loan = buildLoanEntity(loanRequest, clientsCreditLine, scheme);
+        Loan loan = buildLoanEntity(loanRequest, creditLineService.getCreditLineReference(clientsCreditLine.creditLineId()), scheme);
         calculateLoanDetails(loan, loanRequest.getAmount(), scheme);
         Loan savedLoan = loanRepository.save(loan);
 
-        creditLineService.updateCreditLine(clientsCreditLine, loanRequest.getAmount());
-
-        return loanMapper.toResponseDto(savedLoan.getId(), loanRequest.getCustomerId(), savedLoan.getStatus(), savedLoan.getCreatedAt().toInstant(), savedLoan.getCommissionAmount(), savedLoan.getInstallments());
+        LoanResponseDto response = loanMapper.toResponseDto(savedLoan.getId(), loanRequest.getCustomerId(), savedLoan.getStatus(), savedLoan.getCreatedAt().toInstant(), savedLoan.getCommissionAmount(), savedLoan.getInstallments());
+        loanViewService.record(response);
+        outboxService.record(OutboxEventType.LOAN_REGISTERED, savedLoan.getId(), response);
+        return response;
     }
 
-    @Override
-    public LoanResponseDto getLoanById(UUID id){
-        return loanRepository.findById(id)
-                .map(loan ->
-                        loanMapper.toResponseDto(loan.getId(), loan.getCreditLine().getCustomer().getId(), loan.getStatus(), loan.getCreatedAt().toInstant(), loan.getCommissionAmount(), loan.getInstallments())
-                ).orElseThrow(() -> new LoanNotFoundException(id));
-    }
-
-    private void validatePurchaseAmount(BigDecimal amount, CreditLine creditLine){
-        if(amount.compareTo(creditLine.getAvailableCreditAmount()) > 0){
-            throw new InsufficientCreditException("Amount surpass available credit. Available credit: "+ creditLine.getAvailableCreditAmount());
+    private void reserveCredit(LoanRequestDto loanRequest, CustomerCreditLineRow creditLine){
+        if(!creditLineService.updateCreditLine(creditLine.creditLineId(), creditLine.customerId(), loanRequest.getAmount())){
+            log.warn(
+                    "Loan amount exceeds available credit. Customer: {}, Amount: {}",
+                    loanRequest.getCustomerId(),
+                    loanRequest.getAmount()
+            );
+            throw new InsufficientCreditException("Amount surpass available credit. Available credit: "+ creditLineService.getAvailableCredit(creditLine.creditLineId()));
         }
     }
 
-    private void calculateLoanDetails(Loan loan, BigDecimal amount, PaymentScheme scheme){
-        log.info("Loan details calculation");
-        BigDecimal interestRate = scheme.getInterestRate();
-        BigDecimal commission = amount.multiply(interestRate).setScale(2, RoundingMode.HALF_UP);
-        BigDecimal totalAmount = amount.add(commission);
-        BigDecimal installmentAmount = totalAmount.divide(BigDecimal.valueOf(scheme.getNumberOfPayments()), 2, RoundingMode.HALF_UP);
+    void calculateLoanDetails(Loan loan, BigDecimal amount, PaymentScheme scheme){
+        log.debug("Loan details calculation");
+        long amountMinorUnits = MoneyHelper.toMinorUnits(amount);
+        long commission = MoneyHelper.applyRate(amountMinorUnits, scheme.getInterestRateBasisPoints());
+        long totalAmount = Math.addExact(amountMinorUnits, commission);
         List<Installment> installments = installmentService.generateInstallments(
-                loan, installmentAmount, dateHelper.generatePaymentSchedule(LocalDate.now(), scheme)
+                loan, totalAmount, dateHelper.generatePaymentSchedule(LocalDate.now(), scheme)
         );
 
-        log.info("Loan successfully calculated: {}", totalAmount);
         loan.setInstallments(installments);
-        loan.setCommissionAmount(commission);
-        loan.setTotalAmount(totalAmount);
+        loan.setCommissionAmount(MoneyHelper.fromMinorUnits(commission));
+        loan.setTotalAmount(MoneyHelper.fromMinorUnits(totalAmount));
+        log.debug("Loan successfully calculated: {}", loan.getTotalAmount());
     }
 
     private Loan buildLoanEntity(LoanRequestDto request, CreditLine creditLine, PaymentScheme scheme){
@@ -0,0 +1,13 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.response.LoanResponseDto;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface LoanViewService {
+    void record(LoanResponseDto loan);
+    void refresh(Collection<UUID> loanIds);
+    Optional<LoanResponseDto> find(UUID loanId);
+}
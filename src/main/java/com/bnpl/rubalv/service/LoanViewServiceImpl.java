@@ -0,0 +1,78 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.projection.LoanViewRow;
+import com.bnpl.rubalv.dto.response.InstallmentResponseDto;
+import com.bnpl.rubalv.dto.response.LoanResponseDto;
+import com.bnpl.rubalv.mapper.LoanMapper;
+import com.bnpl.rubalv.repository.LoanViewRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoanViewServiceImpl implements LoanViewService {
+    private static final TypeReference<List<InstallmentResponseDto>> INSTALLMENTS = new TypeReference<>() {
+    };
+
+    private final LoanViewRepository loanViewRepository;
+    private final LoanMapper loanMapper;
+    private final ObjectMapper objectMapper;
+
+    /** Writes the view row of a new loan from its response, without reading the rows just inserted back. */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(LoanResponseDto loan) {
+        loanViewRepository.upsert(
+                loan.getId(),
+                loan.getCustomerId(),
+                loan.getStatus().name(),
+                loan.getPaymentPlan().getCommissionAmount(),
+                loan.getCreatedAt().atOffset(ZoneOffset.UTC),
+                toJson(loan.getPaymentPlan().getInstallments()));
+    }
+
+    /** Must run in the transaction that changed the loans, after the change, so readers never see a stale row. */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Collection<UUID> loanIds) {
+        if (loanIds.isEmpty()) {
+            return;
+        }
+        int refreshed = loanViewRepository.refresh(loanIds);
+        log.debug("Refreshed {} of {} loan view rows", refreshed, loanIds.size());
+    }
+
+    @Override
+    public Optional<LoanResponseDto> find(UUID loanId) {
+        return loanViewRepository.findRowById(loanId).map(this::toResponseDto);
+    }
+
+    private LoanResponseDto toResponseDto(LoanViewRow row) {
+        try {
+            return loanMapper.toResponseDto(row, objectMapper.readValue(row.installments(), INSTALLMENTS));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Loan view of " + row.loanId() + " cannot be read", e);
+        }
+    }
+
+    private String toJson(List<InstallmentResponseDto> installments) {
+        try {
+            return objectMapper.writeValueAsString(installments);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Loan view installments cannot be stored", e);
+        }
+    }
+}
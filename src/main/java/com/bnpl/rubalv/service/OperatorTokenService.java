@@ -0,0 +1,5 @@
+package com.bnpl.rubalv.service;
+
+public interface OperatorTokenService {
+    String issueToken(String clientId, String clientSecret);
+}
@@ -0,0 +1,33 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.JwtProperties;
+import com.bnpl.rubalv.exception.InvalidCredentialsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Issues {@code ROLE_OPERATOR} tokens to the back-office clients listed under {@code jwt.operators}. Payments, bulk
+ * onboarding, exports and the metrics endpoints are called with these tokens.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OperatorTokenServiceImpl implements OperatorTokenService {
+    private final JwtProperties jwtProperties;
+    private final JwtTokenService jwtTokenService;
+    private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+
+    @Override
+    public String issueToken(String clientId, String clientSecret) {
+        String encodedSecret = jwtProperties.getOperators().get(clientId);
+        if (encodedSecret == null || !passwordEncoder.matches(clientSecret, encodedSecret)) {
+            log.warn("Rejected operator token request for client {}", clientId);
+            throw new InvalidCredentialsException("Invalid operator credentials");
+        }
+        log.info("Issued operator token to client {}", clientId);
+        return jwtTokenService.generateOperatorToken(clientId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.OutboxProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the outbox in batches until it is empty or the per run limit is reached. Every instance may run it; row
+ * locks keep their batches disjoint.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayJob {
+    private final OutboxService outboxService;
+    private final OutboxProperties outboxProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void runScheduled() {
+        run();
+    }
+
+    public int run() {
+        OutboxProperties.Relay relay = outboxProperties.getRelay();
+        int total = 0;
+        for (int batch = 0; batch < relay.getMaxBatchesPerRun(); batch++) {
+            int relayed;
+            try {
+                relayed = outboxService.relayBatch(relay.getBatchSize());
+            } catch (RuntimeException e) {
+                meterRegistry.counter("rubalv.outbox.failures").increment();
+                log.error("Outbox relay failed, the batch is retried on the next run: {}", e.getMessage(), e);
+                break;
+            }
+            total += relayed;
+            if (relayed < relay.getBatchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.debug("Outbox relay published {} events", total);
+        }
+        return total;
+    }
+}
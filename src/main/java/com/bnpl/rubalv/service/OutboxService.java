@@ -0,0 +1,13 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.enums.OutboxEventType;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+public interface OutboxService {
+    void record(OutboxEventType eventType, UUID aggregateId, Object payload);
+    <T> void recordAll(OutboxEventType eventType, List<T> payloads, Function<T, UUID> aggregateId);
+    int relayBatch(int batchSize);
+}
@@ -0,0 +1,95 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.enums.OutboxEventType;
+import com.bnpl.rubalv.model.OutboxEvent;
+import com.bnpl.rubalv.outbox.OutboxMessage;
+import com.bnpl.rubalv.outbox.OutboxSink;
+import com.bnpl.rubalv.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Stores the event in the caller's transaction, so it is published exactly when the change it describes commits.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType eventType, UUID aggregateId, Object payload) {
+        recordAll(eventType, List.of(payload), ignored -> aggregateId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void recordAll(OutboxEventType eventType, List<T> payloads, Function<T, UUID> aggregateId) {
+        List<OutboxEvent> events = payloads.stream()
+                .map(payload -> OutboxEvent.builder()
+                        .aggregateType(eventType.getAggregateType())
+                        .aggregateId(aggregateId.apply(payload))
+                        .eventType(eventType)
+                        .payload(toJson(payload))
+                        .build())
+                .toList();
+        outboxEventRepository.saveAll(events);
+        meterRegistry.counter("rubalv.outbox.recorded", "event", eventType.name()).increment(events.size());
+    }
+
+    /**
+     * Publishes the oldest unlocked events and deletes them in one transaction. Delivery is at least once: when the
+     * commit fails after the sink accepted the batch, the events are published again by a later run.
+     */
+    @Override
+    @Transactional
+    @Timed(value = "rubalv.outbox.relay", histogram = true)
+    public int relayBatch(int batchSize) {
+        List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            outboxSink.publish(events.stream().map(OutboxMessage::from).toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Outbox sink rejected a batch of " + events.size() + " events", e);
+        }
+        outboxEventRepository.deleteByIds(events.stream().map(OutboxEvent::getId).toList());
+
+        OffsetDateTime now = OffsetDateTime.now();
+        for (OutboxEvent event : events) {
+            meterRegistry.counter("rubalv.outbox.published", "event", event.getEventType().name()).increment();
+            meterRegistry.timer("rubalv.outbox.lag").record(Duration.between(event.getCreatedAt(), now));
+        }
+        log.debug("Relayed {} outbox events", events.size());
+        return events.size();
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox event payload cannot be stored", e);
+        }
+    }
+}
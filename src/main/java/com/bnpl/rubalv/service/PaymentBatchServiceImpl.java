@@ -0,0 +1,162 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.request.PaymentRequestDto;
+import com.bnpl.rubalv.dto.response.PaymentBatchItemResult;
+import com.bnpl.rubalv.dto.response.PaymentSettlementResult;
+import com.bnpl.rubalv.exception.CreditRestoreConflictException;
+import com.bnpl.rubalv.exception.InstallmentNotFoundException;
+import com.bnpl.rubalv.exception.PaymentConflictException;
+import com.bnpl.rubalv.utils.helpers.JsonStreamReader;
+import com.bnpl.rubalv.utils.helpers.NdjsonWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class PaymentBatchServiceImpl implements PaymentBatchService {
+    private static final String INTERNAL_ERROR = "APZ000001";
+    private static final String VALIDATION_ERROR = "APZ000002";
+    private static final String INVALID_REQUEST = "APZ000004";
+    private static final String INSTALLMENT_NOT_FOUND = "APZ000012";
+    private static final String PAYMENT_CONFLICT = "APZ000013";
+    private static final String CREDIT_RESTORE_CONFLICT = "APZ000016";
+
+    private final PaymentService paymentService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public PaymentBatchServiceImpl(PaymentService paymentService,
+                                   ObjectMapper objectMapper,
+                                   Validator validator,
+                                   @Value("${payments.batch.chunk-size:1000}") int chunkSize) {
+        this.paymentService = paymentService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void registerPayments(InputStream requestStream, OutputStream resultStream) throws IOException {
+        try (JsonStreamReader reader = new JsonStreamReader(objectMapper, requestStream);
+             NdjsonWriter writer = new NdjsonWriter(objectMapper, resultStream)) {
+            List<PendingPayment> chunk = new ArrayList<>(chunkSize);
+            long index = 0;
+            while (true) {
+                JsonNode node;
+                try {
+                    node = reader.next();
+                } catch (JsonProcessingException e) {
+                    log.warn("Payment batch aborted at item {}: malformed JSON", index);
+                    writer.write(PaymentBatchItemResult.rejected(index, INVALID_REQUEST, "Malformed JSON: " + e.getOriginalMessage()));
+                    break;
+                }
+                if (node == null) {
+                    break;
+                }
+
+                PaymentRequestDto request = toValidRequest(index, node, writer);
+                if (request != null) {
+                    chunk.add(new PendingPayment(index, request));
+                    if (chunk.size() >= chunkSize) {
+                        settleChunk(chunk, writer);
+                    }
+                }
+                index++;
+            }
+            settleChunk(chunk, writer);
+            log.info("Payment batch processed: {} items", index);
+        }
+    }
+
+    private PaymentRequestDto toValidRequest(long index, JsonNode node, NdjsonWriter writer) throws IOException {
+        PaymentRequestDto request;
+        try {
+            request = objectMapper.treeToValue(node, PaymentRequestDto.class);
+        } catch (JsonProcessingException e) {
+            writer.write(PaymentBatchItemResult.rejected(index, VALIDATION_ERROR, e.getOriginalMessage()));
+            return null;
+        }
+
+        Set<ConstraintViolation<PaymentRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String errors = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ", "Validation errors: [", "]"));
+            writer.write(PaymentBatchItemResult.rejected(index, VALIDATION_ERROR, errors));
+            return null;
+        }
+        return request;
+    }
+
+    private void settleChunk(List<PendingPayment> chunk, NdjsonWriter writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<PaymentSettlementResult> results = paymentService.registerPayments(
+                    chunk.stream().map(PendingPayment::request).toList());
+            for (int i = 0; i < results.size(); i++) {
+                writer.write(toItemResult(chunk.get(i).index(), results.get(i)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Payment batch chunk of {} items failed, settling one by one: {}", chunk.size(), e.getMessage());
+            for (PendingPayment pending : chunk) {
+                writer.write(settleSingle(pending));
+            }
+        }
+        chunk.clear();
+        writer.flush();
+    }
+
+    private PaymentBatchItemResult settleSingle(PendingPayment pending) {
+        try {
+            return PaymentBatchItemResult.settled(pending.index(), paymentService.registerPayment(pending.request()).getId());
+        } catch (RuntimeException e) {
+            return rejected(pending.index(), e);
+        }
+    }
+
+    private PaymentBatchItemResult toItemResult(long index, PaymentSettlementResult result) {
+        if (result.getRejection() != null) {
+            return rejected(index, result.getRejection());
+        }
+        return PaymentBatchItemResult.settled(index, result.getPayment().getId());
+    }
+
+    private PaymentBatchItemResult rejected(long index, RuntimeException rejection) {
+        if (rejection instanceof InstallmentNotFoundException) {
+            return PaymentBatchItemResult.rejected(index, INSTALLMENT_NOT_FOUND, rejection.getMessage());
+        }
+        if (rejection instanceof PaymentConflictException) {
+            return PaymentBatchItemResult.rejected(index, PAYMENT_CONFLICT, rejection.getMessage());
+        }
+        if (rejection instanceof CreditRestoreConflictException) {
+            return PaymentBatchItemResult.rejected(index, CREDIT_RESTORE_CONFLICT, rejection.getMessage());
+        }
+        if (rejection instanceof IllegalArgumentException) {
+            return PaymentBatchItemResult.rejected(index, INVALID_REQUEST, rejection.getMessage());
+        }
+        log.error("Payment batch item {} failed: {}", index, rejection.getMessage(), rejection);
+        return PaymentBatchItemResult.rejected(index, INTERNAL_ERROR, "Internal server error");
+    }
+
+    private record PendingPayment(long index, PaymentRequestDto request) {
+    }
+}
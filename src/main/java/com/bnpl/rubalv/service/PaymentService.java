@@ -0,0 +1,12 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.request.PaymentRequestDto;
+import com.bnpl.rubalv.dto.response.PaymentResponseDto;
+import com.bnpl.rubalv.dto.response.PaymentSettlementResult;
+
+import java.util.List;
+
+public interface PaymentService {
+    PaymentResponseDto registerPayment(PaymentRequestDto paymentRequest);
+    List<PaymentSettlementResult> registerPayments(List<PaymentRequestDto> paymentRequests);
+}
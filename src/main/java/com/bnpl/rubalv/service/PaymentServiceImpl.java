@@ -0,0 +1,181 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.projection.InstallmentPaymentRow;
+import com.bnpl.rubalv.dto.projection.InstallmentSettlementRow;
+import com.bnpl.rubalv.dto.request.PaymentRequestDto;
+import com.bnpl.rubalv.dto.response.PaymentResponseDto;
+import com.bnpl.rubalv.dto.response.PaymentSettlementResult;
+import com.bnpl.rubalv.enums.InstallmentStatus;
+import com.bnpl.rubalv.exception.InstallmentNotFoundException;
+import com.bnpl.rubalv.exception.PaymentConflictException;
+import com.bnpl.rubalv.model.InstallmentPayment;
+import com.bnpl.rubalv.repository.InstallmentPaymentRepository;
+import com.bnpl.rubalv.repository.InstallmentRepository;
+import com.bnpl.rubalv.utils.helpers.MoneyHelper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentServiceImpl implements PaymentService {
+    private final InstallmentRepository installmentRepository;
+    private final InstallmentPaymentRepository installmentPaymentRepository;
+    private final CreditLineService creditLineService;
+    private final LoanViewService loanViewService;
+
+    @Override
+    @Transactional
+    @Timed(value = "rubalv.payment.registration", histogram = true)
+    public PaymentResponseDto registerPayment(PaymentRequestDto paymentRequest) {
+        PaymentSettlementResult result = settle(List.of(paymentRequest)).get(0);
+        if (result.getRejection() != null) {
+            throw result.getRejection();
+        }
+        return result.getPayment();
+    }
+
+    /**
+     * Settles a chunk in one transaction. Items that cannot be settled are rejected up front and leave the rest of
+     * the chunk untouched; a payment recorded concurrently for the same installment or reference fails the whole
+     * chunk so the caller can retry its items one by one.
+     */
+    @Override
+    @Transactional
+    @Timed(value = "rubalv.payment.settlement", histogram = true)
+    public List<PaymentSettlementResult> registerPayments(List<PaymentRequestDto> paymentRequests) {
+        return settle(paymentRequests);
+    }
+
+    private List<PaymentSettlementResult> settle(List<PaymentRequestDto> paymentRequests) {
+        OffsetDateTime now = OffsetDateTime.now();
+        Map<String, InstallmentPaymentRow> recorded = installmentPaymentRepository
+                .findByReferences(paymentRequests.stream().map(PaymentRequestDto::getReference).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(InstallmentPaymentRow::reference, Function.identity()));
+        List<InstallmentSettlementRow> rows = installmentRepository.findSettlementRowsByLoanIds(
+                paymentRequests.stream().map(PaymentRequestDto::getLoanId).distinct().toList());
+        Map<InstallmentKey, InstallmentSettlementRow> installments = rows.stream()
+                .collect(Collectors.toMap(row -> new InstallmentKey(row.loanId(), row.installmentNumber()), Function.identity()));
+        Map<UUID, Long> installmentCounts = rows.stream()
+                .collect(Collectors.groupingBy(InstallmentSettlementRow::loanId, Collectors.counting()));
+
+        List<PaymentSettlementResult> results = new ArrayList<>(paymentRequests.size());
+        List<PendingPayment> accepted = new ArrayList<>();
+        Set<String> references = new HashSet<>();
+        Set<UUID> claimedInstallments = new HashSet<>();
+        for (PaymentRequestDto request : paymentRequests) {
+            if (!references.add(request.getReference())) {
+                results.add(PaymentSettlementResult.rejected(new PaymentConflictException(
+                        "Reference " + request.getReference() + " appears more than once in the request")));
+                continue;
+            }
+            InstallmentPaymentRow stored = recorded.get(request.getReference());
+            if (stored != null) {
+                results.add(replay(stored, request));
+                continue;
+            }
+
+            InstallmentSettlementRow installment = installments.get(new InstallmentKey(request.getLoanId(), request.getInstallmentNumber()));
+            if (installment == null) {
+                results.add(PaymentSettlementResult.rejected(
+                        new InstallmentNotFoundException(request.getLoanId(), request.getInstallmentNumber())));
+            } else if (installment.amount().compareTo(request.getAmount()) != 0) {
+                results.add(PaymentSettlementResult.rejected(new IllegalArgumentException(
+                        "Payment amount must equal the installment amount of " + installment.amount())));
+            } else if (installment.status() == InstallmentStatus.PAID || !claimedInstallments.add(installment.installmentId())) {
+                results.add(PaymentSettlementResult.rejected(new PaymentConflictException(
+                        "Installment " + installment.installmentNumber() + " of loan " + installment.loanId() + " is already paid")));
+            } else {
+                OffsetDateTime paidAt = request.getPaidAt() == null ? now : request.getPaidAt();
+                InstallmentPayment payment = InstallmentPayment.builder()
+                        .installment(installmentRepository.getReferenceById(installment.installmentId()))
+                        .reference(request.getReference())
+                        .amount(installment.amount())
+                        .paidAt(paidAt)
+                        .build();
+                accepted.add(new PendingPayment(results.size(), installment, payment));
+                results.add(null);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            record(accepted, installmentCounts);
+            for (PendingPayment pending : accepted) {
+                results.set(pending.position(), PaymentSettlementResult.settled(toResponse(pending)));
+            }
+        }
+        log.debug("Payments settled: {} of {}", accepted.size(), paymentRequests.size());
+        return results;
+    }
+
+    private void record(List<PendingPayment> accepted, Map<UUID, Long> installmentCounts) {
+        try {
+            installmentPaymentRepository.saveAllAndFlush(accepted.stream().map(PendingPayment::payment).toList());
+        } catch (DataIntegrityViolationException e) {
+            throw new PaymentConflictException("A payment for the same installment or reference was recorded concurrently");
+        }
+        int paid = installmentRepository.markPaid(accepted.stream().map(pending -> pending.installment().installmentId()).toList());
+        if (paid != accepted.size()) {
+            throw new PaymentConflictException("An installment was paid concurrently");
+        }
+        loanViewService.refresh(accepted.stream().map(pending -> pending.installment().loanId()).distinct().toList());
+
+        // credit lines are updated in id order so concurrent chunks lock them in the same order
+        Map<UUID, Restoration> restorations = new TreeMap<>();
+        for (PendingPayment pending : accepted) {
+            InstallmentSettlementRow installment = pending.installment();
+            long principalShare = MoneyHelper.share(
+                    MoneyHelper.toMinorUnits(installment.loanAmount()),
+                    installmentCounts.get(installment.loanId()).intValue(),
+                    installment.installmentNumber() - 1);
+            restorations.merge(installment.creditLineId(),
+                    new Restoration(installment.customerId(), principalShare),
+                    (current, added) -> new Restoration(current.customerId(), current.minorUnits() + added.minorUnits()));
+        }
+        restorations.forEach((creditLineId, restoration) -> creditLineService.restoreCredit(
+                creditLineId, restoration.customerId(), MoneyHelper.fromMinorUnits(restoration.minorUnits())));
+    }
+
+    private PaymentSettlementResult replay(InstallmentPaymentRow stored, PaymentRequestDto request) {
+        boolean samePayment = stored.loanId().equals(request.getLoanId())
+                && stored.installmentNumber() == request.getInstallmentNumber()
+                && stored.amount().compareTo(request.getAmount()) == 0;
+        if (!samePayment) {
+            return PaymentSettlementResult.rejected(new PaymentConflictException(
+                    "Reference " + request.getReference() + " was already used for another payment"));
+        }
+        return PaymentSettlementResult.settled(new PaymentResponseDto(stored.paymentId(), stored.reference(),
+                stored.loanId(), stored.installmentNumber(), stored.amount(), stored.paidAt()));
+    }
+
+    private PaymentResponseDto toResponse(PendingPayment pending) {
+        InstallmentPayment payment = pending.payment();
+        return new PaymentResponseDto(payment.getId(), payment.getReference(), pending.installment().loanId(),
+                pending.installment().installmentNumber(), payment.getAmount(), payment.getPaidAt());
+    }
+
+    private record InstallmentKey(UUID loanId, int installmentNumber) {
+    }
+
+    private record PendingPayment(int position, InstallmentSettlementRow installment, InstallmentPayment payment) {
+    }
+
+    private record Restoration(UUID customerId, long minorUnits) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.bnpl.rubalv.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Per-customer version counters shared by the read-through caches. A load only stays cached if the customer's
+ * stripe did not move while it was read, and every invalidation moves the stripe now and, inside a transaction,
+ * again once it completes.
+ */
+final class VersionStripes {
+    private static final int STRIPES = 1024;
+
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    long current(UUID customerId) {
+        return versions.get(stripe(customerId));
+    }
+
+    boolean movedSince(UUID customerId, long version) {
+        return versions.get(stripe(customerId)) != version;
+    }
+
+    void invalidate(UUID customerId, Consumer<UUID> evict) {
+        bump(customerId, evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(customerId, evict);
+                }
+            });
+        }
+    }
+
+    private void bump(UUID customerId, Consumer<UUID> evict) {
+        versions.incrementAndGet(stripe(customerId));
+        evict.accept(customerId);
+    }
+
+    private static int stripe(UUID customerId) {
+        return (customerId.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+}
@@ -15,22 +15,26 @@ public class PaymentSchemeStrategy {
     private static final Set<Character> SCHEME_ONE_INITIALS = Set.of('C', 'L', 'H');
 
     public PaymentScheme determinePaymentSchema(Customer customer){
-        log.info("Determining payment schema");
-        if(isSchemaOneApplicable(customer)){
-            log.info("Customer is applicable for schema one");
+        return determinePaymentSchema(customer.getFirstName(), customer.getSequentialId());
+    }
+
+    public PaymentScheme determinePaymentSchema(String firstName, Long sequentialId){
+        log.debug("Determining payment schema");
+        if(isSchemaOneApplicable(firstName)){
+            log.debug("Customer is applicable for schema one");
             return PaymentScheme.SCHEME_1;
-        }else if(customer.getSequentialId() > 25){
-            log.info("Customer is applicable for schema two");
+        }else if(sequentialId > 25){
+            log.debug("Customer is applicable for schema two");
             return PaymentScheme.SCHEME_2;
         }
 
-        log.info("Customer is applicable for default schema");
+        log.debug("Customer is applicable for default schema");
         return PaymentScheme.SCHEME_2;
     }
 
-    private boolean isSchemaOneApplicable(Customer customer){
-        log.info("Checking if customer is applicable for schema one");
-        return !customer.getFirstName().isEmpty() &&
-                SCHEME_ONE_INITIALS.contains(Character.toUpperCase(customer.getFirstName().charAt(0)));
+    private boolean isSchemaOneApplicable(String firstName){
+        log.debug("Checking if customer is applicable for schema one");
+        return !firstName.isEmpty() &&
+                SCHEME_ONE_INITIALS.contains(Character.toUpperCase(firstName.charAt(0)));
     }
 }
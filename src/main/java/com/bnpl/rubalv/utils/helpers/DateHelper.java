@@ -1,23 +1,122 @@
 package com.bnpl.rubalv.utils.helpers;
 
+import com.bnpl.rubalv.config.ScheduleProperties;
 import com.bnpl.rubalv.enums.PaymentScheme;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Period;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Component
+@Slf4j
 public class DateHelper {
+    private static final PaymentScheme[] SCHEMES = PaymentScheme.values();
+
+    private final String holidaysFile;
+    private volatile Set<LocalDate> holidays = Set.of();
+    private volatile ScheduleTemplates templates;
+
+    public DateHelper() {
+        this((String) null);
+    }
+
+    @Autowired
+    public DateHelper(ScheduleProperties scheduleProperties) {
+        this(scheduleProperties.getHolidaysFile());
+    }
+
+    private DateHelper(String holidaysFile) {
+        this.holidaysFile = holidaysFile;
+        refreshTemplates();
+    }
+
     public int calculateAge(LocalDate birthDate){
         return Period.between(birthDate, LocalDate.now()).getYears();
     }
 
+    /**
+     * Schedules starting today are served from templates built once per day and shared by every loan of the scheme,
+     * so the returned list is immutable. Other start dates are computed on demand.
+     */
     public List<LocalDate> generatePaymentSchedule(LocalDate startDate, PaymentScheme scheme) {
-        return IntStream.rangeClosed(1, scheme.getNumberOfPayments())
-                .mapToObj(i -> startDate.plusWeeks(2L * i))
-                .collect(Collectors.toList());
+        ScheduleTemplates current = templates;
+        if (!startDate.equals(current.startDate())) {
+            LocalDate today = LocalDate.now();
+            if (!startDate.equals(today)) {
+                return buildSchedule(startDate, scheme, holidays);
+            }
+            // the day rolled over before the midnight refresh ran
+            current = buildTemplates(today);
+            templates = current;
+        }
+        return current.schedules()[scheme.ordinal()];
+    }
+
+    public LocalDate nextBusinessDay(LocalDate date) {
+        return nextBusinessDay(date, holidays);
+    }
+
+    @Scheduled(cron = "${schedule.refresh-cron:0 0 0 * * *}")
+    public void refreshTemplates() {
+        reloadHolidays();
+        templates = buildTemplates(LocalDate.now());
+    }
+
+    private void reloadHolidays() {
+        if (holidaysFile == null || holidaysFile.isBlank()) {
+            return;
+        }
+
+        try (Stream<String> lines = Files.lines(Path.of(holidaysFile))) {
+            holidays = lines.map(String::strip)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .map(LocalDate::parse)
+                    .collect(Collectors.toUnmodifiableSet());
+            log.info("Holiday calendar loaded: {} dates", holidays.size());
+        } catch (IOException | UncheckedIOException | DateTimeParseException e) {
+            log.error("Unable to load holiday calendar {}: {}", holidaysFile, e.getMessage());
+        }
+    }
+
+    private ScheduleTemplates buildTemplates(LocalDate startDate) {
+        Set<LocalDate> calendar = holidays;
+        @SuppressWarnings("unchecked")
+        List<LocalDate>[] schedules = new List[SCHEMES.length];
+        for (PaymentScheme scheme : SCHEMES) {
+            schedules[scheme.ordinal()] = buildSchedule(startDate, scheme, calendar);
+        }
+        return new ScheduleTemplates(startDate, schedules);
+    }
+
+    private static List<LocalDate> buildSchedule(LocalDate startDate, PaymentScheme scheme, Set<LocalDate> calendar) {
+        LocalDate[] dates = new LocalDate[scheme.getNumberOfPayments()];
+        for (int i = 0; i < dates.length; i++) {
+            LocalDate dueDate = scheme.getCadence().dueDate(startDate, i + 1);
+            dates[i] = scheme.isBusinessDayAdjusted() ? nextBusinessDay(dueDate, calendar) : dueDate;
+        }
+        return List.of(dates);
+    }
+
+    private static LocalDate nextBusinessDay(LocalDate date, Set<LocalDate> calendar) {
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY || calendar.contains(date)) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+
+    private record ScheduleTemplates(LocalDate startDate, List<LocalDate>[] schedules) {
     }
 }
@@ -0,0 +1,40 @@
+package com.bnpl.rubalv.utils.helpers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class JsonStreamReader implements Closeable {
+    private final JsonParser parser;
+    private boolean array;
+    private boolean started;
+
+    public JsonStreamReader(ObjectMapper objectMapper, InputStream inputStream) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(inputStream);
+    }
+
+    public JsonNode next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (!started) {
+            started = true;
+            if (token == JsonToken.START_ARRAY) {
+                array = true;
+                token = parser.nextToken();
+            }
+        }
+        if (token == null || (array && token == JsonToken.END_ARRAY)) {
+            return null;
+        }
+        return parser.readValueAsTree();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,45 @@
+package com.bnpl.rubalv.utils.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last loan of a page in the (created_at, id) ordering, exchanged with clients as an opaque
+ * url-safe base64 string.
+ */
+public record LoanCursor(OffsetDateTime createdAt, UUID id) {
+    /** Sorts before every loan, so the first page uses the same seek query as the following ones. */
+    public static final LoanCursor FIRST = new LoanCursor(
+            OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC),
+            new UUID(-1L, -1L));
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toInstant().toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LoanCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new LoanCursor(
+                    Instant.parse(raw.substring(0, separator)).atOffset(ZoneOffset.UTC),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
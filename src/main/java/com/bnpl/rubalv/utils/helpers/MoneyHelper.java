@@ -0,0 +1,36 @@
+package com.bnpl.rubalv.utils.helpers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class MoneyHelper {
+    public static final int MINOR_UNIT_SCALE = 2;
+    public static final int BASIS_POINTS_SCALE = 4;
+    private static final long BASIS_POINTS_PER_UNIT = 10_000L;
+
+    private MoneyHelper() {
+    }
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(MINOR_UNIT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+    }
+
+    public static long applyRate(long minorUnits, int basisPoints) {
+        long product = Math.multiplyExact(minorUnits, basisPoints);
+        long quotient = product / BASIS_POINTS_PER_UNIT;
+        long remainder = product % BASIS_POINTS_PER_UNIT;
+        if (Math.abs(remainder) * 2 >= BASIS_POINTS_PER_UNIT) {
+            quotient += Long.signum(product);
+        }
+        return quotient;
+    }
+
+    public static long share(long totalMinorUnits, int parts, int index) {
+        long base = totalMinorUnits / parts;
+        return index < totalMinorUnits % parts ? base + 1 : base;
+    }
+}
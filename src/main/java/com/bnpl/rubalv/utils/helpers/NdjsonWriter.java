@@ -0,0 +1,32 @@
+package com.bnpl.rubalv.utils.helpers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonWriter implements Closeable {
+    private final JsonGenerator generator;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+    }
+
+    public void write(Object value) throws IOException {
+        generator.writeObject(value);
+        generator.writeRaw('\n');
+    }
+
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
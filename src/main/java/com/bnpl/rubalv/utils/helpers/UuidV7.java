@@ -0,0 +1,55 @@
+package com.bnpl.rubalv.utils.helpers;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time ordered UUIDs (RFC 9562 version 7): 48 bits of Unix milliseconds followed by a 12 bit counter and 62 random
+ * bits. The counter keeps ids generated within the same millisecond in generation order and borrows from the next
+ * millisecond when it overflows, so ids are strictly increasing within the process without taking a lock. The random
+ * bits come from one shared {@link SecureRandom}, because the ids are public and must not be guessable; each thread
+ * reads it in batches into its own buffer, so generating an id only touches the shared generator once every
+ * {@value #RANDOM_BATCH} ids per thread.
+ */
+public final class UuidV7 {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final int RANDOM_BATCH = 256;
+
+    // unix millis << COUNTER_BITS | counter of the last id handed out
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    // starts drained so the first id on each thread fills it
+    private static final ThreadLocal<ByteBuffer> RANDOM_BYTES = ThreadLocal.withInitial(
+            () -> ByteBuffer.allocate(RANDOM_BATCH * Long.BYTES).position(RANDOM_BATCH * Long.BYTES));
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long sequence = LAST.accumulateAndGet(System.currentTimeMillis() << COUNTER_BITS,
+                (last, now) -> Math.max(last + 1, now));
+        long mostSignificantBits = (sequence >>> COUNTER_BITS) << 16 | VERSION | (sequence & COUNTER_MASK);
+        long leastSignificantBits = nextRandom() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextRandom() {
+        ByteBuffer randomBytes = RANDOM_BYTES.get();
+        if (!randomBytes.hasRemaining()) {
+            RANDOM.nextBytes(randomBytes.array());
+            randomBytes.clear();
+        }
+        return randomBytes.getLong();
+    }
+}
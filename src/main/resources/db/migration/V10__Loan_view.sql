@@ -0,0 +1,23 @@
+-- Read model behind GET /v1/loans/{id}: one row per loan with its installments inline, so a lookup is a single
+-- primary key read. Rows are written in the same transaction as the loan and as every status change.
+CREATE TABLE loan_view (
+    loan_id UUID PRIMARY KEY REFERENCES loans(id) ON DELETE CASCADE,
+    customer_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    commission_amount NUMERIC(15,2) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    -- [{"amount": 226.00, "scheduledPaymentDate": "2025-01-15", "status": "PENDING"}, ...] by installment number,
+    -- the shape of InstallmentResponseDto
+    installments JSONB NOT NULL
+);
+
+INSERT INTO loan_view (loan_id, customer_id, status, commission_amount, created_at, installments)
+SELECT l.id, cl.customer_id, l.status, l.commission_amount, l.created_at,
+       COALESCE((
+           SELECT jsonb_agg(jsonb_build_object(
+                   'amount', i.amount, 'scheduledPaymentDate', i.scheduled_payment_date, 'status', i.status)
+               ORDER BY i.installment_number)
+           FROM installments i
+           WHERE i.loan_id = l.id), '[]'::jsonb)
+FROM loans l
+JOIN credit_lines cl ON cl.id = l.credit_line_id;
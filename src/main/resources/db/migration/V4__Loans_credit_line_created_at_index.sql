@@ -0,0 +1,3 @@
+-- serves the keyset pagination of a customer's loans, newest first; the single column index is a prefix of it
+CREATE INDEX idx_loans_credit_line_created_at ON loans(credit_line_id, created_at DESC, id DESC);
+DROP INDEX idx_loans_credit_line_id;
@@ -0,0 +1,21 @@
+-- Outstanding installments by due date; lets the lifecycle sweep find overdue ones per loan without
+-- touching the settled rows.
+CREATE INDEX idx_installments_outstanding_due ON installments(loan_id, scheduled_payment_date)
+    WHERE status IN ('PENDING', 'NEXT', 'ERROR');
+
+-- Open loans only; the sweep walks this index in id order and skips completed loans entirely.
+CREATE INDEX idx_loans_open ON loans(id) WHERE status IN ('ACTIVE', 'LATE');
+
+CREATE TABLE lifecycle_checkpoints (
+    run_date DATE NOT NULL,
+    partition_no INT NOT NULL,
+    -- the partition covers loan ids in (lower_bound, upper_bound]
+    lower_bound UUID NOT NULL,
+    upper_bound UUID NOT NULL,
+    last_loan_id UUID NOT NULL,
+    chunks INT NOT NULL DEFAULT 0,
+    completed_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (run_date, partition_no)
+);
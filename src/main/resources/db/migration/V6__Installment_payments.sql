@@ -0,0 +1,15 @@
+ALTER TABLE installments DROP CONSTRAINT installments_status_check;
+ALTER TABLE installments ADD CONSTRAINT installments_status_check
+    CHECK (status IN ('NEXT', 'PENDING', 'ERROR', 'PAID'));
+ALTER TABLE installments ADD COLUMN paid_at TIMESTAMPTZ;
+
+CREATE TABLE installment_payments (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    -- an installment is settled by exactly one payment
+    installment_id UUID NOT NULL UNIQUE REFERENCES installments(id) ON DELETE CASCADE,
+    -- provider or settlement file reference; resubmitting it replays the recorded payment
+    reference VARCHAR(100) NOT NULL UNIQUE,
+    amount NUMERIC(15,2) NOT NULL CHECK (amount > 0),
+    paid_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,20 @@
+-- Time ordered ids (RFC 9562 version 7) for rows inserted outside the application, matching the ids Hibernate
+-- generates: a random v4 with the first 48 bits replaced by the Unix milliseconds and the version nibble set to 7.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                    FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::UUID;
+$$ LANGUAGE SQL VOLATILE;
+
+ALTER TABLE customers ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE credit_lines ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE loans ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE installments ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE installment_payments ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE idempotency_keys ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,3 @@
+-- Optimistic locking: entity writes compare and bump this column, and the guarded reserve/restore updates bump it too,
+-- so a credit line loaded before one of them can no longer be saved over it.
+ALTER TABLE credit_lines ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
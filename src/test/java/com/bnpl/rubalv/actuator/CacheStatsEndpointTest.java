@@ -0,0 +1,47 @@
+package com.bnpl.rubalv.actuator;
+
+import com.bnpl.rubalv.config.CacheConfig;
+import com.bnpl.rubalv.config.JwtProperties;
+import com.bnpl.rubalv.dto.response.CacheStatsResponseDto;
+import com.bnpl.rubalv.security.JwtAuthenticationCache;
+import com.bnpl.rubalv.security.JwtKeyRing;
+import com.bnpl.rubalv.service.CreditLineCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheStatsEndpointTest {
+    private CacheManager cacheManager;
+    private CacheStatsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=");
+        cacheManager = new CacheConfig().cacheManager(100, 30, 100, 600);
+        endpoint = new CacheStatsEndpoint(cacheManager, new JwtAuthenticationCache(jwtProperties, new JwtKeyRing(jwtProperties)),
+                new CreditLineCache(100, 300));
+    }
+
+    @Test
+    void cacheStats_ReportsHitsAndMissesPerCache() {
+        Cache customers = cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE);
+        customers.get("missing");
+        customers.put("present", "value");
+        customers.get("present");
+
+        Map<String, CacheStatsResponseDto> stats = endpoint.cacheStats();
+
+        assertThat(stats).containsKeys(CacheConfig.CUSTOMERS_CACHE, CacheConfig.IDEMPOTENCY_KEYS_CACHE, CacheStatsEndpoint.JWT_AUTHENTICATION_CACHE,
+                CacheStatsEndpoint.CREDIT_LINES_CACHE);
+        CacheStatsResponseDto customersStats = stats.get(CacheConfig.CUSTOMERS_CACHE);
+        assertThat(customersStats.getSize()).isEqualTo(1);
+        assertThat(customersStats.getHitCount()).isEqualTo(1);
+        assertThat(customersStats.getMissCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,143 @@
+package com.bnpl.rubalv.config;
+
+import com.bnpl.rubalv.controller.CustomerBatchController;
+import com.bnpl.rubalv.controller.ExportController;
+import com.bnpl.rubalv.controller.OperatorTokenController;
+import com.bnpl.rubalv.controller.PaymentController;
+import com.bnpl.rubalv.dto.response.PaymentResponseDto;
+import com.bnpl.rubalv.entrypoint.JwtAuthenticationEntryPoint;
+import com.bnpl.rubalv.ratelimit.RateLimiter;
+import com.bnpl.rubalv.security.JwtAuthenticationCache;
+import com.bnpl.rubalv.security.JwtKeyRing;
+import com.bnpl.rubalv.service.CustomerBatchService;
+import com.bnpl.rubalv.service.ExportService;
+import com.bnpl.rubalv.service.JwtTokenService;
+import com.bnpl.rubalv.service.JwtTokenServiceImpl;
+import com.bnpl.rubalv.service.OperatorTokenServiceImpl;
+import com.bnpl.rubalv.service.PaymentBatchService;
+import com.bnpl.rubalv.service.PaymentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** Issues real tokens through /v1/operators/token and calls the operator endpoints with them. */
+@WebMvcTest(
+        controllers = {OperatorTokenController.class, PaymentController.class, CustomerBatchController.class, ExportController.class},
+        properties = {
+                "rate-limit.enabled=false",
+                "jwt.secret=MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=",
+                "jwt.operators.back-office={noop}s3cret"
+        })
+@EnableConfigurationProperties({RateLimitProperties.class, JwtProperties.class})
+@Import({SecurityConfig.class, JwtAuthenticationEntryPoint.class, RateLimiter.class, SimpleMeterRegistry.class,
+        JwtKeyRing.class, JwtTokenServiceImpl.class, JwtAuthenticationCache.class, OperatorTokenServiceImpl.class})
+public class OperatorAccessTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @MockitoBean
+    private PaymentService paymentService;
+
+    @MockitoBean
+    private PaymentBatchService paymentBatchService;
+
+    @MockitoBean
+    private CustomerBatchService customerBatchService;
+
+    @MockitoBean
+    private ExportService exportService;
+
+    @Test
+    void operatorToken_WrongSecret_ReturnsUnauthorized() throws Exception {
+        mockMvc.perform(tokenRequest("back-office", "guess"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("APZ000015"));
+    }
+
+    @Test
+    void payment_IssuedOperatorToken_IsAccepted() throws Exception {
+        UUID loanId = UUID.randomUUID();
+        when(paymentService.registerPayment(any())).thenReturn(new PaymentResponseDto(
+                UUID.randomUUID(), "SPEI-1", loanId, 1, new BigDecimal("100.00"), OffsetDateTime.now()));
+
+        mockMvc.perform(post("/v1/payments").contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + operatorToken())
+                        .content("""
+                                {"loanId":"%s","installmentNumber":1,"amount":100.00,"reference":"SPEI-1"}
+                                """.formatted(loanId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reference").value("SPEI-1"));
+    }
+
+    @Test
+    void payment_CustomerToken_IsForbidden() throws Exception {
+        mockMvc.perform(post("/v1/payments").contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenService.generateToken(UUID.randomUUID()))
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(paymentService);
+    }
+
+    @Test
+    void paymentBatch_IssuedOperatorToken_IsAccepted() throws Exception {
+        mockMvc.perform(post("/v1/payments:batch").contentType(MediaType.APPLICATION_NDJSON).content("{}")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + operatorToken()))
+                .andExpect(status().isOk());
+        verify(paymentBatchService).registerPayments(any(), any());
+    }
+
+    @Test
+    void customerBatch_IssuedOperatorToken_IsAccepted() throws Exception {
+        mockMvc.perform(post("/v1/customers:batch").contentType(MediaType.APPLICATION_NDJSON).content("{}")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + operatorToken()))
+                .andExpect(status().isOk());
+        verify(customerBatchService).registerCustomers(any(), any());
+    }
+
+    @Test
+    void loanExport_IssuedOperatorToken_IsAccepted() throws Exception {
+        mockMvc.perform(get("/v1/exports/loans").header(HttpHeaders.AUTHORIZATION, "Bearer " + operatorToken()))
+                .andExpect(status().isOk());
+        verify(exportService).exportLoans(any(), any(), any());
+    }
+
+    private String operatorToken() throws Exception {
+        String token = mockMvc.perform(tokenRequest("back-office", "s3cret"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("X-Auth-Token");
+        assertThat(token).isNotBlank();
+        return token;
+    }
+
+    private MockHttpServletRequestBuilder tokenRequest(String clientId, String clientSecret) {
+        return post("/v1/operators/token").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"clientId":"%s","clientSecret":"%s"}
+                        """.formatted(clientId, clientSecret));
+    }
+}
@@ -0,0 +1,23 @@
+package com.bnpl.rubalv.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchedulingConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(SchedulingConfig.class);
+
+    @Test
+    void scheduling_EnabledByDefault() {
+        contextRunner.run(context -> assertThat(context).hasSingleBean(ScheduledAnnotationBeanPostProcessor.class));
+    }
+
+    @Test
+    void scheduling_ExportModeProperty_RegistersNoScheduledJobs() {
+        contextRunner.withPropertyValues(SchedulingConfig.ENABLED_PROPERTY + "=false")
+                .run(context -> assertThat(context).doesNotHaveBean(ScheduledAnnotationBeanPostProcessor.class));
+    }
+}
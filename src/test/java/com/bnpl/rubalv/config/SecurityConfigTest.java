@@ -0,0 +1,110 @@
+package com.bnpl.rubalv.config;
+
+import com.bnpl.rubalv.controller.CustomerBatchController;
+import com.bnpl.rubalv.entrypoint.JwtAuthenticationEntryPoint;
+import com.bnpl.rubalv.ratelimit.RateLimiter;
+import com.bnpl.rubalv.security.JwtAuthenticationCache;
+import com.bnpl.rubalv.service.CustomerBatchService;
+import com.bnpl.rubalv.service.JwtTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = CustomerBatchController.class, properties = "rate-limit.enabled=false")
+@EnableConfigurationProperties(RateLimitProperties.class)
+@Import({SecurityConfig.class, JwtAuthenticationEntryPoint.class, RateLimiter.class, SimpleMeterRegistry.class})
+public class SecurityConfigTest {
+    private static final String CUSTOMER_TOKEN = "customer-token";
+    private static final String OPERATOR_TOKEN = "operator-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtTokenService jwtTokenService;
+
+    @MockitoBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @MockitoBean
+    private CustomerBatchService customerBatchService;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtTokenService.validateToken(CUSTOMER_TOKEN)).thenReturn(new UsernamePasswordAuthenticationToken(
+                "customer", null, List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))));
+        when(jwtTokenService.validateToken(OPERATOR_TOKEN)).thenReturn(new UsernamePasswordAuthenticationToken(
+                "operator", null, List.of(new SimpleGrantedAuthority("ROLE_OPERATOR"))));
+    }
+
+    @Test
+    void customerBatch_WithoutToken_ReturnsUnauthorized() throws Exception {
+        mockMvc.perform(post("/v1/customers:batch").contentType(MediaType.APPLICATION_NDJSON).content("{}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("APZ000007"));
+        verifyNoInteractions(customerBatchService);
+    }
+
+    @Test
+    void customerBatch_CustomerToken_IsForbidden() throws Exception {
+        mockMvc.perform(post("/v1/customers:batch").contentType(MediaType.APPLICATION_NDJSON).content("{}")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + CUSTOMER_TOKEN))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(customerBatchService);
+    }
+
+    @Test
+    void customerBatch_OperatorToken_IsAccepted() throws Exception {
+        mockMvc.perform(post("/v1/customers:batch").contentType(MediaType.APPLICATION_NDJSON).content("{}")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + OPERATOR_TOKEN))
+                .andExpect(status().isOk());
+        verify(customerBatchService).registerCustomers(any(), any());
+    }
+
+    @Test
+    void cacheStats_WithoutToken_ReturnsUnauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/cachestats"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("APZ000007"));
+    }
+
+    @Test
+    void cacheStats_CustomerToken_IsForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/cachestats").header(HttpHeaders.AUTHORIZATION, "Bearer " + CUSTOMER_TOKEN))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheus_WithoutToken_ReturnsUnauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("APZ000007"));
+    }
+
+    @Test
+    void prometheus_CustomerToken_IsForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, "Bearer " + CUSTOMER_TOKEN))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -40,6 +40,7 @@ public class CustomerControllerTest {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("outbox.sink", () -> "memory");
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
     }
 
@@ -135,6 +136,18 @@ public class CustomerControllerTest {
                 .body("path", equalTo("/v1/customers/" + nonExistentCustomerId));
     }
 
+    @Test
+    void shouldReturn404WhenListingLoansOfUnknownCustomer() {
+        UUID nonExistentCustomerId = UUID.randomUUID();
+
+        given()
+                .when()
+                .get("/v1/customers/{customerId}/loans", nonExistentCustomerId)
+                .then()
+                .statusCode(404)
+                .body("code", equalTo("APZ000005"))
+                .body("path", equalTo("/v1/customers/" + nonExistentCustomerId + "/loans"));
+    }
 
     @Test
     void shouldHandleLongNames() {
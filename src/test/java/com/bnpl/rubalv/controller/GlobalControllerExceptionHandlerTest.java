@@ -0,0 +1,53 @@
+package com.bnpl.rubalv.controller;
+
+import com.bnpl.rubalv.exception.CreditRestoreConflictException;
+import com.bnpl.rubalv.exception.ErrorResponse;
+import com.bnpl.rubalv.exception.LoanNotFoundException;
+import com.bnpl.rubalv.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GlobalControllerExceptionHandlerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalControllerExceptionHandler handler = new GlobalControllerExceptionHandler(meterRegistry);
+    private final ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/loans/1"));
+
+    @Test
+    void shouldCountEachErrorCode() {
+        handler.handleLoanNotFound(new LoanNotFoundException(UUID.randomUUID()), request);
+        handler.handleLoanNotFound(new LoanNotFoundException(UUID.randomUUID()), request);
+        ErrorResponse response = handler.handleTooManyRequests(new TooManyRequestsException("slow down"), request);
+
+        assertThat(response.getCode()).isEqualTo("APZ000003");
+        assertThat(response.getPath()).isEqualTo("/v1/loans/1");
+        assertThat(meterRegistry.get("rubalv.errors").tags("code", "APZ000008", "error", "LOAN_NOT_FOUND").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("rubalv.errors").tags("code", "APZ000003", "error", "RATE_LIMIT_ERROR").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportOptimisticLockConflictsAsConcurrentUpdates() {
+        ErrorResponse response = handler.handleOptimisticLockingFailure(
+                new OptimisticLockingFailureException("Row was updated by another transaction"), request);
+
+        assertThat(response.getCode()).isEqualTo("APZ000014");
+        assertThat(response.getError()).isEqualTo("CONCURRENT_UPDATE");
+    }
+
+    @Test
+    void shouldReportCreditRestoreConflictsAsConflicts() {
+        ErrorResponse response = handler.handleCreditRestoreConflict(
+                new CreditRestoreConflictException("Restoring 80.16 would exceed the total credit"), request);
+
+        assertThat(response.getCode()).isEqualTo("APZ000016");
+        assertThat(response.getError()).isEqualTo("CREDIT_RESTORE_CONFLICT");
+    }
+}
@@ -42,6 +42,7 @@ public class LoanControllerTest {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("outbox.sink", () -> "memory");
     }
 
     private String authToken;
@@ -0,0 +1,101 @@
+package com.bnpl.rubalv.filter;
+
+import com.bnpl.rubalv.config.AdmissionProperties;
+import com.bnpl.rubalv.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AdmissionFilterTest {
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdmissionFilter admissionFilter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setAcquireTimeout(Duration.ofMillis(10));
+        admissionFilter = new AdmissionFilter(properties, 1, handlerExceptionResolver, meterRegistry);
+    }
+
+    @Test
+    void shouldRejectWhenAllPermitsAreInUse() throws ServletException, IOException {
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+        AtomicReference<Double> inFlight = new AtomicReference<>();
+        doAnswer(invocation -> {
+            inFlight.set(meterRegistry.get("rubalv.admission.in_flight").gauge().value());
+            admissionFilter.doFilter(new MockHttpServletRequest("GET", "/v1/customers/2"), rejectedResponse, mock(FilterChain.class));
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+
+        admissionFilter.doFilter(new MockHttpServletRequest("POST", "/v1/loans"), new MockHttpServletResponse(), filterChain);
+
+        assertThat(inFlight.get()).isEqualTo(1.0);
+        verify(handlerExceptionResolver).resolveException(any(), eq(rejectedResponse), isNull(), any(ServiceUnavailableException.class));
+        assertThat(rejectedResponse.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.get("rubalv.admission.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleasePermitWhenRequestCompletes() throws ServletException, IOException {
+        for (int i = 0; i < 3; i++) {
+            admissionFilter.doFilter(new MockHttpServletRequest("GET", "/v1/loans/1"), new MockHttpServletResponse(), filterChain);
+        }
+
+        verify(filterChain, times(3)).doFilter(any(), any());
+        verifyNoInteractions(handlerExceptionResolver);
+        assertThat(meterRegistry.get("rubalv.admission.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldReleasePermitWhenRequestFails() throws ServletException, IOException {
+        doThrow(new ServletException("boom")).doNothing().when(filterChain).doFilter(any(), any());
+
+        try {
+            admissionFilter.doFilter(new MockHttpServletRequest("POST", "/v1/loans"), new MockHttpServletResponse(), filterChain);
+        } catch (ServletException ignored) {
+            // the permit must still be returned
+        }
+        admissionFilter.doFilter(new MockHttpServletRequest("POST", "/v1/loans"), new MockHttpServletResponse(), filterChain);
+
+        verify(filterChain, times(2)).doFilter(any(), any());
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    @Test
+    void shouldNotGateUnmatchedPaths() throws ServletException, IOException {
+        doAnswer(invocation -> {
+            admissionFilter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), mock(FilterChain.class));
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+
+        admissionFilter.doFilter(new MockHttpServletRequest("GET", "/v1/loans/1"), new MockHttpServletResponse(), filterChain);
+
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+}
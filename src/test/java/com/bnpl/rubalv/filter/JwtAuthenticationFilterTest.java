@@ -1,5 +1,6 @@
 package com.bnpl.rubalv.filter;
 
+import com.bnpl.rubalv.security.JwtAuthenticationCache;
 import com.bnpl.rubalv.service.JwtTokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,6 +26,9 @@ public class JwtAuthenticationFilterTest {
     @Mock
     private JwtTokenService jwtTokenService;
 
+    @Mock
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
     @Mock
     private HttpServletRequest request;
 
@@ -58,6 +62,20 @@ public class JwtAuthenticationFilterTest {
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         verify(securityContext).setAuthentication(authentication);
+        verify(jwtAuthenticationCache).put(token, authentication);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void shouldUseCachedAuthenticationWithoutValidatingToken() throws ServletException, IOException {
+        String token = "cached-token";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(jwtAuthenticationCache.get(token)).thenReturn(authentication);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(securityContext).setAuthentication(authentication);
+        verify(jwtTokenService, never()).validateToken(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -102,6 +120,7 @@ public class JwtAuthenticationFilterTest {
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         verify(securityContext, never()).setAuthentication(any());
+        verify(jwtAuthenticationCache, never()).put(anyString(), any());
         verify(filterChain).doFilter(request, response);
     }
 }
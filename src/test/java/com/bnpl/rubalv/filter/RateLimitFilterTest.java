@@ -0,0 +1,109 @@
+package com.bnpl.rubalv.filter;
+
+import com.bnpl.rubalv.config.RateLimitProperties;
+import com.bnpl.rubalv.exception.TooManyRequestsException;
+import com.bnpl.rubalv.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitFilterTest {
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private RateLimitProperties properties;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setMethod("POST");
+        route.setPath("/v1/loans");
+        route.setCapacity(1);
+        route.setRefillPerSecond(0.01);
+        properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        rateLimitFilter = new RateLimitFilter(new RateLimiter(properties), properties, handlerExceptionResolver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRaiseTooManyRequestsWhenBucketIsEmpty() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        rateLimitFilter.doFilter(request("POST", "/v1/loans", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+        rateLimitFilter.doFilter(request("POST", "/v1/loans", "10.0.0.1"), response, filterChain);
+
+        verify(filterChain, times(1)).doFilter(any(), any());
+        verify(handlerExceptionResolver).resolveException(any(), eq(response), isNull(), any(TooManyRequestsException.class));
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+    }
+
+    @Test
+    void shouldLimitAuthenticatedSubjectAcrossAddresses() throws ServletException, IOException {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("customer-1", null, List.of()));
+
+        rateLimitFilter.doFilter(request("POST", "/v1/loans", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+        rateLimitFilter.doFilter(request("POST", "/v1/loans", "10.0.0.2"), new MockHttpServletResponse(), filterChain);
+
+        verify(filterChain, times(1)).doFilter(any(), any());
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), any(TooManyRequestsException.class));
+    }
+
+    @Test
+    void shouldPassThroughUnmatchedRoutes() throws ServletException, IOException {
+        for (int i = 0; i < 3; i++) {
+            rateLimitFilter.doFilter(request("GET", "/v1/loans/1", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+        }
+
+        verify(filterChain, times(3)).doFilter(any(), any());
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    @Test
+    void shouldPassThroughWhenDisabled() throws ServletException, IOException {
+        properties.setEnabled(false);
+
+        for (int i = 0; i < 3; i++) {
+            rateLimitFilter.doFilter(request("POST", "/v1/loans", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+        }
+
+        verify(filterChain, times(3)).doFilter(any(), any());
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
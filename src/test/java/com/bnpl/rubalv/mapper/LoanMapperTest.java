@@ -2,6 +2,8 @@ package com.bnpl.rubalv.mapper;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.bnpl.rubalv.dto.projection.InstallmentRow;
+import com.bnpl.rubalv.dto.projection.LoanSummaryRow;
 import com.bnpl.rubalv.dto.response.LoanResponseDto;
 import com.bnpl.rubalv.enums.InstallmentStatus;
 import com.bnpl.rubalv.enums.LoanStatus;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,4 +41,26 @@ public class LoanMapperTest {
         assertNotNull(responseDto.getPaymentPlan().getInstallments());
         assertEquals(0, responseDto.getPaymentPlan().getInstallments().size());
     }
+
+    @Test
+    public void testToResponseDtoFromSummaryRow() {
+        UUID loanId = UUID.randomUUID();
+        UUID customerId = UUID.randomUUID();
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        LocalDate firstPayment = LocalDate.now().plusWeeks(2);
+        LoanSummaryRow loan = new LoanSummaryRow(loanId, LoanStatus.LATE, createdAt, BigDecimal.TEN);
+        List<InstallmentRow> installments = List.of(
+                new InstallmentRow(loanId, BigDecimal.valueOf(22), firstPayment, InstallmentStatus.NEXT),
+                new InstallmentRow(loanId, BigDecimal.valueOf(22), firstPayment.plusWeeks(2), InstallmentStatus.PENDING));
+
+        LoanResponseDto responseDto = loanMapper.toResponseDto(customerId, loan, installments);
+
+        assertEquals(loanId, responseDto.getId());
+        assertEquals(customerId, responseDto.getCustomerId());
+        assertEquals(LoanStatus.LATE, responseDto.getStatus());
+        assertEquals(createdAt.toInstant(), responseDto.getCreatedAt());
+        assertEquals(BigDecimal.TEN, responseDto.getPaymentPlan().getCommissionAmount());
+        assertEquals(2, responseDto.getPaymentPlan().getInstallments().size());
+        assertEquals(InstallmentStatus.NEXT, responseDto.getPaymentPlan().getInstallments().get(0).getStatus());
+    }
 }
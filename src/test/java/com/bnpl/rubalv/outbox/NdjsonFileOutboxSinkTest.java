@@ -0,0 +1,45 @@
+package com.bnpl.rubalv.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NdjsonFileOutboxSinkTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldAppendOneLinePerMessageWithThePayloadInline() throws IOException {
+        Path file = directory.resolve("relay/events.ndjson");
+        NdjsonFileOutboxSink sink = new NdjsonFileOutboxSink(objectMapper, file);
+        OutboxMessage first = message("{\"amount\":100.00}");
+        OutboxMessage second = message("{\"amount\":250.50}");
+
+        sink.publish(List.of(first));
+        sink.publish(List.of(second));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        JsonNode line = objectMapper.readTree(lines.get(1));
+        assertThat(line.get("id").asText()).isEqualTo(second.id().toString());
+        assertThat(line.get("eventType").asText()).isEqualTo("LOAN_REGISTERED");
+        assertThat(line.get("payload").get("amount").decimalValue()).isEqualByComparingTo("250.50");
+    }
+
+    private OutboxMessage message(String payload) {
+        return new OutboxMessage(UUID.randomUUID(), "Loan", UUID.randomUUID(), "LOAN_REGISTERED", payload, OffsetDateTime.now());
+    }
+}
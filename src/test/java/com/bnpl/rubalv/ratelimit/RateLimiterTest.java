@@ -0,0 +1,56 @@
+package com.bnpl.rubalv.ratelimit;
+
+import com.bnpl.rubalv.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private RateLimitProperties properties;
+    private RateLimitProperties.Route route;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setMaxKeys(2);
+        route = new RateLimitProperties.Route();
+        route.setPath("/v1/loans");
+        route.setCapacity(1);
+        route.setRefillPerSecond(1);
+        rateLimiter = new RateLimiter(properties);
+    }
+
+    @Test
+    void shouldLimitEachKeyIndependently() {
+        assertThat(rateLimiter.tryAcquire("0", "ip:10.0.0.1", route, 0)).isZero();
+        assertThat(rateLimiter.tryAcquire("0", "ip:10.0.0.1", route, 0)).isPositive();
+        assertThat(rateLimiter.tryAcquire("0", "ip:10.0.0.2", route, 0)).isZero();
+    }
+
+    @Test
+    void shouldShareOverflowBucketWhenKeyLimitReached() {
+        rateLimiter.tryAcquire("0", "ip:10.0.0.1", route, 0);
+        rateLimiter.tryAcquire("0", "ip:10.0.0.2", route, 0);
+
+        assertThat(rateLimiter.tryAcquire("0", "ip:10.0.0.3", route, 0)).isZero();
+        assertThat(rateLimiter.tryAcquire("0", "ip:10.0.0.4", route, 0)).isPositive();
+        assertThat(rateLimiter.activeKeys()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldEvictOnlyRefilledBuckets() {
+        route.setCapacity(2);
+        rateLimiter.tryAcquire("0", "ip:10.0.0.1", route, 0);
+        rateLimiter.tryAcquire("0", "ip:10.0.0.2", route, SECOND);
+
+        rateLimiter.evictIdleBuckets(SECOND);
+
+        assertThat(rateLimiter.activeKeys()).isEqualTo(1);
+    }
+}
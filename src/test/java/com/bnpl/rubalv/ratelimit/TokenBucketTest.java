@@ -0,0 +1,75 @@
+package com.bnpl.rubalv.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 1, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(0)).isZero();
+        }
+        assertThat(bucket.tryConsume(0)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void shouldRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(2, 2, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertThat(bucket.tryConsume(0)).isPositive();
+        assertThat(bucket.tryConsume(SECOND / 2)).isZero();
+        assertThat(bucket.tryConsume(SECOND / 2)).isPositive();
+    }
+
+    @Test
+    void shouldReportFullOnlyAfterAllTokensRefilled() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+        assertThat(bucket.isFull(0)).isTrue();
+
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertThat(bucket.isFull(SECOND)).isFalse();
+        assertThat(bucket.isFull(2 * SECOND)).isTrue();
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldNeverGrantMoreThanCapacityUnderContention() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(100, 0.001, 0);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 1_000; i++) {
+            executor.submit(() -> {
+                if (bucket.tryConsume(0) == 0) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(granted.get()).isEqualTo(100);
+    }
+}
@@ -1,8 +1,10 @@
 package com.bnpl.rubalv.repository;
 
+import com.bnpl.rubalv.dto.projection.CustomerCreditLineRow;
 import com.bnpl.rubalv.enums.CreditLineStatus;
 import com.bnpl.rubalv.model.CreditLine;
 import com.bnpl.rubalv.model.Customer;
+import jakarta.persistence.OptimisticLockException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -17,8 +19,10 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Testcontainers
@@ -123,4 +127,189 @@ public class CreditLineRepositoryTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void findCustomerCreditLine_WhenActiveCreditLineExists_ReturnsCustomerAndCreditLineIds() {
+        Customer customer = Customer.builder()
+                .firstName("Marta")
+                .lastName("Rios")
+                .secondLastName("Luna")
+                .dateOfBirth(LocalDate.of(1991, 4, 12))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine closed = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("2000.00"))
+                .availableCreditAmount(BigDecimal.ZERO)
+                .status(CreditLineStatus.CLOSED)
+                .build();
+        entityManager.persistAndFlush(closed);
+
+        CreditLine active = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("5000.00"))
+                .availableCreditAmount(new BigDecimal("5000.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(active);
+
+        Optional<CustomerCreditLineRow> result = creditLineRepository.findCustomerCreditLine(customer.getId());
+
+        assertThat(result).isPresent();
+        assertThat(result.get().customerId()).isEqualTo(customer.getId());
+        assertThat(result.get().firstName()).isEqualTo("Marta");
+        assertThat(result.get().creditLineId()).isEqualTo(active.getId());
+    }
+
+    @Test
+    void findCustomerCreditLine_WhenNoActiveCreditLine_ReturnsCustomerWithoutCreditLine() {
+        Customer customer = Customer.builder()
+                .firstName("Jorge")
+                .lastName("Salas")
+                .secondLastName("Pinto")
+                .dateOfBirth(LocalDate.of(1983, 2, 7))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        Optional<CustomerCreditLineRow> result = creditLineRepository.findCustomerCreditLine(customer.getId());
+
+        assertThat(result).isPresent();
+        assertThat(result.get().customerId()).isEqualTo(customer.getId());
+        assertThat(result.get().creditLineId()).isNull();
+    }
+
+    @Test
+    void findCustomerCreditLine_WhenCustomerDoesNotExist_ReturnsEmpty() {
+        assertThat(creditLineRepository.findCustomerCreditLine(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void reserveCredit_WhenEnoughAvailableCredit_SubtractsAmount() {
+        Customer customer = Customer.builder()
+                .firstName("Ana")
+                .lastName("Torres")
+                .secondLastName("Ruiz")
+                .dateOfBirth(LocalDate.of(1990, 3, 10))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("5000.00"))
+                .availableCreditAmount(new BigDecimal("5000.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+
+        int updated = creditLineRepository.reserveCredit(creditLine.getId(), new BigDecimal("1200.50"));
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(entityManager.find(CreditLine.class, creditLine.getId()).getAvailableCreditAmount())
+                .isEqualByComparingTo("3799.50");
+    }
+
+    @Test
+    void reserveCredit_WhenAmountExceedsAvailableCredit_DoesNotUpdate() {
+        Customer customer = Customer.builder()
+                .firstName("Pedro")
+                .lastName("Mora")
+                .secondLastName("Vega")
+                .dateOfBirth(LocalDate.of(1992, 9, 2))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("3000.00"))
+                .availableCreditAmount(new BigDecimal("100.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+
+        int updated = creditLineRepository.reserveCredit(creditLine.getId(), new BigDecimal("100.01"));
+        entityManager.clear();
+
+        assertThat(updated).isZero();
+        assertThat(entityManager.find(CreditLine.class, creditLine.getId()).getAvailableCreditAmount())
+                .isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void restoreCredit_WhenWithinTotalCredit_AddsAmount() {
+        Customer customer = Customer.builder()
+                .firstName("Lucia")
+                .lastName("Navarro")
+                .secondLastName("Ibarra")
+                .dateOfBirth(LocalDate.of(1988, 6, 21))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("5000.00"))
+                .availableCreditAmount(new BigDecimal("3799.50"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+
+        int updated = creditLineRepository.restoreCredit(creditLine.getId(), new BigDecimal("1200.50"));
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(entityManager.find(CreditLine.class, creditLine.getId()).getAvailableCreditAmount())
+                .isEqualByComparingTo("5000.00");
+    }
+
+    @Test
+    void restoreCredit_WhenAmountExceedsTotalCredit_DoesNotUpdate() {
+        Customer customer = Customer.builder()
+                .firstName("Raul")
+                .lastName("Campos")
+                .secondLastName("Soto")
+                .dateOfBirth(LocalDate.of(1979, 11, 5))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("3000.00"))
+                .availableCreditAmount(new BigDecimal("2900.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+
+        int updated = creditLineRepository.restoreCredit(creditLine.getId(), new BigDecimal("100.01"));
+        entityManager.clear();
+
+        assertThat(updated).isZero();
+        assertThat(entityManager.find(CreditLine.class, creditLine.getId()).getAvailableCreditAmount())
+                .isEqualByComparingTo("2900.00");
+    }
+
+    @Test
+    void reserveCredit_WhenEntityWasLoadedBefore_StaleEntityWriteFails() {
+        Customer customer = Customer.builder()
+                .firstName("Elena")
+                .lastName("Duarte")
+                .secondLastName("Paz")
+                .dateOfBirth(LocalDate.of(1987, 1, 30))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("5000.00"))
+                .availableCreditAmount(new BigDecimal("5000.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+        assertThat(creditLine.getVersion()).isZero();
+
+        creditLineRepository.reserveCredit(creditLine.getId(), new BigDecimal("1000.00"));
+        creditLine.setStatus(CreditLineStatus.SUSPENDED);
+
+        assertThatThrownBy(() -> entityManager.flush()).isInstanceOf(OptimisticLockException.class);
+    }
 }
@@ -0,0 +1,247 @@
+package com.bnpl.rubalv.repository;
+
+import com.bnpl.rubalv.dto.projection.LifecycleCheckpoint;
+import com.bnpl.rubalv.enums.CreditLineStatus;
+import com.bnpl.rubalv.enums.InstallmentStatus;
+import com.bnpl.rubalv.enums.LoanStatus;
+import com.bnpl.rubalv.enums.PaymentScheme;
+import com.bnpl.rubalv.model.CreditLine;
+import com.bnpl.rubalv.model.Customer;
+import com.bnpl.rubalv.model.Installment;
+import com.bnpl.rubalv.model.Loan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@Import(InstallmentLifecycleRepository.class)
+public class InstallmentLifecycleRepositoryTest {
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    @Autowired
+    private InstallmentLifecycleRepository lifecycleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CreditLine creditLine;
+    private final LocalDate today = LocalDate.of(2025, 3, 1);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = Customer.builder()
+                .firstName("Marta")
+                .lastName("Salas")
+                .secondLastName("Ortiz")
+                .dateOfBirth(LocalDate.of(1988, 7, 21))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("9000.00"))
+                .availableCreditAmount(new BigDecimal("9000.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+    }
+
+    @Test
+    void markLateLoans_FlagsActiveLoansWithAnOverdueInstallment() {
+        Loan overdue = persistLoan(LoanStatus.ACTIVE, InstallmentStatus.NEXT, today.minusDays(1));
+        Loan dueToday = persistLoan(LoanStatus.ACTIVE, InstallmentStatus.NEXT, today);
+        Loan failedButNotDue = persistLoan(LoanStatus.ACTIVE, InstallmentStatus.ERROR, today.plusDays(3));
+
+        assertThat(lifecycleRepository.markLateLoans(MIN_ID, MAX_ID, today)).containsExactly(overdue.getId());
+
+        entityManager.clear();
+        assertThat(statusOf(overdue)).isEqualTo(LoanStatus.LATE);
+        assertThat(statusOf(dueToday)).isEqualTo(LoanStatus.ACTIVE);
+        assertThat(statusOf(failedButNotDue)).isEqualTo(LoanStatus.ACTIVE);
+    }
+
+    @Test
+    void reactivateLoans_ReturnsLateLoansWithoutOverdueInstallmentsToActive() {
+        Loan stillOverdue = persistLoan(LoanStatus.LATE, InstallmentStatus.NEXT, today.minusDays(10));
+        Loan caughtUp = persistLoan(LoanStatus.LATE, InstallmentStatus.NEXT, today.plusDays(5));
+
+        assertThat(lifecycleRepository.reactivateLoans(MIN_ID, MAX_ID, today)).containsExactly(caughtUp.getId());
+
+        entityManager.clear();
+        assertThat(statusOf(stillOverdue)).isEqualTo(LoanStatus.LATE);
+        assertThat(statusOf(caughtUp)).isEqualTo(LoanStatus.ACTIVE);
+    }
+
+    @Test
+    void completeLoans_KeepsLoansWithOutstandingInstallmentsOpen() {
+        Loan loan = persistLoan(LoanStatus.ACTIVE, InstallmentStatus.PENDING, today.plusDays(15));
+
+        assertThat(lifecycleRepository.completeLoans(MIN_ID, MAX_ID)).isEmpty();
+
+        entityManager.clear();
+        assertThat(statusOf(loan)).isEqualTo(LoanStatus.ACTIVE);
+    }
+
+    @Test
+    void markNextInstallments_MovesNextToTheEarliestOutstandingInstallment() {
+        Loan loan = persistLoan(LoanStatus.ACTIVE, InstallmentStatus.PENDING, today.plusDays(15));
+        addInstallment(loan, 2, InstallmentStatus.NEXT, today.plusDays(30));
+        addInstallment(loan, 3, InstallmentStatus.PENDING, today.plusDays(45));
+        Loan completed = persistLoan(LoanStatus.COMPLETED, InstallmentStatus.PENDING, today.plusDays(15));
+
+        assertThat(lifecycleRepository.markNextInstallments(MIN_ID, MAX_ID)).containsExactly(loan.getId(), loan.getId());
+        assertThat(lifecycleRepository.markNextInstallments(MIN_ID, MAX_ID)).isEmpty();
+
+        entityManager.clear();
+        assertThat(installmentStatuses(loan))
+                .containsExactly(InstallmentStatus.NEXT, InstallmentStatus.PENDING, InstallmentStatus.PENDING);
+        assertThat(installmentStatuses(completed)).containsExactly(InstallmentStatus.PENDING);
+    }
+
+    @Test
+    void markNextInstallments_LeavesFailedInstallmentsAlone() {
+        Loan loan = persistLoan(LoanStatus.LATE, InstallmentStatus.ERROR, today.minusDays(5));
+        addInstallment(loan, 2, InstallmentStatus.PENDING, today.plusDays(10));
+
+        assertThat(lifecycleRepository.markNextInstallments(MIN_ID, MAX_ID)).isEmpty();
+
+        entityManager.clear();
+        assertThat(installmentStatuses(loan)).containsExactly(InstallmentStatus.ERROR, InstallmentStatus.PENDING);
+    }
+
+    @Test
+    void transitions_OnlyTouchLoansInsideTheRange() {
+        List<Loan> loans = Stream.generate(() -> persistLoan(LoanStatus.ACTIVE, InstallmentStatus.PENDING, today.minusDays(1)))
+                .limit(3)
+                .sorted(Comparator.comparing(loan -> loan.getId().toString()))
+                .toList();
+
+        UUID after = loans.get(0).getId();
+        UUID until = loans.get(1).getId();
+        assertThat(lifecycleRepository.markLateLoans(after, until, today)).containsExactly(until);
+        assertThat(lifecycleRepository.markNextInstallments(after, until)).containsExactly(until);
+
+        entityManager.clear();
+        assertThat(loans).extracting(this::statusOf)
+                .containsExactly(LoanStatus.ACTIVE, LoanStatus.LATE, LoanStatus.ACTIVE);
+    }
+
+    @Test
+    void findChunkEnd_SkipsClosedLoansAndStopsAtTheUpperBound() {
+        List<Loan> open = Stream.generate(() -> persistLoan(LoanStatus.ACTIVE, InstallmentStatus.PENDING, today))
+                .limit(3)
+                .sorted(Comparator.comparing(loan -> loan.getId().toString()))
+                .toList();
+        persistLoan(LoanStatus.COMPLETED, InstallmentStatus.PENDING, today);
+
+        assertThat(lifecycleRepository.findChunkEnd(MIN_ID, MAX_ID, 2)).contains(open.get(1).getId());
+        assertThat(lifecycleRepository.findChunkEnd(open.get(1).getId(), MAX_ID, 2)).isEmpty();
+        assertThat(lifecycleRepository.findChunkEnd(MIN_ID, open.get(0).getId(), 2)).isEmpty();
+    }
+
+    @Test
+    void findPartitionBounds_SplitsOpenLoansIntoEvenRanges() {
+        List<UUID> open = Stream.generate(() -> persistLoan(LoanStatus.ACTIVE, InstallmentStatus.PENDING, today))
+                .limit(4)
+                .map(Loan::getId)
+                .sorted(Comparator.comparing(UUID::toString))
+                .toList();
+
+        assertThat(lifecycleRepository.findPartitionBounds(2)).containsExactly(open.get(1));
+        assertThat(lifecycleRepository.findPartitionBounds(1)).isEmpty();
+    }
+
+    @Test
+    void checkpoints_AdvanceUntilThePartitionIsComplete() {
+        UUID middle = UUID.fromString("80000000-0000-0000-0000-000000000000");
+        lifecycleRepository.insertCheckpoints(today, List.of(MIN_ID, middle, MAX_ID));
+        lifecycleRepository.insertCheckpoints(today, List.of(MIN_ID, MAX_ID));
+
+        assertThat(lifecycleRepository.countCheckpoints(today)).isEqualTo(2);
+        assertThat(lifecycleRepository.findIncompletePartitions(today)).containsExactly(0, 1);
+
+        Optional<LifecycleCheckpoint> checkpoint = lifecycleRepository.lockCheckpoint(today, 1);
+        assertThat(checkpoint).contains(new LifecycleCheckpoint(1, middle, MAX_ID));
+
+        UUID chunkEnd = UUID.fromString("c0000000-0000-0000-0000-000000000000");
+        lifecycleRepository.advanceCheckpoint(today, 1, chunkEnd);
+        assertThat(lifecycleRepository.lockCheckpoint(today, 1)).contains(new LifecycleCheckpoint(1, chunkEnd, MAX_ID));
+
+        lifecycleRepository.advanceCheckpoint(today, 1, MAX_ID);
+        assertThat(lifecycleRepository.lockCheckpoint(today, 1)).isEmpty();
+        assertThat(lifecycleRepository.findIncompletePartitions(today)).containsExactly(0);
+    }
+
+    private LoanStatus statusOf(Loan loan) {
+        return entityManager.find(Loan.class, loan.getId()).getStatus();
+    }
+
+    private List<InstallmentStatus> installmentStatuses(Loan loan) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT i.status FROM Installment i WHERE i.loan.id = :loanId ORDER BY i.installmentNumber",
+                        InstallmentStatus.class)
+                .setParameter("loanId", loan.getId())
+                .getResultList();
+    }
+
+    private Loan persistLoan(LoanStatus status, InstallmentStatus firstInstallmentStatus, LocalDate firstDueDate) {
+        Loan loan = Loan.builder()
+                .creditLine(creditLine)
+                .amount(new BigDecimal("300.00"))
+                .totalAmount(new BigDecimal("339.00"))
+                .status(status)
+                .paymentScheme(PaymentScheme.SCHEME_1)
+                .interestRate(new BigDecimal("0.13"))
+                .commissionAmount(new BigDecimal("39.00"))
+                .purchaseDate(firstDueDate.minusDays(15))
+                .build();
+        entityManager.persistAndFlush(loan);
+        addInstallment(loan, 1, firstInstallmentStatus, firstDueDate);
+        return loan;
+    }
+
+    private void addInstallment(Loan loan, int number, InstallmentStatus status, LocalDate dueDate) {
+        entityManager.persistAndFlush(Installment.builder()
+                .loan(loan)
+                .amount(new BigDecimal("113.00"))
+                .scheduledPaymentDate(dueDate)
+                .status(status)
+                .installmentNumber(number)
+                .build());
+    }
+}
@@ -1,5 +1,6 @@
 package com.bnpl.rubalv.repository;
 
+import com.bnpl.rubalv.dto.projection.InstallmentSettlementRow;
 import com.bnpl.rubalv.enums.CreditLineStatus;
 import com.bnpl.rubalv.enums.InstallmentStatus;
 import com.bnpl.rubalv.enums.LoanStatus;
@@ -7,6 +8,7 @@ import com.bnpl.rubalv.enums.PaymentScheme;
 import com.bnpl.rubalv.model.CreditLine;
 import com.bnpl.rubalv.model.Customer;
 import com.bnpl.rubalv.model.Installment;
+import com.bnpl.rubalv.model.InstallmentPayment;
 import com.bnpl.rubalv.model.Loan;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +24,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -129,4 +133,67 @@ public class InstallmentRepositoryTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void findSettlementRowsByLoanIds_ReturnsInstallmentsWithLoanAndCreditLine() {
+        Loan loan = persistLoan();
+        persistInstallment(loan, 1, InstallmentStatus.NEXT);
+        persistInstallment(loan, 2, InstallmentStatus.PENDING);
+
+        List<InstallmentSettlementRow> result = installmentRepository.findSettlementRowsByLoanIds(List.of(loan.getId()));
+
+        assertThat(result).extracting(InstallmentSettlementRow::installmentNumber).containsExactlyInAnyOrder(1, 2);
+        assertThat(result).allSatisfy(row -> {
+            assertThat(row.loanAmount()).isEqualByComparingTo("4000.00");
+            assertThat(row.creditLineId()).isEqualTo(activeCreditLine.getId());
+            assertThat(row.customerId()).isEqualTo(activeCreditLine.getCustomer().getId());
+        });
+    }
+
+    @Test
+    void markPaid_CopiesPaidTimeAndSkipsPaidInstallments() {
+        Loan loan = persistLoan();
+        Installment installment = persistInstallment(loan, 1, InstallmentStatus.NEXT);
+        OffsetDateTime paidAt = OffsetDateTime.of(2024, 3, 30, 12, 0, 0, 0, ZoneOffset.UTC);
+        entityManager.persistAndFlush(InstallmentPayment.builder()
+                .installment(installment)
+                .reference("REF-1")
+                .amount(installment.getAmount())
+                .paidAt(paidAt)
+                .build());
+
+        int first = installmentRepository.markPaid(List.of(installment.getId()));
+        int second = installmentRepository.markPaid(List.of(installment.getId()));
+        entityManager.clear();
+
+        Installment paid = entityManager.find(Installment.class, installment.getId());
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(paid.getStatus()).isEqualTo(InstallmentStatus.PAID);
+        assertThat(paid.getPaidAt()).isAtSameInstantAs(paidAt);
+    }
+
+    private Loan persistLoan() {
+        Loan loan = Loan.builder()
+                .amount(new BigDecimal("4000.00"))
+                .totalAmount(new BigDecimal("4400.00"))
+                .status(LoanStatus.ACTIVE)
+                .paymentScheme(PaymentScheme.SCHEME_1)
+                .interestRate(new BigDecimal("5.00"))
+                .commissionAmount(new BigDecimal("40.00"))
+                .purchaseDate(LocalDate.of(2024, 3, 1))
+                .creditLine(activeCreditLine)
+                .build();
+        return entityManager.persistAndFlush(loan);
+    }
+
+    private Installment persistInstallment(Loan loan, int number, InstallmentStatus status) {
+        return entityManager.persistAndFlush(Installment.builder()
+                .loan(loan)
+                .amount(new BigDecimal("880.00"))
+                .scheduledPaymentDate(LocalDate.of(2024, 3, 1).plusWeeks(2L * number))
+                .status(status)
+                .installmentNumber(number)
+                .build());
+    }
 }
@@ -1,5 +1,9 @@
 package com.bnpl.rubalv.repository;
 
+import com.bnpl.rubalv.dto.projection.InstallmentExportRow;
+import com.bnpl.rubalv.dto.projection.InstallmentRow;
+import com.bnpl.rubalv.dto.projection.LoanExportRow;
+import com.bnpl.rubalv.dto.projection.LoanSummaryRow;
 import com.bnpl.rubalv.enums.CreditLineStatus;
 import com.bnpl.rubalv.enums.InstallmentStatus;
 import com.bnpl.rubalv.enums.LoanStatus;
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -21,9 +26,13 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -295,4 +304,156 @@ public class LoanRepositoryTest {
                 .getResultList();
         assertThat(installments).isEmpty();
     }
+
+    @Test
+    void streamLoansCreatedBetween_ReturnsOnlyLoansInRangeOrderedByCreation() {
+        Customer customer = Customer.builder()
+                .firstName("Elena")
+                .lastName("Ruiz")
+                .secondLastName("Mora")
+                .dateOfBirth(LocalDate.of(1987, 9, 3))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("8000.00"))
+                .availableCreditAmount(new BigDecimal("8000.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+
+        OffsetDateTime base = OffsetDateTime.of(2024, 7, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        persistLoan(creditLine, base.minusDays(1));
+        Loan second = persistLoan(creditLine, base.plusHours(2));
+        Loan first = persistLoan(creditLine, base);
+        persistLoan(creditLine, base.plusDays(1));
+        entityManager.clear();
+
+        try (Stream<LoanExportRow> rows = loanRepository.streamLoansCreatedBetween(base, base.plusDays(1))) {
+            assertThat(rows.map(LoanExportRow::id)).containsExactly(first.getId(), second.getId());
+        }
+        try (Stream<InstallmentExportRow> rows = loanRepository.streamInstallmentsOfLoansCreatedBetween(base, base.plusDays(1))) {
+            assertThat(rows.map(InstallmentExportRow::loanId)).containsExactly(first.getId(), second.getId());
+        }
+    }
+
+    private Loan persistLoan(CreditLine creditLine, OffsetDateTime createdAt) {
+        Loan loan = Loan.builder()
+                .creditLine(creditLine)
+                .amount(new BigDecimal("1000.00"))
+                .totalAmount(new BigDecimal("1130.00"))
+                .status(LoanStatus.ACTIVE)
+                .paymentScheme(PaymentScheme.SCHEME_1)
+                .interestRate(new BigDecimal("0.13"))
+                .commissionAmount(new BigDecimal("130.00"))
+                .purchaseDate(createdAt.toLocalDate())
+                .createdAt(createdAt)
+                .build();
+        loan.getInstallments().add(Installment.builder()
+                .loan(loan)
+                .amount(new BigDecimal("1130.00"))
+                .scheduledPaymentDate(createdAt.toLocalDate().plusDays(15))
+                .status(InstallmentStatus.NEXT)
+                .installmentNumber(1)
+                .build());
+        entityManager.persistAndFlush(loan);
+        return loan;
+    }
+
+    @Test
+    void findCustomerLoansBefore_SeeksPagesNewestFirst() {
+        Customer customer = Customer.builder()
+                .firstName("Elena")
+                .lastName("Ruiz")
+                .secondLastName("Vega")
+                .dateOfBirth(LocalDate.of(1991, 3, 8))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("9000.00"))
+                .availableCreditAmount(new BigDecimal("9000.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 1, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+        Loan first = persistLoan(creditLine, createdAt, LoanStatus.ACTIVE);
+        Loan sameInstantA = persistLoan(creditLine, createdAt.plusHours(1), LoanStatus.LATE);
+        Loan sameInstantB = persistLoan(creditLine, createdAt.plusHours(1), LoanStatus.ACTIVE);
+        Loan newest = persistLoan(creditLine, createdAt.plusHours(2), LoanStatus.ACTIVE);
+        entityManager.clear();
+
+        EnumSet<LoanStatus> allStatuses = EnumSet.allOf(LoanStatus.class);
+        List<LoanSummaryRow> firstPage = loanRepository.findCustomerLoansBefore(customer.getId(), allStatuses,
+                OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC), new UUID(-1L, -1L), Limit.of(2));
+        LoanSummaryRow last = firstPage.get(1);
+        List<LoanSummaryRow> secondPage = loanRepository.findCustomerLoansBefore(customer.getId(), allStatuses,
+                last.createdAt(), last.loanId(), Limit.of(2));
+        List<LoanSummaryRow> late = loanRepository.findCustomerLoansBefore(customer.getId(), List.of(LoanStatus.LATE),
+                OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC), new UUID(-1L, -1L), Limit.of(10));
+
+        List<UUID> tied = sameInstantA.getId().toString().compareTo(sameInstantB.getId().toString()) > 0
+                ? List.of(sameInstantA.getId(), sameInstantB.getId())
+                : List.of(sameInstantB.getId(), sameInstantA.getId());
+        assertThat(firstPage).extracting(LoanSummaryRow::loanId).containsExactly(newest.getId(), tied.get(0));
+        assertThat(secondPage).extracting(LoanSummaryRow::loanId).containsExactly(tied.get(1), first.getId());
+        assertThat(late).extracting(LoanSummaryRow::loanId).containsExactly(sameInstantA.getId());
+    }
+
+    @Test
+    void findInstallmentsByLoanIds_ReturnsInstallmentsOfAllLoansInOrder() {
+        Customer customer = Customer.builder()
+                .firstName("Hugo")
+                .lastName("Diaz")
+                .secondLastName("Mora")
+                .dateOfBirth(LocalDate.of(1987, 9, 1))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("9000.00"))
+                .availableCreditAmount(new BigDecimal("9000.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+
+        Loan loan = persistLoan(creditLine, OffsetDateTime.now(), LoanStatus.ACTIVE);
+        for (int number = 2; number >= 1; number--) {
+            entityManager.persist(Installment.builder()
+                    .loan(loan)
+                    .amount(new BigDecimal("100.00"))
+                    .scheduledPaymentDate(LocalDate.of(2025, 1, 1).plusWeeks(2L * number))
+                    .status(number == 1 ? InstallmentStatus.NEXT : InstallmentStatus.PENDING)
+                    .installmentNumber(number)
+                    .build());
+        }
+        Loan otherLoan = persistLoan(creditLine, OffsetDateTime.now(), LoanStatus.ACTIVE);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<InstallmentRow> installments = loanRepository.findInstallmentsByLoanIds(List.of(loan.getId(), otherLoan.getId()));
+
+        assertThat(installments).extracting(InstallmentRow::loanId).containsOnly(loan.getId());
+        assertThat(installments).extracting(InstallmentRow::status)
+                .containsExactly(InstallmentStatus.NEXT, InstallmentStatus.PENDING);
+    }
+
+    private Loan persistLoan(CreditLine creditLine, OffsetDateTime createdAt, LoanStatus status) {
+        Loan loan = Loan.builder()
+                .creditLine(creditLine)
+                .amount(new BigDecimal("100.00"))
+                .totalAmount(new BigDecimal("113.00"))
+                .status(status)
+                .paymentScheme(PaymentScheme.SCHEME_1)
+                .interestRate(new BigDecimal("0.13"))
+                .commissionAmount(new BigDecimal("13.00"))
+                .purchaseDate(createdAt.toLocalDate())
+                .createdAt(createdAt)
+                .build();
+        return entityManager.persistAndFlush(loan);
+    }
 }
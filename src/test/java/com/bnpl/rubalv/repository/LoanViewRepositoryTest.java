@@ -0,0 +1,134 @@
+package com.bnpl.rubalv.repository;
+
+import com.bnpl.rubalv.dto.projection.LoanViewRow;
+import com.bnpl.rubalv.enums.CreditLineStatus;
+import com.bnpl.rubalv.enums.InstallmentStatus;
+import com.bnpl.rubalv.enums.LoanStatus;
+import com.bnpl.rubalv.enums.PaymentScheme;
+import com.bnpl.rubalv.model.CreditLine;
+import com.bnpl.rubalv.model.Customer;
+import com.bnpl.rubalv.model.Installment;
+import com.bnpl.rubalv.model.Loan;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+public class LoanViewRepositoryTest {
+    @Autowired
+    private LoanViewRepository loanViewRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Test
+    void upsert_NewLoan_IsReadBackByLoanId() {
+        Loan loan = persistLoan(LoanStatus.ACTIVE);
+        UUID customerId = loan.getCreditLine().getCustomer().getId();
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 3, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+
+        loanViewRepository.upsert(loan.getId(), customerId, LoanStatus.ACTIVE.name(), new BigDecimal("100.00"), createdAt,
+                "[{\"amount\":2000.00,\"scheduledPaymentDate\":\"2024-07-01\",\"status\":\"PENDING\"}]");
+
+        Optional<LoanViewRow> row = loanViewRepository.findRowById(loan.getId());
+        assertThat(row).isPresent();
+        assertThat(row.get().customerId()).isEqualTo(customerId);
+        assertThat(row.get().status()).isEqualTo(LoanStatus.ACTIVE);
+        assertThat(row.get().commissionAmount()).isEqualByComparingTo("100.00");
+        assertThat(row.get().createdAt().toInstant()).isEqualTo(createdAt.toInstant());
+        assertThat(row.get().installments()).contains("\"scheduledPaymentDate\": \"2024-07-01\"");
+    }
+
+    @Test
+    void refresh_RebuildsInstallmentsInNumberOrder() {
+        Loan loan = persistLoan(LoanStatus.ACTIVE);
+        persistInstallment(loan, 2, InstallmentStatus.PENDING);
+        persistInstallment(loan, 1, InstallmentStatus.PAID);
+
+        assertThat(loanViewRepository.refresh(List.of(loan.getId()))).isEqualTo(1);
+
+        String installments = loanViewRepository.findRowById(loan.getId()).orElseThrow().installments();
+        assertThat(installments.indexOf("PAID")).isLessThan(installments.indexOf("PENDING"));
+    }
+
+    @Test
+    void refresh_UnchangedLoan_WritesNothing() {
+        Loan loan = persistLoan(LoanStatus.ACTIVE);
+        persistInstallment(loan, 1, InstallmentStatus.PENDING);
+        loanViewRepository.refresh(List.of(loan.getId()));
+
+        assertThat(loanViewRepository.refresh(List.of(loan.getId()))).isZero();
+    }
+
+    private Loan persistLoan(LoanStatus status) {
+        Customer customer = Customer.builder()
+                .firstName("Ana")
+                .lastName("López")
+                .secondLastName("Ruiz")
+                .dateOfBirth(LocalDate.of(1992, 2, 20))
+                .build();
+        entityManager.persistAndFlush(customer);
+
+        CreditLine creditLine = CreditLine.builder()
+                .customer(customer)
+                .totalCreditAmount(new BigDecimal("10000.00"))
+                .availableCreditAmount(new BigDecimal("6000.00"))
+                .status(CreditLineStatus.ACTIVE)
+                .build();
+        entityManager.persistAndFlush(creditLine);
+
+        Loan loan = Loan.builder()
+                .creditLine(creditLine)
+                .amount(new BigDecimal("4000.00"))
+                .totalAmount(new BigDecimal("4100.00"))
+                .status(status)
+                .paymentScheme(PaymentScheme.SCHEME_1)
+                .interestRate(new BigDecimal("4.50"))
+                .commissionAmount(new BigDecimal("100.00"))
+                .purchaseDate(LocalDate.of(2024, 6, 15))
+                .build();
+        return entityManager.persistAndFlush(loan);
+    }
+
+    private void persistInstallment(Loan loan, int number, InstallmentStatus status) {
+        entityManager.persistAndFlush(Installment.builder()
+                .loan(loan)
+                .amount(new BigDecimal("2050.00"))
+                .scheduledPaymentDate(LocalDate.of(2024, 6, 15).plusWeeks(2L * number))
+                .status(status)
+                .installmentNumber(number)
+                .build());
+    }
+}
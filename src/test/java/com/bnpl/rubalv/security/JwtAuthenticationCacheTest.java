@@ -0,0 +1,97 @@
+package com.bnpl.rubalv.security;
+
+import com.bnpl.rubalv.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JwtAuthenticationCacheTest {
+    private static final String SECRET = "MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=";
+
+    private JwtKeyRing jwtKeyRing;
+    private JwtAuthenticationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtKeyRing = new JwtKeyRing(jwtProperties);
+        cache = new JwtAuthenticationCache(jwtProperties, jwtKeyRing);
+    }
+
+    @Test
+    void get_AfterPut_ReturnsCachedAuthenticationAndCountsHit() {
+        Authentication authentication = authentication(Instant.now().plusSeconds(60));
+
+        assertThat(cache.get("token")).isNull();
+        cache.put("token", authentication);
+
+        Authentication cached = cache.get("token");
+        assertThat(cached.getName()).isEqualTo("user");
+        assertThat(cached.getAuthorities()).isEqualTo(authentication.getAuthorities());
+        assertThat(cached.getCredentials()).isNull();
+        assertThat(cached.isAuthenticated()).isTrue();
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ReturnsANewAuthenticationPerCall_SoChangesDoNotLeakBetweenRequests() {
+        cache.put("token", authentication(Instant.now().plusSeconds(60)));
+
+        JwtAuthenticationToken first = (JwtAuthenticationToken) cache.get("token");
+        first.setDetails("request one");
+        first.eraseCredentials();
+        first.setAuthenticated(false);
+
+        Authentication second = cache.get("token");
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPrincipal()).isNotSameAs(first.getPrincipal());
+        assertThat(second.getDetails()).isNull();
+        assertThat(second.isAuthenticated()).isTrue();
+    }
+
+    @Test
+    void put_ExpiredToken_IsNotCached() {
+        cache.put("token", authentication(Instant.now().minusSeconds(1)));
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void get_AfterTokenExpiration_ReturnsNull() throws InterruptedException {
+        cache.put("token", authentication(Instant.now().plusMillis(200)));
+
+        Thread.sleep(400);
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void put_NonJwtAuthentication_IsNotCached() {
+        cache.put("token", new UsernamePasswordAuthenticationToken("user", "token"));
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void keyRotation_InvalidatesCachedAuthentications() {
+        cache.put("token", authentication(Instant.now().plusSeconds(60)));
+
+        jwtKeyRing.rotate("default", Map.of("default", SECRET));
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    private Authentication authentication(Instant expiresAt) {
+        return new JwtAuthenticationToken("user", "token", List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")), expiresAt);
+    }
+}
@@ -0,0 +1,65 @@
+package com.bnpl.rubalv.security;
+
+import com.bnpl.rubalv.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwtKeyRingTest {
+    private static final String DEFAULT_SECRET = "MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=";
+    private static final String ROTATED_SECRET = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY=";
+
+    @TempDir
+    Path tempDir;
+
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(DEFAULT_SECRET);
+    }
+
+    @Test
+    void constructor_BuildsKeysOnce() {
+        JwtKeyRing keyRing = new JwtKeyRing(jwtProperties);
+
+        assertThat(keyRing.getActiveKey().keyId()).isEqualTo(JwtProperties.DEFAULT_KEY_ID);
+        assertThat(keyRing.getActiveKey()).isSameAs(keyRing.getActiveKey());
+        assertThat(keyRing.getParser()).isSameAs(keyRing.getParser());
+    }
+
+    @Test
+    void rotate_UnknownActiveKey_ThrowsExceptionAndKeepsCurrentKeys() {
+        JwtKeyRing keyRing = new JwtKeyRing(jwtProperties);
+
+        assertThrows(IllegalArgumentException.class, () -> keyRing.rotate("missing", Map.of("k2", ROTATED_SECRET)));
+        assertThat(keyRing.getActiveKey().keyId()).isEqualTo(JwtProperties.DEFAULT_KEY_ID);
+    }
+
+    @Test
+    void reloadKeyFile_WhenFileChanges_RotatesActiveKey() throws IOException {
+        Path keyFile = tempDir.resolve("jwt-keys.properties");
+        Files.writeString(keyFile, "active-key-id=k2\nkeys.k2=" + ROTATED_SECRET + "\n");
+        jwtProperties.setKeyFile(keyFile.toString());
+
+        JwtKeyRing keyRing = new JwtKeyRing(jwtProperties);
+        assertThat(keyRing.getActiveKey().keyId()).isEqualTo("k2");
+
+        Files.writeString(keyFile, "active-key-id=default\nkeys.k2=" + ROTATED_SECRET + "\n");
+        Files.setLastModifiedTime(keyFile, FileTime.from(Instant.now().plusSeconds(5)));
+        keyRing.reloadKeyFile();
+
+        assertThat(keyRing.getActiveKey().keyId()).isEqualTo(JwtProperties.DEFAULT_KEY_ID);
+    }
+}
@@ -0,0 +1,67 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.projection.CustomerCreditLineRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CreditLineCacheTest {
+    private final CreditLineCache creditLineCache = new CreditLineCache(100, 300);
+    private final UUID customerId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_LoadRacingInvalidation_IsNotCached() {
+        creditLineCache.get(customerId, id -> {
+            creditLineCache.invalidate(id);
+            return Optional.of(row(id));
+        });
+        creditLineCache.get(customerId, this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_UnknownCustomer_IsNotCached() {
+        creditLineCache.get(customerId, id -> Optional.empty());
+
+        assertThat(creditLineCache.get(customerId, this::load)).isPresent();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidate_InsideTransaction_InvalidatesAgainAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        creditLineCache.invalidate(customerId);
+        creditLineCache.get(customerId, this::load);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        creditLineCache.get(customerId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private Optional<CustomerCreditLineRow> load(UUID id) {
+        loads.incrementAndGet();
+        return Optional.of(row(id));
+    }
+
+    private static CustomerCreditLineRow row(UUID customerId) {
+        return new CustomerCreditLineRow(customerId, "Carlos", 10L, UUID.randomUUID());
+    }
+}
@@ -3,10 +3,14 @@ package com.bnpl.rubalv.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 import com.bnpl.rubalv.constants.CreditLineConstants;
+import com.bnpl.rubalv.dto.projection.CustomerCreditLineRow;
 import com.bnpl.rubalv.enums.CreditLineStatus;
+import com.bnpl.rubalv.exception.CreditRestoreConflictException;
+import com.bnpl.rubalv.exception.CustomerNotFoundException;
 import com.bnpl.rubalv.model.CreditLine;
 import com.bnpl.rubalv.model.Customer;
 import com.bnpl.rubalv.repository.CreditLineRepository;
@@ -15,11 +19,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
 public class CreditLineServiceImplTest {
@@ -29,6 +36,12 @@ public class CreditLineServiceImplTest {
     @Mock
     private DateHelper dateHelper;
 
+    @Spy
+    private CreditLineCache creditLineCache = new CreditLineCache(100, 300);
+
+    @Mock
+    private CustomerCache customerCache;
+
     @InjectMocks
     private CreditLineServiceImpl creditLineService;
 
@@ -59,6 +72,33 @@ public class CreditLineServiceImplTest {
         verify(creditLineRepository, never()).save(any(CreditLine.class));
     }
 
+    @Test
+    void createCreditLines_AssignsAmountPerCustomerAge() {
+        Customer youngAdult = new Customer();
+        youngAdult.setDateOfBirth(LocalDate.now().minusYears(20));
+        Customer senior = new Customer();
+        senior.setDateOfBirth(LocalDate.now().minusYears(60));
+
+        when(dateHelper.calculateAge(youngAdult.getDateOfBirth())).thenReturn(20);
+        when(dateHelper.calculateAge(senior.getDateOfBirth())).thenReturn(60);
+        when(creditLineRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<CreditLine> result = creditLineService.createCreditLines(List.of(youngAdult, senior));
+
+        assertThat(result).extracting(CreditLine::getCustomer).containsExactly(youngAdult, senior);
+        assertThat(result).extracting(CreditLine::getTotalCreditAmount)
+                .containsExactly(CreditLineConstants.CREDIT_AMOUNT_YOUNG_ADULT, CreditLineConstants.CREDIT_AMOUNT_SENIOR);
+        verify(creditLineRepository).saveAll(anyList());
+    }
+
+    @Test
+    void validateEligibility_AgeAboveMaximum_ThrowsException() {
+        LocalDate dateOfBirth = LocalDate.now().minusYears(70);
+        when(dateHelper.calculateAge(dateOfBirth)).thenReturn(70);
+
+        assertThrows(IllegalArgumentException.class, () -> creditLineService.validateEligibility(dateOfBirth));
+    }
+
     @Test
     void getCustomerCreditLine_ActiveExists_ReturnsCreditLine() {
         Customer customer = new Customer();
@@ -85,18 +125,95 @@ public class CreditLineServiceImplTest {
     }
 
     @Test
-    void updateCreditLine_ValidAmount_UpdatesCorrectly() {
+    void getActiveCreditLine_SecondCall_IsServedFromCache() {
+        UUID customerId = UUID.randomUUID();
+        CustomerCreditLineRow row = new CustomerCreditLineRow(customerId, "Carlos", 10L, UUID.randomUUID());
+        when(creditLineRepository.findCustomerCreditLine(customerId)).thenReturn(Optional.of(row));
+
+        assertThat(creditLineService.getActiveCreditLine(customerId)).isEqualTo(row);
+        assertThat(creditLineService.getActiveCreditLine(customerId)).isEqualTo(row);
+
+        verify(creditLineRepository, times(1)).findCustomerCreditLine(customerId);
+    }
+
+    @Test
+    void getActiveCreditLine_UnknownCustomer_ThrowsException() {
+        UUID customerId = UUID.randomUUID();
+        when(creditLineRepository.findCustomerCreditLine(customerId)).thenReturn(Optional.empty());
+
+        assertThrows(CustomerNotFoundException.class, () -> creditLineService.getActiveCreditLine(customerId));
+    }
+
+    @Test
+    void createCreditLine_CachedCustomerWithoutCreditLine_InvalidatesCache() {
+        Customer customer = Customer.builder().id(UUID.randomUUID()).dateOfBirth(LocalDate.now().minusYears(30)).build();
+        CustomerCreditLineRow withoutCreditLine = new CustomerCreditLineRow(customer.getId(), "Carlos", 10L, null);
+        CustomerCreditLineRow withCreditLine = new CustomerCreditLineRow(customer.getId(), "Carlos", 10L, UUID.randomUUID());
+        when(creditLineRepository.findCustomerCreditLine(customer.getId()))
+                .thenReturn(Optional.of(withoutCreditLine), Optional.of(withCreditLine));
+        when(dateHelper.calculateAge(customer.getDateOfBirth())).thenReturn(30);
+        when(creditLineRepository.save(any(CreditLine.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        creditLineService.getActiveCreditLine(customer.getId());
+        creditLineService.createCreditLine(customer);
+
+        assertThat(creditLineService.getActiveCreditLine(customer.getId())).isEqualTo(withCreditLine);
+    }
+
+    @Test
+    void updateCreditLine_ValidAmount_ReservesCredit() {
         CreditLine creditLine = CreditLine.builder()
+                .id(UUID.randomUUID())
                 .availableCreditAmount(BigDecimal.valueOf(1000))
                 .build();
         BigDecimal amount = BigDecimal.valueOf(200);
 
-        when(creditLineRepository.save(creditLine)).thenReturn(creditLine);
+        when(creditLineRepository.reserveCredit(creditLine.getId(), amount)).thenReturn(1);
+
+        boolean result = creditLineService.updateCreditLine(creditLine.getId(), UUID.randomUUID(), amount);
+
+        assertThat(result).isTrue();
+        verify(creditLineRepository).reserveCredit(creditLine.getId(), amount);
+        verify(creditLineRepository, never()).save(any(CreditLine.class));
+    }
+
+    @Test
+    void updateCreditLine_InsufficientCredit_ReturnsFalse() {
+        CreditLine creditLine = CreditLine.builder()
+                .id(UUID.randomUUID())
+                .availableCreditAmount(BigDecimal.valueOf(100))
+                .build();
+        BigDecimal amount = BigDecimal.valueOf(200);
+
+        UUID customerId = UUID.randomUUID();
+        when(creditLineRepository.reserveCredit(creditLine.getId(), amount)).thenReturn(0);
+
+        boolean result = creditLineService.updateCreditLine(creditLine.getId(), customerId, amount);
+
+        assertThat(result).isFalse();
+        verify(creditLineRepository, never()).save(any(CreditLine.class));
+        verify(creditLineCache).invalidate(customerId);
+    }
 
-        creditLineService.updateCreditLine(creditLine, amount);
+    @Test
+    void restoreCredit_WithinTotal_AddsToAvailableCredit() {
+        UUID creditLineId = UUID.randomUUID();
+        BigDecimal amount = new BigDecimal("80.16");
+        when(creditLineRepository.restoreCredit(creditLineId, amount)).thenReturn(1);
+
+        creditLineService.restoreCredit(creditLineId, UUID.randomUUID(), amount);
+
+        verify(creditLineRepository).restoreCredit(creditLineId, amount);
+    }
+
+    @Test
+    void restoreCredit_AboveTotal_ThrowsException() {
+        UUID creditLineId = UUID.randomUUID();
+        BigDecimal amount = new BigDecimal("80.16");
+        when(creditLineRepository.restoreCredit(creditLineId, amount)).thenReturn(0);
 
-        assertThat(creditLine.getAvailableCreditAmount()).isEqualTo(BigDecimal.valueOf(800));
-        verify(creditLineRepository).save(creditLine);
+        assertThrows(CreditRestoreConflictException.class,
+                () -> creditLineService.restoreCredit(creditLineId, UUID.randomUUID(), amount));
     }
 
     @Test
@@ -0,0 +1,144 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.request.CreateCustomerRequestDto;
+import com.bnpl.rubalv.dto.response.CustomerBatchItemResult;
+import com.bnpl.rubalv.dto.response.CustomerRegistrationResult;
+import com.bnpl.rubalv.dto.response.CustomerResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CustomerBatchServiceImplTest {
+    private static final String VALID_ITEM = "{\"firstName\":\"Pepe\",\"lastName\":\"Garcia\",\"secondLastName\":\"Flores\",\"dateOfBirth\":\"1990-01-01\"}";
+
+    private static ValidatorFactory validatorFactory;
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private CreditLineService creditLineService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private CustomerBatchServiceImpl customerBatchService;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = validatorFactory.getValidator();
+        customerBatchService = new CustomerBatchServiceImpl(customerService, creditLineService, objectMapper, validator, 2);
+    }
+
+    @Test
+    void shouldRegisterValidItemsInChunks() throws IOException {
+        when(customerService.registerCustomers(anyList())).thenAnswer(invocation -> registered(invocation.getArgument(0)));
+
+        List<CustomerBatchItemResult> results = process("[" + VALID_ITEM + "," + VALID_ITEM + "," + VALID_ITEM + "]");
+
+        assertThat(results).hasSize(3);
+        assertThat(results).extracting(CustomerBatchItemResult::getIndex).containsExactly(0L, 1L, 2L);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.getId()).isNotNull();
+            assertThat(result.getToken()).isEqualTo("token");
+            assertThat(result.getCode()).isNull();
+        });
+        verify(customerService, times(2)).registerCustomers(anyList());
+    }
+
+    @Test
+    void shouldReportInvalidItemsWithoutPersistingThem() throws IOException {
+        doThrow(new IllegalArgumentException("Client age must be between the range (18-65 years)"))
+                .when(creditLineService).validateEligibility(LocalDate.parse("2015-01-01"));
+        when(customerService.registerCustomers(anyList())).thenAnswer(invocation -> registered(invocation.getArgument(0)));
+
+        List<CustomerBatchItemResult> results = process(String.join("\n",
+                "{\"firstName\":\"\",\"lastName\":\"Garcia\",\"secondLastName\":\"Flores\",\"dateOfBirth\":\"1990-01-01\"}",
+                "{\"firstName\":\"Pepe\",\"lastName\":\"Garcia\",\"secondLastName\":\"Flores\",\"dateOfBirth\":\"not-a-date\"}",
+                "{\"firstName\":\"Pepe\",\"lastName\":\"Garcia\",\"secondLastName\":\"Flores\",\"dateOfBirth\":\"2015-01-01\"}",
+                VALID_ITEM));
+
+        assertThat(results).extracting(CustomerBatchItemResult::getIndex).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(results).extracting(CustomerBatchItemResult::getCode)
+                .containsExactly("APZ000002", "APZ000002", "APZ000004", null);
+        verify(customerService).registerCustomers(argThat(chunk -> chunk.size() == 1));
+    }
+
+    @Test
+    void shouldFallBackToSingleRegistrationWhenChunkFails() throws IOException {
+        when(customerService.registerCustomers(anyList())).thenThrow(new IllegalStateException("constraint violation"));
+        when(customerService.registerCustomer(any(CreateCustomerRequestDto.class)))
+                .thenReturn(registered(List.of(new CreateCustomerRequestDto())).get(0))
+                .thenThrow(new IllegalStateException("duplicate"));
+
+        List<CustomerBatchItemResult> results = process(VALID_ITEM + "\n" + VALID_ITEM);
+
+        assertThat(results).extracting(CustomerBatchItemResult::getCode).containsExactly(null, "APZ000001");
+        verify(customerService, times(2)).registerCustomer(any(CreateCustomerRequestDto.class));
+    }
+
+    @Test
+    void shouldStopAtMalformedJson() throws IOException {
+        when(customerService.registerCustomers(anyList())).thenAnswer(invocation -> registered(invocation.getArgument(0)));
+
+        List<CustomerBatchItemResult> results = process(VALID_ITEM + "\n{\"firstName\":");
+
+        assertThat(results).extracting(CustomerBatchItemResult::getIndex).containsExactly(1L, 0L);
+        assertThat(results.get(0).getCode()).isEqualTo("APZ000004");
+        assertThat(results.get(1).getId()).isNotNull();
+    }
+
+    private List<CustomerBatchItemResult> process(String body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        customerBatchService.registerCustomers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<CustomerBatchItemResult> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, CustomerBatchItemResult.class));
+        }
+        return results;
+    }
+
+    private List<CustomerRegistrationResult> registered(List<CreateCustomerRequestDto> requests) {
+        return requests.stream()
+                .map(request -> {
+                    CustomerResponseDto customer = new CustomerResponseDto();
+                    customer.setId(UUID.randomUUID());
+                    return new CustomerRegistrationResult(customer, "token");
+                })
+                .toList();
+    }
+}
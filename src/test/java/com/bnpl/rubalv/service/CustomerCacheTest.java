@@ -0,0 +1,109 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.CacheConfig;
+import com.bnpl.rubalv.dto.response.CustomerResponseDto;
+import com.bnpl.rubalv.mapper.CustomerMapper;
+import com.bnpl.rubalv.model.CreditLine;
+import com.bnpl.rubalv.model.Customer;
+import com.bnpl.rubalv.repository.CreditLineRepository;
+import com.bnpl.rubalv.repository.CustomerRepository;
+import com.bnpl.rubalv.utils.helpers.DateHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, CustomerServiceImpl.class, CreditLineServiceImpl.class, CreditLineCache.class, CustomerCache.class})
+public class CustomerCacheTest {
+    @MockitoBean
+    private CustomerRepository customerRepository;
+
+    @MockitoBean
+    private CreditLineRepository creditLineRepository;
+
+    @MockitoBean
+    private CustomerMapper customerMapper;
+
+    @MockitoBean
+    private JwtTokenService jwtTokenService;
+
+    @MockitoBean
+    private DateHelper dateHelper;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CreditLineService creditLineService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private UUID customerId;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).clear();
+        customerId = UUID.randomUUID();
+        customer = Customer.builder().id(customerId).build();
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+        when(customerMapper.mapToCustomerResponseDto(eq(customer), any())).thenAnswer(invocation -> new CustomerResponseDto());
+    }
+
+    @Test
+    void getCustomerById_SecondCall_IsServedFromCache() {
+        CustomerResponseDto first = customerService.getCustomerById(customerId);
+        CustomerResponseDto second = customerService.getCustomerById(customerId);
+
+        assertThat(second).isSameAs(first);
+        verify(customerRepository, times(1)).findById(customerId);
+    }
+
+    @Test
+    void updateCreditLine_EvictsCachedCustomer() {
+        CreditLine creditLine = CreditLine.builder()
+                .id(UUID.randomUUID())
+                .customer(customer)
+                .availableCreditAmount(BigDecimal.valueOf(1000))
+                .build();
+        when(creditLineRepository.reserveCredit(creditLine.getId(), BigDecimal.TEN)).thenReturn(1);
+
+        customerService.getCustomerById(customerId);
+        creditLineService.updateCreditLine(creditLine.getId(), customerId, BigDecimal.TEN);
+        customerService.getCustomerById(customerId);
+
+        verify(customerRepository, times(2)).findById(customerId);
+    }
+
+    @Test
+    void getCustomerById_LoadRacingCreditLineUpdate_IsNotCached() {
+        UUID creditLineId = UUID.randomUUID();
+        when(creditLineRepository.reserveCredit(creditLineId, BigDecimal.TEN)).thenReturn(1);
+        when(customerRepository.findById(customerId))
+                .thenAnswer(invocation -> {
+                    // the reservation commits and evicts while this reader still holds the pre-commit balance
+                    creditLineService.updateCreditLine(creditLineId, customerId, BigDecimal.TEN);
+                    return Optional.of(customer);
+                })
+                .thenReturn(Optional.of(customer));
+
+        customerService.getCustomerById(customerId);
+        customerService.getCustomerById(customerId);
+
+        verify(customerRepository, times(2)).findById(customerId);
+    }
+}
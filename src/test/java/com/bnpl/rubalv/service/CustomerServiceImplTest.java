@@ -4,12 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.bnpl.rubalv.config.CacheConfig;
 import com.bnpl.rubalv.dto.request.CreateCustomerRequestDto;
 import com.bnpl.rubalv.dto.response.CustomerRegistrationResult;
 import com.bnpl.rubalv.dto.response.CustomerResponseDto;
+import com.bnpl.rubalv.enums.OutboxEventType;
 import com.bnpl.rubalv.exception.CustomerNotFoundException;
 import com.bnpl.rubalv.mapper.CustomerMapper;
 import com.bnpl.rubalv.model.CreditLine;
@@ -19,7 +22,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 public class CustomerServiceImplTest {
@@ -35,6 +40,12 @@ public class CustomerServiceImplTest {
     @Mock
     private JwtTokenService jwtTokenService;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private CustomerCache customerCache = new CustomerCache(new ConcurrentMapCacheManager(CacheConfig.CUSTOMERS_CACHE));
+
     @InjectMocks
     private CustomerServiceImpl customerService;
 
@@ -71,6 +82,42 @@ public class CustomerServiceImplTest {
         verify(creditLineService).createCreditLine(savedCustomer);
         verify(jwtTokenService).generateToken(customerId);
         verify(customerMapper).mapToCustomerResponseDto(savedCustomer, Optional.of(creditLine));
+        verify(outboxService).record(OutboxEventType.CUSTOMER_REGISTERED, customerId, responseDto);
+    }
+
+    @Test
+    void registerCustomers_SavesChunkAndIssuesTokens() {
+        CreateCustomerRequestDto firstRequest = new CreateCustomerRequestDto();
+        firstRequest.setFirstName("Juan");
+        CreateCustomerRequestDto secondRequest = new CreateCustomerRequestDto();
+        secondRequest.setFirstName("Maria");
+        Customer firstEntity = new Customer();
+        Customer secondEntity = new Customer();
+        when(customerMapper.toEntity(firstRequest)).thenReturn(firstEntity);
+        when(customerMapper.toEntity(secondRequest)).thenReturn(secondEntity);
+
+        Customer firstSaved = Customer.builder().id(UUID.randomUUID()).build();
+        Customer secondSaved = Customer.builder().id(UUID.randomUUID()).build();
+        when(customerRepository.saveAll(List.of(firstEntity, secondEntity))).thenReturn(List.of(firstSaved, secondSaved));
+
+        CreditLine firstCreditLine = new CreditLine();
+        CreditLine secondCreditLine = new CreditLine();
+        when(creditLineService.createCreditLines(List.of(firstSaved, secondSaved)))
+                .thenReturn(List.of(firstCreditLine, secondCreditLine));
+
+        CustomerResponseDto firstResponse = new CustomerResponseDto();
+        CustomerResponseDto secondResponse = new CustomerResponseDto();
+        when(customerMapper.mapToCustomerResponseDto(firstSaved, Optional.of(firstCreditLine))).thenReturn(firstResponse);
+        when(customerMapper.mapToCustomerResponseDto(secondSaved, Optional.of(secondCreditLine))).thenReturn(secondResponse);
+        when(jwtTokenService.generateToken(firstSaved.getId())).thenReturn("first-token");
+        when(jwtTokenService.generateToken(secondSaved.getId())).thenReturn("second-token");
+
+        List<CustomerRegistrationResult> results = customerService.registerCustomers(List.of(firstRequest, secondRequest));
+
+        assertThat(results).extracting(CustomerRegistrationResult::getCustomer).containsExactly(firstResponse, secondResponse);
+        assertThat(results).extracting(CustomerRegistrationResult::getToken).containsExactly("first-token", "second-token");
+        verify(customerRepository, never()).save(any());
+        verify(outboxService).recordAll(eq(OutboxEventType.CUSTOMER_REGISTERED), eq(List.of(firstResponse, secondResponse)), any());
     }
 
     @Test
@@ -94,6 +141,7 @@ public class CustomerServiceImplTest {
         assertThat(exception.getMessage()).isEqualTo("Error al crear la línea de crédito");
 
         verify(creditLineService).createCreditLine(savedCustomer);
+        verifyNoInteractions(outboxService);
     }
 
     @Test
@@ -0,0 +1,96 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.projection.InstallmentExportRow;
+import com.bnpl.rubalv.dto.projection.LoanExportRow;
+import com.bnpl.rubalv.enums.InstallmentStatus;
+import com.bnpl.rubalv.enums.LoanStatus;
+import com.bnpl.rubalv.enums.PaymentScheme;
+import com.bnpl.rubalv.repository.LoanRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceImplTest {
+    @Mock
+    private LoanRepository loanRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(loanRepository, objectMapper);
+    }
+
+    @Test
+    void exportLoans_WritesOneLinePerRowAndClosesStream() throws IOException {
+        OffsetDateTime from = OffsetDateTime.of(2024, 7, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime to = from.plusDays(1);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(loanRepository.streamLoansCreatedBetween(from, to))
+                .thenReturn(Stream.of(loanRow(from), loanRow(from.plusHours(1))).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = exportService.exportLoans(from, to, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("status").asText()).isEqualTo("ACTIVE");
+        assertThat(first.get("totalAmount").decimalValue()).isEqualByComparingTo("1130.00");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void exportInstallments_DefaultsToOpenRangeEndingNow() throws IOException {
+        UUID loanId = UUID.randomUUID();
+        when(loanRepository.streamInstallmentsOfLoansCreatedBetween(any(), any()))
+                .thenReturn(Stream.of(new InstallmentExportRow(UUID.randomUUID(), loanId, 1, new BigDecimal("226.00"),
+                        LocalDate.of(2024, 7, 15), InstallmentStatus.NEXT)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OffsetDateTime before = OffsetDateTime.now();
+
+        long rows = exportService.exportInstallments(null, null, output);
+
+        ArgumentCaptor<OffsetDateTime> from = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<OffsetDateTime> to = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(loanRepository).streamInstallmentsOfLoansCreatedBetween(from.capture(), to.capture());
+        assertThat(from.getValue().toEpochSecond()).isZero();
+        assertThat(to.getValue()).isAfterOrEqualTo(before);
+        assertThat(rows).isEqualTo(1);
+        assertThat(objectMapper.readTree(output.toString(StandardCharsets.UTF_8)).get("loanId").asText())
+                .isEqualTo(loanId.toString());
+    }
+
+    private LoanExportRow loanRow(OffsetDateTime createdAt) {
+        return new LoanExportRow(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                new BigDecimal("1000.00"), new BigDecimal("1130.00"), LoanStatus.ACTIVE, PaymentScheme.SCHEME_1,
+                new BigDecimal("0.13"), new BigDecimal("130.00"), createdAt.toLocalDate(), createdAt);
+    }
+}
@@ -0,0 +1,127 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.CacheConfig;
+import com.bnpl.rubalv.dto.request.LoanRequestDto;
+import com.bnpl.rubalv.dto.response.InstallmentResponseDto;
+import com.bnpl.rubalv.dto.response.LoanResponseDto;
+import com.bnpl.rubalv.dto.response.PaymentPlanResponseDto;
+import com.bnpl.rubalv.enums.InstallmentStatus;
+import com.bnpl.rubalv.enums.LoanStatus;
+import com.bnpl.rubalv.exception.IdempotencyKeyReusedException;
+import com.bnpl.rubalv.model.IdempotencyKey;
+import com.bnpl.rubalv.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyServiceImplTest {
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private IdempotencyServiceImpl idempotencyService;
+
+    private final UUID customerId = UUID.randomUUID();
+    private final LoanRequestDto loanRequest = new LoanRequestDto(customerId, new BigDecimal("400.80"));
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(idempotencyKeyRepository, objectMapper,
+                new ConcurrentMapCacheManager(CacheConfig.IDEMPOTENCY_KEYS_CACHE), 24);
+    }
+
+    @Test
+    void claim_NewKey_ClaimsIt() {
+        when(idempotencyKeyRepository.claim(any(), eq(customerId), eq("key-1"), anyString())).thenReturn(1);
+
+        assertThat(idempotencyService.claim("key-1", loanRequest)).isEmpty();
+
+        verify(idempotencyKeyRepository, never()).findByCustomerIdAndKey(any(), any());
+    }
+
+    @Test
+    void claim_CompletedKey_ReplaysStoredResponseAndCachesIt() throws Exception {
+        LoanResponseDto response = loanResponse();
+        ArgumentCaptor<String> requestHash = ArgumentCaptor.forClass(String.class);
+        when(idempotencyKeyRepository.claim(any(), eq(customerId), eq("key-1"), requestHash.capture())).thenReturn(0);
+        when(idempotencyKeyRepository.findByCustomerIdAndKey(customerId, "key-1")).thenAnswer(invocation -> Optional.of(
+                storedKey(requestHash.getValue(), objectMapper.writeValueAsString(response))));
+
+        Optional<LoanResponseDto> first = idempotencyService.claim("key-1", loanRequest);
+        Optional<LoanResponseDto> second = idempotencyService.claim("key-1", new LoanRequestDto(customerId, new BigDecimal("400.8")));
+
+        assertThat(first).contains(response);
+        assertThat(second).contains(response);
+        verify(idempotencyKeyRepository, times(1)).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    void claim_KeyReusedWithDifferentAmount_ThrowsException() {
+        LoanResponseDto response = loanResponse();
+        idempotencyService.complete("key-1", loanRequest, response);
+
+        assertThatThrownBy(() -> idempotencyService.claim("key-1", new LoanRequestDto(customerId, new BigDecimal("500.00"))))
+                .isInstanceOf(IdempotencyKeyReusedException.class)
+                .hasMessageContaining("key-1");
+    }
+
+    @Test
+    void claim_SameKeyForAnotherCustomer_IsIndependent() {
+        idempotencyService.complete("key-1", loanRequest, loanResponse());
+        UUID otherCustomer = UUID.randomUUID();
+        when(idempotencyKeyRepository.claim(any(), eq(otherCustomer), eq("key-1"), anyString())).thenReturn(1);
+
+        assertThat(idempotencyService.claim("key-1", new LoanRequestDto(otherCustomer, new BigDecimal("400.80")))).isEmpty();
+    }
+
+    @Test
+    void claim_BlankKey_ThrowsException() {
+        assertThatThrownBy(() -> idempotencyService.claim(" ", loanRequest))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    @Test
+    void complete_StoresResponseAsJson() throws Exception {
+        LoanResponseDto response = loanResponse();
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+
+        idempotencyService.complete("key-1", loanRequest, response);
+
+        verify(idempotencyKeyRepository).complete(eq(customerId), eq("key-1"), eq(response.getId()), json.capture());
+        assertThat(objectMapper.readValue(json.getValue(), LoanResponseDto.class)).isEqualTo(response);
+    }
+
+    private LoanResponseDto loanResponse() {
+        return new LoanResponseDto(UUID.randomUUID(), customerId, LoanStatus.ACTIVE, Instant.parse("2025-02-12T10:15:30Z"),
+                new PaymentPlanResponseDto(new BigDecimal("52.10"), List.of(
+                        new InstallmentResponseDto(new BigDecimal("90.58"), LocalDate.of(2025, 2, 26), InstallmentStatus.NEXT))));
+    }
+
+    private IdempotencyKey storedKey(String requestHash, String response) {
+        return new IdempotencyKey(UUID.randomUUID(), customerId, "key-1", requestHash, UUID.randomUUID(), response, OffsetDateTime.now());
+    }
+}
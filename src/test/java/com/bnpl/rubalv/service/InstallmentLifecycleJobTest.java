@@ -0,0 +1,80 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.LifecycleProperties;
+import com.bnpl.rubalv.dto.projection.LifecycleTransitions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InstallmentLifecycleJobTest {
+    @Mock
+    private InstallmentLifecycleService lifecycleService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LifecycleProperties lifecycleProperties = new LifecycleProperties();
+    private InstallmentLifecycleJob lifecycleJob;
+
+    private final LocalDate runDate = LocalDate.of(2025, 3, 1);
+
+    @BeforeEach
+    void setUp() {
+        lifecycleProperties.setPartitions(2);
+        lifecycleProperties.setChunkSize(100);
+        lifecycleJob = new InstallmentLifecycleJob(lifecycleService, lifecycleProperties, meterRegistry);
+    }
+
+    @Test
+    void run_AdvancesEveryPartitionUntilItIsDone() {
+        when(lifecycleService.preparePartitions(runDate, 2)).thenReturn(List.of(0, 1));
+        when(lifecycleService.advanceChunk(runDate, 0, 100)).thenReturn(
+                Optional.of(new LifecycleTransitions(1, 100, 2, 5, 0)),
+                Optional.of(new LifecycleTransitions(1, 40, 1, 0, 1)),
+                Optional.empty());
+        when(lifecycleService.advanceChunk(runDate, 1, 100)).thenReturn(
+                Optional.of(new LifecycleTransitions(1, 80, 0, 3, 0)),
+                Optional.empty());
+
+        LifecycleTransitions total = lifecycleJob.run(runDate);
+
+        assertThat(total).isEqualTo(new LifecycleTransitions(3, 220, 3, 8, 1));
+        assertThat(meterRegistry.counter("rubalv.lifecycle.transitions", "transition", "installment_next").count())
+                .isEqualTo(220);
+        assertThat(meterRegistry.counter("rubalv.lifecycle.transitions", "transition", "loan_late").count())
+                .isEqualTo(8);
+    }
+
+    @Test
+    void run_NothingLeftForTheDay_DoesNotTouchPartitions() {
+        when(lifecycleService.preparePartitions(runDate, 2)).thenReturn(List.of());
+
+        assertThat(lifecycleJob.run(runDate)).isEqualTo(LifecycleTransitions.NONE);
+
+        verify(lifecycleService, never()).advanceChunk(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void run_FailedPartition_DoesNotStopTheOthers() {
+        when(lifecycleService.preparePartitions(runDate, 2)).thenReturn(List.of(0, 1));
+        when(lifecycleService.advanceChunk(runDate, 0, 100)).thenThrow(new IllegalStateException("connection reset"));
+        when(lifecycleService.advanceChunk(runDate, 1, 100)).thenReturn(
+                Optional.of(new LifecycleTransitions(1, 10, 0, 0, 0)),
+                Optional.empty());
+
+        assertThat(lifecycleJob.run(runDate)).isEqualTo(new LifecycleTransitions(1, 10, 0, 0, 0));
+
+        verify(lifecycleService, times(2)).advanceChunk(eq(runDate), eq(1), eq(100));
+    }
+}
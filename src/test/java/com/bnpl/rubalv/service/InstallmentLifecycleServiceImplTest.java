@@ -0,0 +1,122 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.projection.LifecycleCheckpoint;
+import com.bnpl.rubalv.dto.projection.LifecycleTransitions;
+import com.bnpl.rubalv.repository.InstallmentLifecycleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.bnpl.rubalv.service.InstallmentLifecycleServiceImpl.MAX_LOAN_ID;
+import static com.bnpl.rubalv.service.InstallmentLifecycleServiceImpl.MIN_LOAN_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InstallmentLifecycleServiceImplTest {
+    @Mock
+    private InstallmentLifecycleRepository lifecycleRepository;
+
+    @Mock
+    private LoanViewService loanViewService;
+
+    @InjectMocks
+    private InstallmentLifecycleServiceImpl lifecycleService;
+
+    private final LocalDate runDate = LocalDate.of(2025, 3, 1);
+
+    @Test
+    void preparePartitions_FirstRunOfTheDay_CreatesCheckpointsFromTheBounds() {
+        UUID median = UUID.randomUUID();
+        when(lifecycleRepository.countCheckpoints(runDate)).thenReturn(0);
+        when(lifecycleRepository.findPartitionBounds(2)).thenReturn(List.of(median));
+        when(lifecycleRepository.findIncompletePartitions(runDate)).thenReturn(List.of(0, 1));
+
+        assertThat(lifecycleService.preparePartitions(runDate, 2)).containsExactly(0, 1);
+
+        verify(lifecycleRepository).insertCheckpoints(runDate, List.of(MIN_LOAN_ID, median, MAX_LOAN_ID));
+    }
+
+    @Test
+    void preparePartitions_NoOpenLoans_CreatesASinglePartition() {
+        when(lifecycleRepository.countCheckpoints(runDate)).thenReturn(0);
+        when(lifecycleRepository.findPartitionBounds(4)).thenReturn(List.of());
+        when(lifecycleRepository.findIncompletePartitions(runDate)).thenReturn(List.of(0));
+
+        assertThat(lifecycleService.preparePartitions(runDate, 4)).containsExactly(0);
+
+        verify(lifecycleRepository).insertCheckpoints(runDate, List.of(MIN_LOAN_ID, MAX_LOAN_ID));
+    }
+
+    @Test
+    void preparePartitions_RunAlreadyStarted_ResumesItsPartitions() {
+        when(lifecycleRepository.countCheckpoints(runDate)).thenReturn(4);
+        when(lifecycleRepository.findIncompletePartitions(runDate)).thenReturn(List.of(2));
+
+        assertThat(lifecycleService.preparePartitions(runDate, 4)).containsExactly(2);
+
+        verify(lifecycleRepository, never()).findPartitionBounds(anyInt());
+        verify(lifecycleRepository, never()).insertCheckpoints(any(), any());
+    }
+
+    @Test
+    void advanceChunk_PartitionDoneOrLocked_ReturnsEmpty() {
+        when(lifecycleRepository.lockCheckpoint(runDate, 1)).thenReturn(Optional.empty());
+
+        assertThat(lifecycleService.advanceChunk(runDate, 1, 500)).isEmpty();
+
+        verify(lifecycleRepository, never()).advanceCheckpoint(any(), anyInt(), any());
+        verifyNoInteractions(loanViewService);
+    }
+
+    @Test
+    void advanceChunk_AppliesTransitionsUpToTheChunkEndAndMovesTheCheckpoint() {
+        UUID lastLoanId = UUID.randomUUID();
+        UUID chunkEnd = UUID.randomUUID();
+        when(lifecycleRepository.lockCheckpoint(runDate, 1))
+                .thenReturn(Optional.of(new LifecycleCheckpoint(1, lastLoanId, MAX_LOAN_ID)));
+        when(lifecycleRepository.findChunkEnd(lastLoanId, MAX_LOAN_ID, 500)).thenReturn(Optional.of(chunkEnd));
+        UUID completed = UUID.randomUUID();
+        UUID late = UUID.randomUUID();
+        UUID reactivated = UUID.randomUUID();
+        when(lifecycleRepository.completeLoans(lastLoanId, chunkEnd)).thenReturn(List.of(completed));
+        when(lifecycleRepository.markLateLoans(lastLoanId, chunkEnd, runDate)).thenReturn(List.of(late));
+        when(lifecycleRepository.reactivateLoans(lastLoanId, chunkEnd, runDate)).thenReturn(List.of(reactivated));
+        when(lifecycleRepository.markNextInstallments(lastLoanId, chunkEnd)).thenReturn(List.of(late, late, reactivated));
+
+        assertThat(lifecycleService.advanceChunk(runDate, 1, 500))
+                .contains(new LifecycleTransitions(1, 3, 1, 1, 1));
+
+        InOrder inOrder = inOrder(lifecycleRepository, loanViewService);
+        inOrder.verify(lifecycleRepository).completeLoans(lastLoanId, chunkEnd);
+        inOrder.verify(lifecycleRepository).markLateLoans(lastLoanId, chunkEnd, runDate);
+        inOrder.verify(loanViewService).refresh(Set.of(completed, late, reactivated));
+        inOrder.verify(lifecycleRepository).advanceCheckpoint(runDate, 1, chunkEnd);
+    }
+
+    @Test
+    void advanceChunk_LastChunk_RunsToTheUpperBound() {
+        UUID lastLoanId = UUID.randomUUID();
+        UUID upperBound = UUID.randomUUID();
+        when(lifecycleRepository.lockCheckpoint(runDate, 0))
+                .thenReturn(Optional.of(new LifecycleCheckpoint(0, lastLoanId, upperBound)));
+        when(lifecycleRepository.findChunkEnd(lastLoanId, upperBound, 500)).thenReturn(Optional.empty());
+
+        assertThat(lifecycleService.advanceChunk(runDate, 0, 500)).contains(new LifecycleTransitions(1, 0, 0, 0, 0));
+
+        verify(lifecycleRepository).markNextInstallments(lastLoanId, upperBound);
+        verify(loanViewService).refresh(Set.of());
+        verify(lifecycleRepository).advanceCheckpoint(runDate, 0, upperBound);
+    }
+}
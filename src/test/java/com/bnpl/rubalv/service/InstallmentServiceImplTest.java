@@ -21,19 +21,19 @@ public class InstallmentServiceImplTest {
     @Test
     void generateInstallments_WithValidData_CreatesCorrectInstallments() {
         Loan loan = new Loan();
-        BigDecimal amount = BigDecimal.valueOf(1000);
+        long totalAmount = 100_000L;
         List<LocalDate> paymentDates = Arrays.asList(
                 LocalDate.of(2023, 1, 1),
                 LocalDate.of(2023, 2, 1),
                 LocalDate.of(2023, 3, 1)
         );
 
-        List<Installment> result = installmentService.generateInstallments(loan, amount, paymentDates);
+        List<Installment> result = installmentService.generateInstallments(loan, totalAmount, paymentDates);
 
         assertThat(result).hasSize(3);
 
         Installment first = result.get(0);
-        assertThat(first.getAmount()).isEqualTo(amount);
+        assertThat(first.getAmount()).isEqualTo(new BigDecimal("333.34"));
         assertThat(first.getScheduledPaymentDate()).isEqualTo(paymentDates.get(0));
         assertThat(first.getStatus()).isEqualTo(InstallmentStatus.PENDING);
         assertThat(first.getInstallmentNumber()).isEqualTo(1);
@@ -41,6 +41,8 @@ public class InstallmentServiceImplTest {
 
         assertThat(result.get(1).getInstallmentNumber()).isEqualTo(2);
         assertThat(result.get(2).getInstallmentNumber()).isEqualTo(3);
+        assertThat(result).extracting(Installment::getAmount)
+                .containsExactly(new BigDecimal("333.34"), new BigDecimal("333.33"), new BigDecimal("333.33"));
     }
 
     @Test
@@ -48,7 +50,7 @@ public class InstallmentServiceImplTest {
         Loan loan = new Loan();
         List<Installment> result = installmentService.generateInstallments(
                 loan,
-                BigDecimal.TEN,
+                1_000L,
                 Collections.emptyList()
         );
 
@@ -60,19 +62,19 @@ public class InstallmentServiceImplTest {
         Loan loan = new Loan();
 
         assertThrows(NullPointerException.class, () -> {
-            installmentService.generateInstallments(loan, BigDecimal.ONE, null);
+            installmentService.generateInstallments(loan, 100L, null);
         });
     }
 
     @Test
     void generateInstallments_VerifyAllFieldsSetCorrectly() {
         Loan loan = new Loan();
-        BigDecimal amount = BigDecimal.valueOf(500);
+        BigDecimal amount = new BigDecimal("500.00");
         LocalDate testDate = LocalDate.of(2023, 5, 15);
 
         List<Installment> result = installmentService.generateInstallments(
                 loan,
-                amount,
+                50_000L,
                 List.of(testDate)
         );
 
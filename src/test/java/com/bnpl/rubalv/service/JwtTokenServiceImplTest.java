@@ -1,26 +1,37 @@
 package com.bnpl.rubalv.service;
 
+import com.bnpl.rubalv.config.JwtProperties;
+import com.bnpl.rubalv.security.JwtKeyRing;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class JwtTokenServiceImplTest {
     private JwtTokenServiceImpl jwtTokenService;
+    private JwtKeyRing jwtKeyRing;
+    private JwtProperties jwtProperties;
 
     private final String base64Secret = "MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=";
+    private final String rotatedSecret = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY=";
     private final long expiration = 86400L;
 
     @BeforeEach
     void setUp() {
-        jwtTokenService = new JwtTokenServiceImpl();
-        ReflectionTestUtils.setField(jwtTokenService, "base64Secret", base64Secret);
-        ReflectionTestUtils.setField(jwtTokenService, "expiration", expiration);
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(base64Secret);
+        jwtProperties.setExpiration(expiration);
+        jwtKeyRing = new JwtKeyRing(jwtProperties);
+        jwtTokenService = new JwtTokenServiceImpl(jwtKeyRing, jwtProperties);
     }
 
     @Test
@@ -42,6 +53,17 @@ public class JwtTokenServiceImplTest {
         User user = (User) auth.getPrincipal();
         assertThat(user.getUsername()).isEqualTo(customerId.toString());
         assertThat(user.getAuthorities()).extracting("authority").contains("ROLE_CUSTOMER");
+        assertThat(auth.getCredentials()).isNull();
+    }
+
+    @Test
+    void testValidateToken_OperatorToken_CarriesTheOperatorRole() {
+        String token = jwtTokenService.generateOperatorToken("back-office");
+
+        Authentication auth = jwtTokenService.validateToken(token);
+        assertThat(auth).isNotNull();
+        assertThat(auth.getName()).isEqualTo("back-office");
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_OPERATOR");
     }
 
     @Test
@@ -53,7 +75,7 @@ public class JwtTokenServiceImplTest {
 
     @Test
     void testValidateToken_ExpiredToken() throws InterruptedException {
-        ReflectionTestUtils.setField(jwtTokenService, "expiration", 1L);
+        jwtProperties.setExpiration(1L);
         UUID customerId = UUID.randomUUID();
         String token = jwtTokenService.generateToken(customerId);
 
@@ -62,4 +84,41 @@ public class JwtTokenServiceImplTest {
         Authentication auth = jwtTokenService.validateToken(token);
         assertThat(auth).isNull();
     }
+
+    @Test
+    void testValidateToken_AfterRotation_AcceptsTokensFromBothKeys() {
+        String tokenBeforeRotation = jwtTokenService.generateToken(UUID.randomUUID());
+
+        jwtKeyRing.rotate("k2", Map.of("default", base64Secret, "k2", rotatedSecret));
+        String tokenAfterRotation = jwtTokenService.generateToken(UUID.randomUUID());
+
+        assertThat(jwtTokenService.validateToken(tokenBeforeRotation)).isNotNull();
+        assertThat(jwtTokenService.validateToken(tokenAfterRotation)).isNotNull();
+    }
+
+    @Test
+    void testValidateToken_RetiredKey_ReturnsNull() {
+        String tokenBeforeRotation = jwtTokenService.generateToken(UUID.randomUUID());
+
+        jwtKeyRing.rotate("k2", Map.of("k2", rotatedSecret));
+
+        assertThat(jwtTokenService.validateToken(tokenBeforeRotation)).isNull();
+    }
+
+    @Test
+    void testGenerateToken_RotationWhileSigning_SignsWithTheKeyNamedInTheHeader() {
+        JwtKeyRing rotatingKeyRing = spy(jwtKeyRing);
+        doAnswer(invocation -> {
+            Object activeKey = invocation.callRealMethod();
+            rotatingKeyRing.rotate("k2", Map.of("default", base64Secret, "k2", rotatedSecret));
+            return activeKey;
+        }).when(rotatingKeyRing).getActiveKey();
+        JwtTokenServiceImpl rotatingTokenService = new JwtTokenServiceImpl(rotatingKeyRing, jwtProperties);
+
+        String token = rotatingTokenService.generateToken(UUID.randomUUID());
+
+        verify(rotatingKeyRing, times(1)).getActiveKey();
+        assertThat(rotatingKeyRing.getParser().parseSignedClaims(token).getHeader().getKeyId()).isEqualTo("default");
+        assertThat(rotatingTokenService.validateToken(token)).isNotNull();
+    }
 }
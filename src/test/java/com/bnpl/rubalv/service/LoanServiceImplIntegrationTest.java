@@ -0,0 +1,268 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.request.CreateCustomerRequestDto;
+import com.bnpl.rubalv.dto.request.LoanRequestDto;
+import com.bnpl.rubalv.dto.request.PaymentRequestDto;
+import com.bnpl.rubalv.dto.response.CustomerRegistrationResult;
+import com.bnpl.rubalv.dto.response.InstallmentResponseDto;
+import com.bnpl.rubalv.dto.response.LoanResponseDto;
+import com.bnpl.rubalv.enums.InstallmentStatus;
+import com.bnpl.rubalv.enums.OutboxEventType;
+import com.bnpl.rubalv.exception.CustomerNotFoundException;
+import com.bnpl.rubalv.exception.InsufficientCreditException;
+import com.bnpl.rubalv.model.CreditLine;
+import com.bnpl.rubalv.model.Customer;
+import com.bnpl.rubalv.outbox.InMemoryOutboxSink;
+import com.bnpl.rubalv.repository.CreditLineRepository;
+import com.bnpl.rubalv.repository.LoanRepository;
+import com.bnpl.rubalv.repository.OutboxEventRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+public class LoanServiceImplIntegrationTest {
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS = 64;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest")
+            .withDatabaseName("test-bpnl")
+            .withUsername("testUser")
+            .withPassword("testing");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> true);
+        registry.add("outbox.sink", () -> "memory");
+        registry.add("outbox.relay.enabled", () -> false);
+    }
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private CreditLineRepository creditLineRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private InMemoryOutboxSink outboxSink;
+
+    @Test
+    void registerLoan_PersistsPaymentPlanInBatchedStatements() {
+        UUID customerId = registerCustomer();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        loanService.registerLoan(new LoanRequestDto(customerId, new BigDecimal("1000.00")), null);
+
+        // customer and credit line select, credit reservation, loan insert, one batched installments insert, the loan view
+        // upsert and the outbox event
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(7);
+    }
+
+    @Test
+    void registerLoan_CachedCreditLine_SkipsLookup() {
+        UUID customerId = registerCustomer();
+        loanService.registerLoan(new LoanRequestDto(customerId, new BigDecimal("100.00")), null);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        loanService.registerLoan(new LoanRequestDto(customerId, new BigDecimal("100.00")), null);
+
+        // credit reservation, loan insert, one batched installments insert, the loan view upsert and the outbox event
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    void registerLoan_RelaysLoanRegisteredEventAfterCommit() {
+        UUID customerId = registerCustomer();
+        UUID loanId = loanService.registerLoan(new LoanRequestDto(customerId, new BigDecimal("1000.00")), null).getId();
+
+        while (outboxService.relayBatch(100) > 0) {
+            // drains events left by earlier tests as well
+        }
+
+        assertThat(outboxSink.getMessages())
+                .filteredOn(message -> message.aggregateId().equals(loanId))
+                .singleElement()
+                .satisfies(message -> {
+                    assertThat(message.eventType()).isEqualTo(OutboxEventType.LOAN_REGISTERED.name());
+                    assertThat(message.payload()).contains(customerId.toString());
+                });
+        assertThat(outboxSink.getMessages())
+                .anyMatch(message -> message.aggregateId().equals(customerId)
+                        && message.eventType().equals(OutboxEventType.CUSTOMER_REGISTERED.name()));
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void getLoanById_ReadsLoanViewRowInOneQuery() {
+        UUID customerId = registerCustomer();
+        LoanResponseDto registered = loanService.registerLoan(new LoanRequestDto(customerId, new BigDecimal("1000.00")), null);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        LoanResponseDto loan = loanService.getLoanById(registered.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(loan.getCustomerId()).isEqualTo(customerId);
+        assertThat(loan.getPaymentPlan().getCommissionAmount()).isEqualByComparingTo(registered.getPaymentPlan().getCommissionAmount());
+        assertThat(loan.getPaymentPlan().getInstallments()).hasSize(5);
+    }
+
+    @Test
+    void getLoanById_AfterPayment_ReturnsRefreshedInstallments() {
+        UUID customerId = registerCustomer();
+        LoanResponseDto registered = loanService.registerLoan(new LoanRequestDto(customerId, new BigDecimal("1000.00")), null);
+        BigDecimal amount = registered.getPaymentPlan().getInstallments().get(0).getAmount();
+
+        paymentService.registerPayment(new PaymentRequestDto(registered.getId(), 1, amount, "REF-" + registered.getId(), null));
+
+        assertThat(loanService.getLoanById(registered.getId()).getPaymentPlan().getInstallments())
+                .extracting(InstallmentResponseDto::getStatus)
+                .containsExactly(InstallmentStatus.PAID, InstallmentStatus.PENDING, InstallmentStatus.PENDING,
+                        InstallmentStatus.PENDING, InstallmentStatus.PENDING);
+    }
+
+    @Test
+    void registerLoan_UnknownCustomerWithIdempotencyKey_ThrowsCustomerNotFound() {
+        LoanRequestDto request = new LoanRequestDto(UUID.randomUUID(), new BigDecimal("100.00"));
+
+        assertThatThrownBy(() -> loanService.registerLoan(request, "unknown-" + request.getCustomerId()))
+                .isInstanceOf(CustomerNotFoundException.class);
+    }
+
+    @Test
+    void registerLoan_ConcurrentRetriesWithSameIdempotencyKey_CreateOneLoan() throws Exception {
+        UUID customerId = registerCustomer();
+        LoanRequestDto request = new LoanRequestDto(customerId, new BigDecimal("100.00"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<LoanResponseDto>> attempts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                return loanService.registerLoan(request, "retry-" + customerId);
+            }));
+        }
+        start.countDown();
+
+        List<UUID> loanIds = new ArrayList<>();
+        for (Future<LoanResponseDto> attempt : attempts) {
+            loanIds.add(attempt.get(60, TimeUnit.SECONDS).getId());
+        }
+        executor.shutdown();
+
+        CreditLine creditLine = findCreditLine(customerId);
+        assertThat(loanIds).containsOnly(loanIds.get(0));
+        assertThat(creditLine.getAvailableCreditAmount())
+                .isEqualByComparingTo(creditLine.getTotalCreditAmount().subtract(request.getAmount()));
+    }
+
+    @Test
+    void registerLoan_ConcurrentRequestsOnSameCreditLine_NeverOversellsCredit() throws Exception {
+        UUID customerId = registerCustomer();
+        BigDecimal loanAmount = new BigDecimal("700.00");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                try {
+                    loanService.registerLoan(new LoanRequestDto(customerId, loanAmount), null);
+                    return true;
+                } catch (InsufficientCreditException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int granted = 0;
+        for (Future<Boolean> attempt : attempts) {
+            if (attempt.get(60, TimeUnit.SECONDS)) {
+                granted++;
+            }
+        }
+        executor.shutdown();
+
+        CreditLine creditLine = findCreditLine(customerId);
+        BigDecimal reserved = loanAmount.multiply(BigDecimal.valueOf(granted));
+        long persistedLoans = loanRepository.findAll().stream()
+                .filter(loan -> loan.getCreditLine().getId().equals(creditLine.getId()))
+                .count();
+
+        assertThat(creditLine.getAvailableCreditAmount()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+        assertThat(creditLine.getAvailableCreditAmount())
+                .isEqualByComparingTo(creditLine.getTotalCreditAmount().subtract(reserved));
+        assertThat(granted).isEqualTo(creditLine.getTotalCreditAmount().divideToIntegralValue(loanAmount).intValue());
+        assertThat(persistedLoans).isEqualTo(granted);
+    }
+
+    private UUID registerCustomer() {
+        CreateCustomerRequestDto request = new CreateCustomerRequestDto(
+                "Maria", "Gomez", "Lopez", LocalDate.now().minusYears(40));
+        CustomerRegistrationResult result = customerService.registerCustomer(request);
+        return result.getCustomer().getId();
+    }
+
+    private CreditLine findCreditLine(UUID customerId) {
+        Customer customer = customerService.findCustomerById(customerId);
+        return creditLineRepository.findAll().stream()
+                .filter(creditLine -> creditLine.getCustomer().getId().equals(customer.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
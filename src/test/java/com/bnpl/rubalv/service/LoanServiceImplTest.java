@@ -7,28 +7,37 @@ import static org.mockito.Mockito.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 
+import com.bnpl.rubalv.dto.projection.CustomerCreditLineRow;
+import com.bnpl.rubalv.dto.projection.InstallmentRow;
+import com.bnpl.rubalv.dto.projection.LoanSummaryRow;
 import com.bnpl.rubalv.dto.request.LoanRequestDto;
+import com.bnpl.rubalv.dto.response.LoanPageResponseDto;
 import com.bnpl.rubalv.dto.response.LoanResponseDto;
+import com.bnpl.rubalv.enums.InstallmentStatus;
 import com.bnpl.rubalv.enums.LoanStatus;
+import com.bnpl.rubalv.enums.OutboxEventType;
 import com.bnpl.rubalv.enums.PaymentScheme;
 import com.bnpl.rubalv.exception.ClientWithoutCreditLineException;
+import com.bnpl.rubalv.exception.CustomerNotFoundException;
 import com.bnpl.rubalv.exception.InsufficientCreditException;
 import com.bnpl.rubalv.exception.LoanNotFoundException;
 import com.bnpl.rubalv.mapper.LoanMapper;
 import com.bnpl.rubalv.model.CreditLine;
-import com.bnpl.rubalv.model.Customer;
 import com.bnpl.rubalv.model.Installment;
 import com.bnpl.rubalv.model.Loan;
 import com.bnpl.rubalv.repository.LoanRepository;
 import com.bnpl.rubalv.strategy.PaymentSchemeStrategy;
 import com.bnpl.rubalv.utils.helpers.DateHelper;
+import com.bnpl.rubalv.utils.helpers.LoanCursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 public class LoanServiceImplTest {
@@ -53,6 +62,15 @@ public class LoanServiceImplTest {
     @Mock
     private LoanMapper loanMapper;
 
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private LoanViewService loanViewService;
+
     @InjectMocks
     private LoanServiceImpl loanService;
 
@@ -64,18 +82,17 @@ public class LoanServiceImplTest {
         BigDecimal requestAmount = BigDecimal.valueOf(1000);
         loanRequest.setAmount(requestAmount);
 
-        Customer customer = new Customer();
-        customer.setId(customerId);
-        when(customerService.findCustomerById(customerId)).thenReturn(customer);
+        CustomerCreditLineRow activeCreditLine = new CustomerCreditLineRow(customerId, "Carlos", 10L, UUID.randomUUID());
+        when(creditLineService.getActiveCreditLine(customerId)).thenReturn(activeCreditLine);
+        when(creditLineService.updateCreditLine(activeCreditLine.creditLineId(), customerId, requestAmount)).thenReturn(true);
 
-        CreditLine creditLine = new CreditLine();
-        creditLine.setAvailableCreditAmount(BigDecimal.valueOf(1500));
-        when(creditLineService.getCustomerCreditLine(customer)).thenReturn(creditLine);
+        CreditLine creditLine = CreditLine.builder().id(activeCreditLine.creditLineId()).build();
+        when(creditLineService.getCreditLineReference(activeCreditLine.creditLineId())).thenReturn(creditLine);
 
         PaymentScheme paymentScheme = mock(PaymentScheme.class);
         when(paymentScheme.getInterestRate()).thenReturn(BigDecimal.valueOf(0.10));
-        when(paymentScheme.getNumberOfPayments()).thenReturn(5);
-        when(paymentSchemeStrategy.determinePaymentSchema(customer)).thenReturn(paymentScheme);
+        when(paymentScheme.getInterestRateBasisPoints()).thenReturn(1000);
+        when(paymentSchemeStrategy.determinePaymentSchema("Carlos", 10L)).thenReturn(paymentScheme);
 
         List<LocalDate> schedule = Arrays.asList(
                 LocalDate.now().plusMonths(1),
@@ -88,13 +105,12 @@ public class LoanServiceImplTest {
 
         BigDecimal expectedCommission = BigDecimal.valueOf(100).setScale(2);
         BigDecimal expectedTotal = BigDecimal.valueOf(1100).setScale(2);
-        BigDecimal expectedInstallment = BigDecimal.valueOf(220).setScale(2);
 
         List<Installment> installments = new ArrayList<>();
         for (int i = 0; i < 5; i++) {
             installments.add(new Installment());
         }
-        when(installmentService.generateInstallments(any(Loan.class), eq(expectedInstallment), eq(schedule)))
+        when(installmentService.generateInstallments(any(Loan.class), eq(110_000L), eq(schedule)))
                 .thenReturn(installments);
 
         Loan loanToSave = Loan.builder()
@@ -127,18 +143,23 @@ public class LoanServiceImplTest {
                 savedLoan.getCreatedAt().toInstant(), savedLoan.getCommissionAmount(), savedLoan.getInstallments()))
                 .thenReturn(responseDto);
 
-        LoanResponseDto result = loanService.registerLoan(loanRequest);
+        LoanResponseDto result = loanService.registerLoan(loanRequest, null);
 
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(responseDto);
 
-        verify(customerService).findCustomerById(customerId);
-        verify(creditLineService).getCustomerCreditLine(customer);
-        verify(paymentSchemeStrategy).determinePaymentSchema(customer);
+        verify(creditLineService).getActiveCreditLine(customerId);
+        verify(paymentSchemeStrategy).determinePaymentSchema("Carlos", 10L);
         verify(loanRepository).save(any(Loan.class));
-        verify(creditLineService).updateCreditLine(creditLine, requestAmount);
+        verify(creditLineService).updateCreditLine(activeCreditLine.creditLineId(), customerId, requestAmount);
+        verify(loanRepository).save(argThat(loan -> expectedCommission.equals(loan.getCommissionAmount())
+                && expectedTotal.equals(loan.getTotalAmount())
+                && loan.getCreditLine() == creditLine));
+        verifyNoInteractions(customerService, idempotencyService);
         verify(loanMapper).toResponseDto(savedLoan.getId(), customerId, savedLoan.getStatus(),
                 savedLoan.getCreatedAt().toInstant(), savedLoan.getCommissionAmount(), savedLoan.getInstallments());
+        verify(loanViewService).record(responseDto);
+        verify(outboxService).record(OutboxEventType.LOAN_REGISTERED, savedLoan.getId(), responseDto);
     }
 
     @Test
@@ -148,20 +169,42 @@ public class LoanServiceImplTest {
         loanRequest.setCustomerId(customerId);
         loanRequest.setAmount(BigDecimal.valueOf(1000));
 
-        Customer customer = new Customer();
-        customer.setId(customerId);
-        when(customerService.findCustomerById(customerId)).thenReturn(customer);
-        when(creditLineService.getCustomerCreditLine(customer)).thenReturn(null);
+        when(creditLineService.getActiveCreditLine(customerId))
+                .thenReturn(new CustomerCreditLineRow(customerId, "Carlos", 10L, null));
 
-        assertThatThrownBy(() -> loanService.registerLoan(loanRequest))
+        assertThatThrownBy(() -> loanService.registerLoan(loanRequest, null))
                 .isInstanceOf(ClientWithoutCreditLineException.class)
                 .hasMessageContaining("Client does not have an active credit line");
 
-        verify(customerService).findCustomerById(customerId);
-        verify(creditLineService).getCustomerCreditLine(customer);
+        verify(creditLineService).getActiveCreditLine(customerId);
         verifyNoInteractions(paymentSchemeStrategy);
     }
 
+    @Test
+    void registerLoan_UnknownCustomer_ThrowsException() {
+        LoanRequestDto loanRequest = new LoanRequestDto(UUID.randomUUID(), BigDecimal.valueOf(1000));
+        when(creditLineService.getActiveCreditLine(loanRequest.getCustomerId()))
+                .thenThrow(new CustomerNotFoundException(loanRequest.getCustomerId()));
+
+        assertThatThrownBy(() -> loanService.registerLoan(loanRequest, null))
+                .isInstanceOf(CustomerNotFoundException.class);
+
+        verify(creditLineService, never()).updateCreditLine(any(), any(), any());
+        verifyNoInteractions(loanRepository);
+    }
+
+    @Test
+    void registerLoan_UnknownCustomerWithIdempotencyKey_ThrowsBeforeClaimingTheKey() {
+        LoanRequestDto loanRequest = new LoanRequestDto(UUID.randomUUID(), BigDecimal.valueOf(1000));
+        when(creditLineService.getActiveCreditLine(loanRequest.getCustomerId()))
+                .thenThrow(new CustomerNotFoundException(loanRequest.getCustomerId()));
+
+        assertThatThrownBy(() -> loanService.registerLoan(loanRequest, "key-1"))
+                .isInstanceOf(CustomerNotFoundException.class);
+
+        verifyNoInteractions(idempotencyService, loanRepository);
+    }
+
     @Test
     void registerLoan_InsufficientCredit_ThrowsException() {
         LoanRequestDto loanRequest = new LoanRequestDto();
@@ -169,66 +212,126 @@ public class LoanServiceImplTest {
         loanRequest.setCustomerId(customerId);
         loanRequest.setAmount(BigDecimal.valueOf(2000));
 
-        Customer customer = new Customer();
-        customer.setId(customerId);
-        when(customerService.findCustomerById(customerId)).thenReturn(customer);
-
-        CreditLine creditLine = new CreditLine();
-        creditLine.setAvailableCreditAmount(BigDecimal.valueOf(1500));
-        when(creditLineService.getCustomerCreditLine(customer)).thenReturn(creditLine);
+        CustomerCreditLineRow activeCreditLine = new CustomerCreditLineRow(customerId, "Carlos", 10L, UUID.randomUUID());
+        when(creditLineService.getActiveCreditLine(customerId)).thenReturn(activeCreditLine);
+        when(creditLineService.updateCreditLine(activeCreditLine.creditLineId(), customerId, loanRequest.getAmount())).thenReturn(false);
+        when(creditLineService.getAvailableCredit(activeCreditLine.creditLineId())).thenReturn(BigDecimal.valueOf(1500));
 
-        assertThatThrownBy(() -> loanService.registerLoan(loanRequest))
+        assertThatThrownBy(() -> loanService.registerLoan(loanRequest, null))
                 .isInstanceOf(InsufficientCreditException.class)
-                .hasMessageContaining("Amount surpass available credit");
+                .hasMessageContaining("Amount surpass available credit. Available credit: 1500");
 
-        verify(customerService).findCustomerById(customerId);
-        verify(creditLineService).getCustomerCreditLine(customer);
+        verify(creditLineService).getActiveCreditLine(customerId);
+        verify(loanRepository, never()).save(any(Loan.class));
     }
 
     @Test
-    void getLoanById_Success() {
-        UUID loanId = UUID.randomUUID();
-        UUID customerId = UUID.randomUUID();
+    void registerLoan_WithReplayedIdempotencyKey_ReturnsStoredResponse() {
+        LoanRequestDto loanRequest = new LoanRequestDto(UUID.randomUUID(), BigDecimal.valueOf(1000));
+        LoanResponseDto stored = new LoanResponseDto();
+        stored.setId(UUID.randomUUID());
+        when(creditLineService.getActiveCreditLine(loanRequest.getCustomerId()))
+                .thenReturn(new CustomerCreditLineRow(loanRequest.getCustomerId(), "Carlos", 10L, UUID.randomUUID()));
+        when(idempotencyService.claim("key-1", loanRequest)).thenReturn(Optional.of(stored));
+
+        LoanResponseDto result = loanService.registerLoan(loanRequest, "key-1");
+
+        assertThat(result).isSameAs(stored);
+        verify(creditLineService, never()).updateCreditLine(any(), any(), any());
+        verifyNoInteractions(customerService, paymentSchemeStrategy, installmentService, loanRepository);
+        verify(idempotencyService, never()).complete(any(), any(), any());
+    }
 
-        Customer customer = new Customer();
-        customer.setId(customerId);
-        CreditLine creditLine = new CreditLine();
-        creditLine.setCustomer(customer);
+    @Test
+    void registerLoan_WithNewIdempotencyKey_FailureDoesNotStoreResponse() {
+        LoanRequestDto loanRequest = new LoanRequestDto(UUID.randomUUID(), BigDecimal.valueOf(1000));
+        when(idempotencyService.claim("key-1", loanRequest)).thenReturn(Optional.empty());
+        when(creditLineService.getActiveCreditLine(loanRequest.getCustomerId()))
+                .thenReturn(new CustomerCreditLineRow(loanRequest.getCustomerId(), "Carlos", 10L, null));
 
-        Loan loan = Loan.builder()
-                .id(loanId)
-                .creditLine(creditLine)
-                .amount(BigDecimal.valueOf(1000))
-                .status(LoanStatus.ACTIVE)
-                .purchaseDate(LocalDate.now())
-                .installments(new ArrayList<>())
-                .createdAt(OffsetDateTime.now())
-                .build();
+        assertThatThrownBy(() -> loanService.registerLoan(loanRequest, "key-1"))
+                .isInstanceOf(ClientWithoutCreditLineException.class);
 
-        when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+        verify(idempotencyService, never()).complete(any(), any(), any());
+    }
 
+    @Test
+    void getLoanById_Success() {
+        UUID loanId = UUID.randomUUID();
         LoanResponseDto responseDto = new LoanResponseDto();
-        when(loanMapper.toResponseDto(loan.getId(), customerId, loan.getStatus(),
-                loan.getCreatedAt().toInstant(), loan.getCommissionAmount(), loan.getInstallments()))
-                .thenReturn(responseDto);
+        when(loanViewService.find(loanId)).thenReturn(Optional.of(responseDto));
 
         LoanResponseDto result = loanService.getLoanById(loanId);
 
         assertThat(result).isEqualTo(responseDto);
-        verify(loanRepository).findById(loanId);
-        verify(loanMapper).toResponseDto(loan.getId(), customerId, loan.getStatus(),
-                loan.getCreatedAt().toInstant(), loan.getCommissionAmount(), loan.getInstallments());
+        verify(loanViewService).find(loanId);
+        verifyNoInteractions(loanRepository);
     }
 
     @Test
     void getLoanById_NotFound_ThrowsException() {
         UUID loanId = UUID.randomUUID();
-        when(loanRepository.findById(loanId)).thenReturn(Optional.empty());
+        when(loanViewService.find(loanId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> loanService.getLoanById(loanId))
                 .isInstanceOf(LoanNotFoundException.class)
                 .hasMessageContaining(loanId.toString());
+    }
+
+    @Test
+    void getCustomerLoans_FullPage_ReturnsNextCursorAndBatchesInstallments() {
+        UUID customerId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+        LoanSummaryRow newest = new LoanSummaryRow(UUID.randomUUID(), LoanStatus.ACTIVE, now, BigDecimal.TEN);
+        LoanSummaryRow older = new LoanSummaryRow(UUID.randomUUID(), LoanStatus.ACTIVE, now.minusDays(1), BigDecimal.TEN);
+        LoanSummaryRow oldest = new LoanSummaryRow(UUID.randomUUID(), LoanStatus.ACTIVE, now.minusDays(2), BigDecimal.TEN);
+        when(loanRepository.findCustomerLoansBefore(eq(customerId), anyCollection(), eq(LoanCursor.FIRST.createdAt()),
+                eq(LoanCursor.FIRST.id()), eq(Limit.of(3)))).thenReturn(List.of(newest, older, oldest));
+        InstallmentRow installment = new InstallmentRow(newest.loanId(), BigDecimal.ONE, LocalDate.now(), InstallmentStatus.NEXT);
+        when(loanRepository.findInstallmentsByLoanIds(List.of(newest.loanId(), older.loanId()))).thenReturn(List.of(installment));
+        when(loanMapper.toResponseDto(eq(customerId), any(LoanSummaryRow.class), anyList())).thenReturn(new LoanResponseDto());
+
+        LoanPageResponseDto page = loanService.getCustomerLoans(customerId, null, null, 2);
+
+        assertThat(page.getLoans()).hasSize(2);
+        assertThat(LoanCursor.decode(page.getNextCursor())).isEqualTo(new LoanCursor(older.createdAt().toInstant().atOffset(ZoneOffset.UTC), older.loanId()));
+        verify(loanMapper).toResponseDto(customerId, newest, List.of(installment));
+        verify(loanMapper).toResponseDto(customerId, older, List.of());
+        verify(loanRepository, times(1)).findInstallmentsByLoanIds(anyCollection());
+    }
+
+    @Test
+    void getCustomerLoans_LastPageWithStatus_HasNoNextCursor() {
+        UUID customerId = UUID.randomUUID();
+        LoanCursor cursor = new LoanCursor(OffsetDateTime.now(), UUID.randomUUID());
+        LoanSummaryRow loan = new LoanSummaryRow(UUID.randomUUID(), LoanStatus.LATE, OffsetDateTime.now().minusDays(1), BigDecimal.TEN);
+        when(loanRepository.findCustomerLoansBefore(eq(customerId), eq(List.of(LoanStatus.LATE)), any(), eq(cursor.id()), eq(Limit.of(21))))
+                .thenReturn(List.of(loan));
+        when(loanRepository.findInstallmentsByLoanIds(List.of(loan.loanId()))).thenReturn(List.of());
+
+        LoanPageResponseDto page = loanService.getCustomerLoans(customerId, LoanStatus.LATE, cursor.encode(), 20);
+
+        assertThat(page.getLoans()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getCustomerLoans_UnknownCustomer_ThrowsException() {
+        UUID customerId = UUID.randomUUID();
+        when(loanRepository.findCustomerLoansBefore(eq(customerId), anyCollection(), any(), any(), any())).thenReturn(List.of());
+        when(customerService.findCustomerById(customerId)).thenThrow(new CustomerNotFoundException(customerId));
+
+        assertThatThrownBy(() -> loanService.getCustomerLoans(customerId, null, null, 20))
+                .isInstanceOf(CustomerNotFoundException.class);
+
+        verify(loanRepository, never()).findInstallmentsByLoanIds(any());
+    }
+
+    @Test
+    void getCustomerLoans_InvalidLimit_ThrowsException() {
+        assertThatThrownBy(() -> loanService.getCustomerLoans(UUID.randomUUID(), null, null, LoanServiceImpl.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
 
-        verify(loanRepository).findById(loanId);
+        verifyNoInteractions(loanRepository);
     }
 }
@@ -0,0 +1,57 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.JwtProperties;
+import com.bnpl.rubalv.exception.InvalidCredentialsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OperatorTokenServiceImplTest {
+    private JwtTokenService jwtTokenService;
+    private OperatorTokenServiceImpl operatorTokenService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setOperators(Map.of(
+                "back-office", "{bcrypt}" + new BCryptPasswordEncoder().encode("s3cret"),
+                "scraper", "{noop}metrics"));
+        jwtTokenService = mock(JwtTokenService.class);
+        when(jwtTokenService.generateOperatorToken(anyString())).thenAnswer(invocation -> "token-" + invocation.getArgument(0));
+        operatorTokenService = new OperatorTokenServiceImpl(jwtProperties, jwtTokenService);
+    }
+
+    @Test
+    void issueToken_BcryptSecret_ReturnsOperatorToken() {
+        assertThat(operatorTokenService.issueToken("back-office", "s3cret")).isEqualTo("token-back-office");
+    }
+
+    @Test
+    void issueToken_NoopSecret_ReturnsOperatorToken() {
+        assertThat(operatorTokenService.issueToken("scraper", "metrics")).isEqualTo("token-scraper");
+    }
+
+    @Test
+    void issueToken_WrongSecret_ThrowsInvalidCredentials() {
+        assertThatThrownBy(() -> operatorTokenService.issueToken("back-office", "guess"))
+                .isInstanceOf(InvalidCredentialsException.class);
+        verify(jwtTokenService, never()).generateOperatorToken(anyString());
+    }
+
+    @Test
+    void issueToken_UnknownClient_ThrowsInvalidCredentials() {
+        assertThatThrownBy(() -> operatorTokenService.issueToken("intruder", "s3cret"))
+                .isInstanceOf(InvalidCredentialsException.class);
+        verify(jwtTokenService, never()).generateOperatorToken(anyString());
+    }
+}
@@ -0,0 +1,57 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.config.OutboxProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayJobTest {
+    @Mock
+    private OutboxService outboxService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelayJob relayJob;
+
+    @BeforeEach
+    void setUp() {
+        OutboxProperties outboxProperties = new OutboxProperties();
+        outboxProperties.getRelay().setBatchSize(100);
+        outboxProperties.getRelay().setMaxBatchesPerRun(3);
+        relayJob = new OutboxRelayJob(outboxService, outboxProperties, meterRegistry);
+    }
+
+    @Test
+    void shouldDrainUntilABatchComesBackShort() {
+        when(outboxService.relayBatch(100)).thenReturn(100, 40);
+
+        assertThat(relayJob.run()).isEqualTo(140);
+
+        verify(outboxService, times(2)).relayBatch(100);
+    }
+
+    @Test
+    void shouldStopAtTheBatchLimit() {
+        when(outboxService.relayBatch(100)).thenReturn(100);
+
+        assertThat(relayJob.run()).isEqualTo(300);
+
+        verify(outboxService, times(3)).relayBatch(100);
+    }
+
+    @Test
+    void shouldCountFailuresAndLeaveTheBatchForTheNextRun() {
+        when(outboxService.relayBatch(100)).thenReturn(100).thenThrow(new IllegalStateException("sink down"));
+
+        assertThat(relayJob.run()).isEqualTo(100);
+
+        assertThat(meterRegistry.get("rubalv.outbox.failures").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.response.CustomerResponseDto;
+import com.bnpl.rubalv.enums.OutboxEventType;
+import com.bnpl.rubalv.model.OutboxEvent;
+import com.bnpl.rubalv.outbox.InMemoryOutboxSink;
+import com.bnpl.rubalv.outbox.OutboxMessage;
+import com.bnpl.rubalv.outbox.OutboxSink;
+import com.bnpl.rubalv.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxServiceImplTest {
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private final InMemoryOutboxSink outboxSink = new InMemoryOutboxSink();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxEventRepository, outboxSink, objectMapper, meterRegistry);
+    }
+
+    @Test
+    void recordAll_StoresOneEventPerPayload() {
+        CustomerResponseDto first = new CustomerResponseDto();
+        first.setId(UUID.randomUUID());
+        first.setCreditLineAmount(new BigDecimal("3000.00"));
+        CustomerResponseDto second = new CustomerResponseDto();
+        second.setId(UUID.randomUUID());
+
+        outboxService.recordAll(OutboxEventType.CUSTOMER_REGISTERED, List.of(first, second), CustomerResponseDto::getId);
+
+        ArgumentCaptor<List<OutboxEvent>> saved = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(OutboxEvent::getAggregateId).containsExactly(first.getId(), second.getId());
+        assertThat(saved.getValue()).allSatisfy(event -> {
+            assertThat(event.getAggregateType()).isEqualTo("Customer");
+            assertThat(event.getEventType()).isEqualTo(OutboxEventType.CUSTOMER_REGISTERED);
+        });
+        assertThat(saved.getValue().get(0).getPayload()).contains("\"creditLineAmount\":3000.00");
+        assertThat(meterRegistry.get("rubalv.outbox.recorded").tag("event", "CUSTOMER_REGISTERED").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void relayBatch_PublishesAndDeletesLockedEvents() {
+        List<OutboxEvent> events = List.of(event(OutboxEventType.LOAN_REGISTERED), event(OutboxEventType.CUSTOMER_REGISTERED));
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(events);
+
+        int relayed = outboxService.relayBatch(10);
+
+        assertThat(relayed).isEqualTo(2);
+        assertThat(outboxSink.getMessages()).extracting(OutboxMessage::id)
+                .containsExactly(events.get(0).getId(), events.get(1).getId());
+        verify(outboxEventRepository).deleteByIds(List.of(events.get(0).getId(), events.get(1).getId()));
+        assertThat(meterRegistry.get("rubalv.outbox.published").tag("event", "LOAN_REGISTERED").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("rubalv.outbox.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void relayBatch_EmptyOutbox_PublishesNothing() {
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of());
+
+        assertThat(outboxService.relayBatch(10)).isZero();
+
+        verify(outboxEventRepository, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    void relayBatch_SinkFailure_KeepsEvents() throws IOException {
+        OutboxSink failingSink = mock(OutboxSink.class);
+        doThrow(new IOException("disk full")).when(failingSink).publish(any());
+        outboxService = new OutboxServiceImpl(outboxEventRepository, failingSink, objectMapper, meterRegistry);
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of(event(OutboxEventType.LOAN_REGISTERED)));
+
+        assertThatThrownBy(() -> outboxService.relayBatch(10)).isInstanceOf(UncheckedIOException.class);
+
+        verify(outboxEventRepository, never()).deleteByIds(anyList());
+    }
+
+    private OutboxEvent event(OutboxEventType eventType) {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .aggregateType(eventType.getAggregateType())
+                .aggregateId(UUID.randomUUID())
+                .eventType(eventType)
+                .payload("{}")
+                .createdAt(OffsetDateTime.now().minusSeconds(1))
+                .build();
+    }
+}
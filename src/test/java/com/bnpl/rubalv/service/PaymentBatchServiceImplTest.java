@@ -0,0 +1,140 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.request.PaymentRequestDto;
+import com.bnpl.rubalv.dto.response.PaymentBatchItemResult;
+import com.bnpl.rubalv.dto.response.PaymentResponseDto;
+import com.bnpl.rubalv.dto.response.PaymentSettlementResult;
+import com.bnpl.rubalv.exception.CreditRestoreConflictException;
+import com.bnpl.rubalv.exception.InstallmentNotFoundException;
+import com.bnpl.rubalv.exception.PaymentConflictException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentBatchServiceImplTest {
+    private static final String VALID_ITEM = "{\"loanId\":\"3fa85f64-5717-4562-b3fc-2c963f66afa7\",\"installmentNumber\":1,\"amount\":90.57,\"reference\":\"REF-1\"}";
+
+    private static ValidatorFactory validatorFactory;
+
+    @Mock
+    private PaymentService paymentService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private PaymentBatchServiceImpl paymentBatchService;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = validatorFactory.getValidator();
+        paymentBatchService = new PaymentBatchServiceImpl(paymentService, objectMapper, validator, 2);
+    }
+
+    @Test
+    void shouldSettleValidItemsInChunks() throws IOException {
+        when(paymentService.registerPayments(anyList())).thenAnswer(invocation -> settled(invocation.getArgument(0)));
+
+        List<PaymentBatchItemResult> results = process("[" + VALID_ITEM + "," + VALID_ITEM + "," + VALID_ITEM + "]");
+
+        assertThat(results).extracting(PaymentBatchItemResult::getIndex).containsExactly(0L, 1L, 2L);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.getId()).isNotNull();
+            assertThat(result.getCode()).isNull();
+        });
+        verify(paymentService, times(2)).registerPayments(anyList());
+    }
+
+    @Test
+    void shouldReportInvalidAndRejectedItems() throws IOException {
+        when(paymentService.registerPayments(anyList())).thenReturn(List.of(
+                PaymentSettlementResult.rejected(new InstallmentNotFoundException(UUID.randomUUID(), 1)),
+                PaymentSettlementResult.rejected(new PaymentConflictException("Installment already paid"))));
+
+        List<PaymentBatchItemResult> results = process(String.join("\n",
+                "{\"loanId\":\"3fa85f64-5717-4562-b3fc-2c963f66afa7\",\"installmentNumber\":6,\"amount\":90.57,\"reference\":\"REF-1\"}",
+                "{\"loanId\":\"not-a-uuid\",\"installmentNumber\":1,\"amount\":90.57,\"reference\":\"REF-1\"}",
+                VALID_ITEM,
+                VALID_ITEM));
+
+        assertThat(results).extracting(PaymentBatchItemResult::getIndex).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(results).extracting(PaymentBatchItemResult::getCode)
+                .containsExactly("APZ000002", "APZ000002", "APZ000012", "APZ000013");
+    }
+
+    @Test
+    void shouldFallBackToSingleSettlementWhenChunkFails() throws IOException {
+        when(paymentService.registerPayments(anyList())).thenThrow(new PaymentConflictException("An installment was paid concurrently"));
+        when(paymentService.registerPayment(any(PaymentRequestDto.class)))
+                .thenReturn(settled(List.of(new PaymentRequestDto())).get(0).getPayment())
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        List<PaymentBatchItemResult> results = process(VALID_ITEM + "\n" + VALID_ITEM);
+
+        assertThat(results).extracting(PaymentBatchItemResult::getCode).containsExactly(null, "APZ000001");
+        verify(paymentService, times(2)).registerPayment(any(PaymentRequestDto.class));
+    }
+
+    @Test
+    void shouldReportCreditRestoreConflictsPerItem() throws IOException {
+        when(paymentService.registerPayments(anyList())).thenThrow(new CreditRestoreConflictException("Restoring 90.57 would exceed the total credit"));
+        when(paymentService.registerPayment(any(PaymentRequestDto.class)))
+                .thenThrow(new CreditRestoreConflictException("Restoring 90.57 would exceed the total credit"));
+
+        List<PaymentBatchItemResult> results = process(VALID_ITEM + "\n" + VALID_ITEM);
+
+        assertThat(results).extracting(PaymentBatchItemResult::getCode).containsExactly("APZ000016", "APZ000016");
+    }
+
+    private List<PaymentBatchItemResult> process(String body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        paymentBatchService.registerPayments(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<PaymentBatchItemResult> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, PaymentBatchItemResult.class));
+        }
+        return results;
+    }
+
+    private List<PaymentSettlementResult> settled(List<PaymentRequestDto> requests) {
+        return requests.stream()
+                .map(request -> {
+                    PaymentResponseDto payment = new PaymentResponseDto();
+                    payment.setId(UUID.randomUUID());
+                    return PaymentSettlementResult.settled(payment);
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,178 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.projection.InstallmentPaymentRow;
+import com.bnpl.rubalv.dto.projection.InstallmentSettlementRow;
+import com.bnpl.rubalv.dto.request.PaymentRequestDto;
+import com.bnpl.rubalv.dto.response.PaymentResponseDto;
+import com.bnpl.rubalv.dto.response.PaymentSettlementResult;
+import com.bnpl.rubalv.enums.InstallmentStatus;
+import com.bnpl.rubalv.exception.InstallmentNotFoundException;
+import com.bnpl.rubalv.exception.PaymentConflictException;
+import com.bnpl.rubalv.model.Installment;
+import com.bnpl.rubalv.model.InstallmentPayment;
+import com.bnpl.rubalv.repository.InstallmentPaymentRepository;
+import com.bnpl.rubalv.repository.InstallmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PaymentServiceImplTest {
+    @Mock
+    private InstallmentRepository installmentRepository;
+
+    @Mock
+    private InstallmentPaymentRepository installmentPaymentRepository;
+
+    @Mock
+    private CreditLineService creditLineService;
+
+    @Mock
+    private LoanViewService loanViewService;
+
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+
+    private final UUID loanId = UUID.randomUUID();
+    private final UUID creditLineId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+    private final OffsetDateTime paidAt = OffsetDateTime.of(2025, 3, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+    private final List<InstallmentSettlementRow> installments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 1000.00 principal, 1130.00 total over five installments
+        for (int number = 1; number <= 5; number++) {
+            installments.add(installment(number, InstallmentStatus.PENDING));
+        }
+        when(installmentRepository.findSettlementRowsByLoanIds(anyList())).thenReturn(installments);
+        when(installmentPaymentRepository.findByReferences(anyList())).thenReturn(List.of());
+        when(installmentRepository.getReferenceById(any())).thenAnswer(invocation ->
+                Installment.builder().id(invocation.getArgument(0)).build());
+        when(installmentRepository.markPaid(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    @Test
+    void registerPayment_PendingInstallment_RecordsPaymentAndRestoresPrincipal() {
+        PaymentResponseDto response = paymentService.registerPayment(request(2, "226.00", "REF-1"));
+
+        assertThat(response.getLoanId()).isEqualTo(loanId);
+        assertThat(response.getInstallmentNumber()).isEqualTo(2);
+        assertThat(response.getAmount()).isEqualByComparingTo("226.00");
+        assertThat(response.getPaidAt()).isEqualTo(paidAt);
+
+        ArgumentCaptor<List<InstallmentPayment>> saved = ArgumentCaptor.forClass(List.class);
+        verify(installmentPaymentRepository).saveAllAndFlush(saved.capture());
+        assertThat(saved.getValue()).singleElement().satisfies(payment -> {
+            assertThat(payment.getReference()).isEqualTo("REF-1");
+            assertThat(payment.getInstallment().getId()).isEqualTo(installments.get(1).installmentId());
+        });
+        verify(installmentRepository).markPaid(List.of(installments.get(1).installmentId()));
+        verify(creditLineService).restoreCredit(creditLineId, customerId, new BigDecimal("200.00"));
+    }
+
+    @Test
+    void registerPayments_SameCreditLine_RestoresCreditOnce() {
+        List<PaymentSettlementResult> results = paymentService.registerPayments(List.of(
+                request(1, "226.00", "REF-1"),
+                request(2, "226.00", "REF-2"),
+                request(3, "226.00", "REF-3")));
+
+        assertThat(results).allSatisfy(result -> assertThat(result.getRejection()).isNull());
+        verify(creditLineService).restoreCredit(creditLineId, customerId, new BigDecimal("600.00"));
+        verify(installmentRepository).markPaid(anyList());
+        verify(loanViewService).refresh(List.of(loanId));
+    }
+
+    @Test
+    void registerPayments_RejectedItems_DoNotBlockTheRest() {
+        installments.set(3, installment(4, InstallmentStatus.PAID));
+
+        List<PaymentSettlementResult> results = paymentService.registerPayments(List.of(
+                request(1, "226.00", "REF-1"),
+                request(2, "100.00", "REF-2"),
+                request(4, "226.00", "REF-4"),
+                request(5, "226.00", "REF-1"),
+                new PaymentRequestDto(UUID.randomUUID(), 1, new BigDecimal("10.00"), "REF-6", null),
+                request(1, "226.00", "REF-7")));
+
+        assertThat(results.get(0).getPayment()).isNotNull();
+        assertThat(results.get(1).getRejection()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(results.get(2).getRejection()).isInstanceOf(PaymentConflictException.class);
+        assertThat(results.get(3).getRejection()).isInstanceOf(PaymentConflictException.class);
+        assertThat(results.get(4).getRejection()).isInstanceOf(InstallmentNotFoundException.class);
+        assertThat(results.get(5).getRejection()).isInstanceOf(PaymentConflictException.class);
+        verify(installmentRepository).markPaid(List.of(installments.get(0).installmentId()));
+        verify(creditLineService).restoreCredit(creditLineId, customerId, new BigDecimal("200.00"));
+    }
+
+    @Test
+    void registerPayment_RecordedReference_ReplaysWithoutSettlingAgain() {
+        UUID paymentId = UUID.randomUUID();
+        when(installmentPaymentRepository.findByReferences(List.of("REF-1"))).thenReturn(List.of(
+                new InstallmentPaymentRow(paymentId, "REF-1", loanId, 1, new BigDecimal("226.00"), paidAt)));
+
+        PaymentResponseDto response = paymentService.registerPayment(request(1, "226.00", "REF-1"));
+
+        assertThat(response.getId()).isEqualTo(paymentId);
+        verify(installmentPaymentRepository, never()).saveAllAndFlush(anyList());
+        verify(creditLineService, never()).restoreCredit(any(), any(), any());
+        verify(loanViewService, never()).refresh(anyList());
+    }
+
+    @Test
+    void registerPayment_ReferenceUsedForAnotherInstallment_ThrowsConflict() {
+        when(installmentPaymentRepository.findByReferences(List.of("REF-1"))).thenReturn(List.of(
+                new InstallmentPaymentRow(UUID.randomUUID(), "REF-1", loanId, 1, new BigDecimal("226.00"), paidAt)));
+
+        assertThatThrownBy(() -> paymentService.registerPayment(request(2, "226.00", "REF-1")))
+                .isInstanceOf(PaymentConflictException.class);
+    }
+
+    @Test
+    void registerPayment_InstallmentPaidConcurrently_ThrowsConflict() {
+        when(installmentRepository.markPaid(anyList())).thenReturn(0);
+
+        assertThatThrownBy(() -> paymentService.registerPayment(request(1, "226.00", "REF-1")))
+                .isInstanceOf(PaymentConflictException.class);
+        verify(creditLineService, never()).restoreCredit(any(), any(), any());
+    }
+
+    @Test
+    void registerPayment_ReferenceRecordedConcurrently_ThrowsConflict() {
+        when(installmentPaymentRepository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThatThrownBy(() -> paymentService.registerPayment(request(1, "226.00", "REF-1")))
+                .isInstanceOf(PaymentConflictException.class);
+    }
+
+    private PaymentRequestDto request(int installmentNumber, String amount, String reference) {
+        return new PaymentRequestDto(loanId, installmentNumber, new BigDecimal(amount), reference, paidAt);
+    }
+
+    private InstallmentSettlementRow installment(int number, InstallmentStatus status) {
+        return new InstallmentSettlementRow(UUID.randomUUID(), loanId, number, new BigDecimal("226.00"), status,
+                new BigDecimal("1000.00"), creditLineId, customerId);
+    }
+}
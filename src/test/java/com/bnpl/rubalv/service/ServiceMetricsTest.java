@@ -0,0 +1,90 @@
+package com.bnpl.rubalv.service;
+
+import com.bnpl.rubalv.dto.response.LoanResponseDto;
+import com.bnpl.rubalv.exception.LoanNotFoundException;
+import com.bnpl.rubalv.mapper.LoanMapper;
+import com.bnpl.rubalv.repository.LoanRepository;
+import com.bnpl.rubalv.strategy.PaymentSchemeStrategy;
+import com.bnpl.rubalv.utils.helpers.DateHelper;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig({ServiceMetricsTest.MetricsConfig.class, LoanServiceImpl.class})
+public class ServiceMetricsTest {
+    @MockitoBean
+    private LoanRepository loanRepository;
+
+    @MockitoBean
+    private CustomerService customerService;
+
+    @MockitoBean
+    private CreditLineService creditLineService;
+
+    @MockitoBean
+    private InstallmentService installmentService;
+
+    @MockitoBean
+    private PaymentSchemeStrategy paymentSchemeStrategy;
+
+    @MockitoBean
+    private DateHelper dateHelper;
+
+    @MockitoBean
+    private LoanMapper loanMapper;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    @MockitoBean
+    private LoanViewService loanViewService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldTimeLoanLookupsTaggedByOutcome() {
+        UUID loanId = UUID.randomUUID();
+        when(loanViewService.find(loanId)).thenReturn(Optional.of(new LoanResponseDto()));
+
+        loanService.getLoanById(loanId);
+        assertThrows(LoanNotFoundException.class, () -> loanService.getLoanById(UUID.randomUUID()));
+
+        assertThat(meterRegistry.get("rubalv.loan.lookup").tag("exception", "none").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("rubalv.loan.lookup").tag("exception", "LoanNotFoundException").timer().count()).isEqualTo(1);
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        TimedAspect timedAspect(MeterRegistry meterRegistry) {
+            return new TimedAspect(meterRegistry);
+        }
+    }
+}
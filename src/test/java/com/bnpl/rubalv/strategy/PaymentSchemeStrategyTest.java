@@ -43,6 +43,17 @@ public class PaymentSchemeStrategyTest {
         assertThat(result).isEqualTo(PaymentScheme.SCHEME_2);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "Carlos, 10, SCHEME_1",
+            "Lucia, 30, SCHEME_1",
+            "Alice, 10, SCHEME_2"
+    })
+    void determinePaymentSchema_NameAndSequentialId_MatchesCustomerRules(String firstName, long sequentialId,
+                                                                          PaymentScheme expected) {
+        assertThat(strategy.determinePaymentSchema(firstName, sequentialId)).isEqualTo(expected);
+    }
+
     @Test
     public void determinePaymentSchema_NullCustomer_ThrowsException() {
         assertThrows(NullPointerException.class, () -> {
@@ -2,13 +2,19 @@ package com.bnpl.rubalv.utils.helper;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.bnpl.rubalv.config.ScheduleProperties;
+import com.bnpl.rubalv.enums.Cadence;
 import com.bnpl.rubalv.enums.PaymentScheme;
 import com.bnpl.rubalv.utils.helpers.DateHelper;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class DateHelperTest {
     private final DateHelper dateHelper = new DateHelper();
@@ -72,4 +78,36 @@ public class DateHelperTest {
         assertThrows(NullPointerException.class, () -> dateHelper.generatePaymentSchedule(startDate, null));
     }
 
+    @Test
+    void testGeneratePaymentSchedule_StartingToday_ReturnsSharedImmutableTemplate() {
+        LocalDate today = LocalDate.now();
+        List<LocalDate> schedule = dateHelper.generatePaymentSchedule(today, PaymentScheme.SCHEME_1);
+
+        assertThat(dateHelper.generatePaymentSchedule(today, PaymentScheme.SCHEME_1)).isSameAs(schedule);
+        assertThat(schedule).containsExactly(today.plusWeeks(2), today.plusWeeks(4), today.plusWeeks(6),
+                today.plusWeeks(8), today.plusWeeks(10));
+        assertThrows(UnsupportedOperationException.class, () -> schedule.set(0, today));
+    }
+
+    @Test
+    void testCadence_Monthly_KeepsDayOfMonth() {
+        LocalDate startDate = LocalDate.of(2024, 1, 31);
+
+        assertThat(Cadence.MONTHLY.dueDate(startDate, 1)).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(Cadence.MONTHLY.dueDate(startDate, 2)).isEqualTo(LocalDate.of(2024, 3, 31));
+        assertThat(Cadence.WEEKLY.dueDate(startDate, 2)).isEqualTo(LocalDate.of(2024, 2, 14));
+    }
+
+    @Test
+    void testNextBusinessDay_SkipsWeekendsAndHolidays(@TempDir Path directory) throws IOException {
+        Path holidaysFile = directory.resolve("holidays.txt");
+        Files.writeString(holidaysFile, "# Mexico\n2024-02-05\n\n2024-03-18\n");
+        ScheduleProperties scheduleProperties = new ScheduleProperties();
+        scheduleProperties.setHolidaysFile(holidaysFile.toString());
+        DateHelper calendarDateHelper = new DateHelper(scheduleProperties);
+
+        assertThat(calendarDateHelper.nextBusinessDay(LocalDate.of(2024, 2, 3))).isEqualTo(LocalDate.of(2024, 2, 6));
+        assertThat(calendarDateHelper.nextBusinessDay(LocalDate.of(2024, 3, 18))).isEqualTo(LocalDate.of(2024, 3, 19));
+        assertThat(calendarDateHelper.nextBusinessDay(LocalDate.of(2024, 3, 20))).isEqualTo(LocalDate.of(2024, 3, 20));
+    }
 }
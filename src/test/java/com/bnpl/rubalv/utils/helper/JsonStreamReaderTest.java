@@ -0,0 +1,63 @@
+package com.bnpl.rubalv.utils.helper;
+
+import com.bnpl.rubalv.utils.helpers.JsonStreamReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonStreamReaderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldReadArrayItems() throws IOException {
+        assertThat(readAll("[{\"n\":1},{\"n\":2}]"))
+                .extracting(node -> node.get("n").asInt())
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldReadNdjsonItems() throws IOException {
+        assertThat(readAll("{\"n\":1}\n{\"n\":2}\n\n{\"n\":3}\n"))
+                .extracting(node -> node.get("n").asInt())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldReturnNothingForEmptyInput() throws IOException {
+        assertThat(readAll("")).isEmpty();
+        assertThat(readAll("[]")).isEmpty();
+    }
+
+    @Test
+    void shouldFailOnMalformedItem() throws IOException {
+        try (JsonStreamReader reader = reader("{\"n\":1}\n{\"n\":")) {
+            assertThat(reader.next()).isNotNull();
+            assertThrows(JsonProcessingException.class, reader::next);
+        }
+    }
+
+    private List<JsonNode> readAll(String content) throws IOException {
+        List<JsonNode> nodes = new ArrayList<>();
+        try (JsonStreamReader reader = reader(content)) {
+            JsonNode node;
+            while ((node = reader.next()) != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    private JsonStreamReader reader(String content) throws IOException {
+        return new JsonStreamReader(objectMapper, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
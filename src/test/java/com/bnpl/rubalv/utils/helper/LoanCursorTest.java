@@ -0,0 +1,44 @@
+package com.bnpl.rubalv.utils.helper;
+
+import com.bnpl.rubalv.utils.helpers.LoanCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoanCursorTest {
+    @Test
+    void shouldRoundTripThroughEncodedForm() {
+        LoanCursor cursor = new LoanCursor(OffsetDateTime.of(2025, 2, 12, 10, 15, 30, 123_456_000, ZoneOffset.ofHours(-6)), UUID.randomUUID());
+
+        LoanCursor decoded = LoanCursor.decode(cursor.encode());
+
+        assertThat(decoded.createdAt()).isEqualTo(cursor.createdAt().toInstant().atOffset(ZoneOffset.UTC));
+        assertThat(decoded.createdAt().toInstant()).isEqualTo(cursor.createdAt().toInstant());
+        assertThat(decoded.id()).isEqualTo(cursor.id());
+    }
+
+    @Test
+    void shouldBeUrlSafe() {
+        String encoded = new LoanCursor(OffsetDateTime.now(), UUID.randomUUID()).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void shouldStartFromFirstPageWithoutCursor() {
+        assertThat(LoanCursor.decode(null)).isEqualTo(LoanCursor.FIRST);
+        assertThat(LoanCursor.decode("")).isEqualTo(LoanCursor.FIRST);
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> LoanCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> LoanCursor.decode("bm90LWEtY3Vyc29y"));
+        assertThrows(IllegalArgumentException.class, () -> LoanCursor.decode("MjAyNS0wMi0xMnxub3QtYS11dWlk"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.bnpl.rubalv.utils.helper;
+
+import com.bnpl.rubalv.enums.PaymentScheme;
+import com.bnpl.rubalv.utils.helpers.MoneyHelper;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MoneyHelperTest {
+
+    @Property
+    void commissionMatchesBigDecimalPath(@ForAll @LongRange(min = 1, max = 100_000_000_000L) long amount,
+                                         @ForAll PaymentScheme scheme) {
+        BigDecimal legacyCommission = MoneyHelper.fromMinorUnits(amount)
+                .multiply(scheme.getInterestRate())
+                .setScale(2, RoundingMode.HALF_UP);
+
+        long commission = MoneyHelper.applyRate(amount, scheme.getInterestRateBasisPoints());
+
+        assertThat(MoneyHelper.fromMinorUnits(commission)).isEqualTo(legacyCommission);
+        assertThat(MoneyHelper.fromMinorUnits(amount + commission))
+                .isEqualTo(MoneyHelper.fromMinorUnits(amount).add(legacyCommission));
+    }
+
+    @Property
+    void applyRateRoundsHalfUp(@ForAll @LongRange(min = -1_000_000_000L, max = 1_000_000_000L) long amount,
+                               @ForAll @IntRange(min = 0, max = 100_000) int basisPoints) {
+        BigDecimal expected = BigDecimal.valueOf(amount)
+                .multiply(BigDecimal.valueOf(basisPoints, MoneyHelper.BASIS_POINTS_SCALE))
+                .setScale(0, RoundingMode.HALF_UP);
+
+        assertThat(MoneyHelper.applyRate(amount, basisPoints)).isEqualTo(expected.longValueExact());
+    }
+
+    @Property
+    void installmentsSumExactlyToTotal(@ForAll @LongRange(min = 0, max = 100_000_000_000L) long total,
+                                       @ForAll @IntRange(min = 1, max = 24) int parts) {
+        BigDecimal legacyInstallment = MoneyHelper.fromMinorUnits(total)
+                .divide(BigDecimal.valueOf(parts), 2, RoundingMode.HALF_UP);
+        long legacyMinorUnits = MoneyHelper.toMinorUnits(legacyInstallment);
+
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < parts; i++) {
+            long share = MoneyHelper.share(total, parts, i);
+            assertThat(Math.abs(share - legacyMinorUnits)).isLessThanOrEqualTo(1);
+            sum += share;
+            min = Math.min(min, share);
+            max = Math.max(max, share);
+        }
+
+        assertThat(sum).isEqualTo(total);
+        assertThat(max - min).isLessThanOrEqualTo(1);
+    }
+
+    @Property
+    void minorUnitsRoundTrip(@ForAll @LongRange(min = -100_000_000_000L, max = 100_000_000_000L) long minorUnits) {
+        assertThat(MoneyHelper.toMinorUnits(MoneyHelper.fromMinorUnits(minorUnits))).isEqualTo(minorUnits);
+    }
+
+    @Example
+    void legacyDivisionDriftsWhileSharesDoNot() {
+        long total = 113_003L;
+
+        BigDecimal legacyInstallment = MoneyHelper.fromMinorUnits(total)
+                .divide(BigDecimal.valueOf(5), 2, RoundingMode.HALF_UP);
+
+        assertThat(legacyInstallment.multiply(BigDecimal.valueOf(5))).isNotEqualByComparingTo("1130.03");
+        assertThat(MoneyHelper.share(total, 5, 0)).isEqualTo(22_601L);
+        assertThat(MoneyHelper.share(total, 5, 2)).isEqualTo(22_601L);
+        assertThat(MoneyHelper.share(total, 5, 3)).isEqualTo(22_600L);
+    }
+
+    @Example
+    void toMinorUnitsRoundsHalfUp() {
+        assertThat(MoneyHelper.toMinorUnits(new BigDecimal("10.005"))).isEqualTo(1_001L);
+        assertThat(MoneyHelper.toMinorUnits(new BigDecimal("10.004"))).isEqualTo(1_000L);
+        assertThat(MoneyHelper.toMinorUnits(BigDecimal.valueOf(1000))).isEqualTo(100_000L);
+    }
+
+    @Example
+    void applyRateRejectsOverflow() {
+        assertThatThrownBy(() -> MoneyHelper.applyRate(Long.MAX_VALUE, PaymentScheme.SCHEME_1.getInterestRateBasisPoints()))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Example
+    void schemeRatesMatchBasisPoints() {
+        assertThat(PaymentScheme.SCHEME_1.getInterestRate()).isEqualTo(new BigDecimal("0.13"));
+        assertThat(PaymentScheme.SCHEME_2.getInterestRate()).isEqualTo(new BigDecimal("0.16"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.bnpl.rubalv.utils.helper;
+
+import com.bnpl.rubalv.utils.helpers.UuidV7;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UuidV7Test {
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    @Test
+    void next_SetsVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampMillis(uuid)).isBetween(before, after + 1);
+    }
+
+    @Test
+    void next_WithinOneMillisecond_DrawsFreshRandomBits() {
+        UUID first = UuidV7.next();
+        UUID second = UuidV7.next();
+        while (UuidV7.timestampMillis(second) != UuidV7.timestampMillis(first)) {
+            first = second;
+            second = UuidV7.next();
+        }
+
+        // same millisecond, so only the counter orders them; the random field must still be drawn anew
+        assertThat(second.getMostSignificantBits() & 0xFFF).isGreaterThan(first.getMostSignificantBits() & 0xFFF);
+        assertThat(second.getLeastSignificantBits() & RANDOM_MASK).isNotEqualTo(first.getLeastSignificantBits() & RANDOM_MASK);
+    }
+
+    @Test
+    void next_WithinOneThread_IsStrictlyIncreasing() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            assertThat(next.toString()).isGreaterThan(previous.toString());
+            previous = next;
+        }
+    }
+
+    @Test
+    void next_AcrossThreads_IsUniqueAndOrderedPerThread() throws Exception {
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Collection<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>();
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(UuidV7.next());
+                    }
+                    generated.addAll(ids);
+                    return ids.stream().map(UUID::toString).sorted().toList()
+                            .equals(ids.stream().map(UUID::toString).toList());
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(generated).hasSize(8 * 20_000);
+    }
+}